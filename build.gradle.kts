@@ -22,6 +22,21 @@ checkerFramework {
     )
 }
 
+// Build tools that run against the compiled classes, but are not part of the library.
+sourceSets {
+    create("selectorVerifier") {
+        compileClasspath += sourceSets["main"].output
+        runtimeClasspath += sourceSets["main"].output
+    }
+}
+
+val selectorVerifierImplementation by configurations.getting {
+    extendsFrom(configurations.implementation.get())
+}
+val selectorVerifierCompileOnly by configurations.getting {
+    extendsFrom(configurations.compileOnly.get())
+}
+
 dependencies {
     testImplementation("org.testng:testng:7.11.+")
     implementation("org.seleniumhq.selenium:selenium-java:4.+")
@@ -33,8 +48,43 @@ dependencies {
 
 tasks.test {
     useTestNG()
+    // Benchmarks only log their measurements, and are run by the benchmark task.
+    exclude("**/*Benchmark.class")
+}
+
+// Runs the benchmark suite. The measurements are logged, and are not compared against any threshold.
+val benchmark by tasks.registering(Test::class) {
+    group = "verification"
+    description = "Runs the benchmarks and logs their measurements."
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useTestNG {
+        suites("src/test/resources/testng/run-benchmark.xml")
+    }
 }
 
 tasks.javadoc {
     options.overview = "src/main/javadoc/overview.html"
-}
\ No newline at end of file
+}
+
+// Compiles the selector constants of the test pages and components, so that invalid selectors fail the build.
+// The verifier throws when a selector is invalid, which fails the task with a nonzero exit value.
+val verifySelectors by tasks.registering(JavaExec::class) {
+    group = "verification"
+    description = "Compiles selector constants of page and component classes."
+    val logDirectory = layout.buildDirectory.dir("selentic/log").get().asFile
+
+    classpath = sourceSets["selectorVerifier"].runtimeClasspath + sourceSets["test"].runtimeClasspath
+    mainClass.set("org.emw.selentic.lib.selector.ScSelectorVerifier")
+    // Page classes that declare selectors log when initialized. Keep that log out of the configured log directory.
+    systemProperty("log.root-dir", logDirectory.path)
+    doFirst {
+        logDirectory.mkdirs()
+    }
+    args(layout.buildDirectory.file("selentic/selectors.txt").get().asFile.path,
+         *sourceSets["test"].output.classesDirs.files.map { it.path }.toTypedArray())
+}
+
+tasks.check {
+    dependsOn(verifySelectors)
+}
@@ -6,13 +6,21 @@ import org.emw.selentic.lib.config.SelenticConfig;
 import org.emw.selentic.lib.exception.ScComponentCreationException;
 import org.emw.selentic.lib.exception.ScComponentWaitException;
 import org.emw.selentic.lib.exception.ScElementNotFoundException;
+import org.emw.selentic.lib.exception.ScWaitTimeoutException;
 import org.emw.selentic.lib.selector.ScSelector;
 import org.emw.selentic.lib.selector.ScSelectorPropertyContainer;
 import org.emw.selentic.lib.util.ScLogHandler;
 import org.emw.selentic.lib.util.ScWait;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
 /**
  * {@code ScAbstractComponent} is the abstract base class for all components and pages.
  * It provides a comprehensive methods for creating, locating, and interacting with UI components through a
@@ -48,6 +56,11 @@ import org.slf4j.Logger;
 public abstract class ScAbstractComponent extends ScSelectorPropertyContainer {
     private static final Logger LOG = ScLogHandler.logger(ScAbstractComponent.class);
 
+    /**
+     * Child components and collections created by this component, when {@link #memoizesChildComponents()} is true.
+     */
+    private @Nullable Map<ScChildKey, Object> childComponents;
+
     protected enum ScWaitCondition {
         ToExist, ToBeDisplayed, ToBeEnabled, ToBeDisabled, ToBeHidden, ToNotExist, ToStopAnimating;
     }
@@ -71,6 +84,57 @@ public abstract class ScAbstractComponent extends ScSelectorPropertyContainer {
         return SelenticConfig.config().waitTimeoutMilliseconds();
     }
 
+    /**
+     * Returns true if the child components of this component are memoized.
+     *
+     * <p>
+     * By default, each call to an accessor such as {@code productNameText()} creates a new component, which looks up
+     * its element and verifies its rules again. When this method returns true, {@code $component} and
+     * {@code $$components} return the same instance for the same selector, type and containing object, and a child
+     * component keeps the element it found until the element becomes stale. The memoized children are discarded when
+     * the element of this component becomes stale, or when entering the page again.
+     *
+     * <p>
+     * Override this method to return true in components or pages whose accessors are called repeatedly, such as table
+     * rows.
+     *
+     * @return true if child components are memoized; false by default
+     */
+    protected boolean memoizesChildComponents() {
+        return false;
+    }
+
+    /**
+     * Returns the memoized child for the key, creating it if needed, or creates a new child if child components are
+     * not memoized.
+     */
+    private <C> C childComponent(@NonNull ScChildKey key, @NonNull Supplier<C> factory) {
+        if (!this.memoizesChildComponents()) {
+            return factory.get();
+        }
+
+        Map<ScChildKey, Object> children = this.childComponents;
+
+        if (children == null) {
+            children = new ConcurrentHashMap<>();
+            this.childComponents = children;
+        }
+
+        @SuppressWarnings("unchecked")
+        final C child = (C) children.computeIfAbsent(key, k -> factory.get());
+
+        return child;
+    }
+
+    /**
+     * Discards the memoized child components.
+     *
+     * @see #memoizesChildComponents()
+     */
+    final void clearChildComponents() {
+        this.childComponents = null;
+    }
+
     /**
      * Waits for the given component to meet the condition.
      *
@@ -112,6 +176,119 @@ public abstract class ScAbstractComponent extends ScSelectorPropertyContainer {
         }
     }
 
+    /**
+     * Waits for all the given components to meet the condition.
+     *
+     * <p>
+     * This is equivalent to calling {@link #waitForComponent(ScComponent, ScWaitCondition)} for each component, but
+     * the states of all components are checked together with a single script execution per poll. This is useful
+     * when a page or dialog is ready only after several components are in place.
+     *
+     * <p>
+     * <strong>Example:</strong>
+     * <pre>{@code
+     * @Override
+     * protected void waitForDisplayedPage() {
+     *     waitForAll(ScWaitCondition.ToBeDisplayed, titleText(), okButton(), cancelButton());
+     *     waitForComponent(spinner(), ScWaitCondition.ToNotExist);
+     * }
+     * }</pre>
+     *
+     * @param waitCondition the condition every component must meet
+     * @param components components to wait for
+     * @throws ScComponentWaitException if any of the components does not meet the condition within the timeout period
+     */
+    protected final void waitForAll(@NonNull ScWaitCondition waitCondition, @NonNull ScComponent... components) {
+        final List<ScComponent> componentList = List.of(components);
+
+        ScWait.waitUntil(waitTimeout(), () -> {
+            for (boolean met : ScComponentStateProbe.evaluate(waitCondition, componentList)) {
+                if (!met) {
+                    return false;
+                }
+            }
+            return true;
+        }, ex -> new ScComponentWaitException("Not all components meet the condition '%s'.".formatted(waitCondition), ex));
+    }
+
+    /**
+     * Waits for any of the given components to meet the condition, and returns the first one that does.
+     *
+     * <p>
+     * The states of all components are checked together with a single script execution per poll. This is useful
+     * when an action can lead to different outcomes, such as a success message or an error message.
+     *
+     * <p>
+     * <strong>Example:</strong>
+     * <pre>{@code
+     * final ScComponent result = waitForAny(ScWaitCondition.ToBeDisplayed, successMessage(), errorMessage());
+     * }</pre>
+     *
+     * @param waitCondition the condition to be met by one of the components
+     * @param components components to wait for
+     * @return the first component, in the given order, that meets the condition
+     * @throws ScComponentWaitException if none of the components meets the condition within the timeout period
+     */
+    protected final @NonNull ScComponent waitForAny(@NonNull ScWaitCondition waitCondition, @NonNull ScComponent... components) {
+        final List<ScComponent> componentList = List.of(components);
+
+        try {
+            return ScWait.waitUntilNonNull(waitTimeout(), () -> {
+                final boolean[] met = ScComponentStateProbe.evaluate(waitCondition, componentList);
+
+                for (int i = 0; i < met.length; i++) {
+                    if (met[i]) {
+                        return componentList.get(i);
+                    }
+                }
+                return null;
+            });
+        } catch (ScWaitTimeoutException ex) {
+            throw new ScComponentWaitException("None of the components meets the condition '%s'.".formatted(waitCondition), ex);
+        }
+    }
+
+    /**
+     * Resolves the elements of the given components with a single script execution.
+     *
+     * <p>
+     * Components that share a selector prefix, such as the fields of the same form, resolve the prefix once
+     * (see {@link ScBatchResolver}). Each component then uses its resolved element instead of looking it up, until
+     * the element becomes stale. Components whose element does not exist yet are looked up as usual when used.
+     *
+     * <p>
+     * <strong>Example:</strong>
+     * <pre>{@code
+     * final ScTextbox firstName = firstNameTextbox();
+     * final ScTextbox lastName = lastNameTextbox();
+     * final ScTextbox email = emailTextbox();
+     *
+     * resolveAll(firstName, lastName, email);
+     * firstName.enterText("Jane");
+     * lastName.enterText("Doe");
+     * email.enterText("jane.doe@example.com");
+     * }</pre>
+     *
+     * @param components components to resolve
+     */
+    protected final void resolveAll(@NonNull ScComponent... components) {
+        final List<List<Object>> chains = new ArrayList<>(components.length);
+
+        for (ScComponent component : components) {
+            chains.add(component.locatorChain());
+        }
+
+        final List<@Nullable WebElement> elements = ScBatchResolver.resolve(chains);
+
+        for (int i = 0; i < components.length; i++) {
+            final WebElement element = elements.get(i);
+
+            if (element != null) {
+                components[i].setResolvedElement(element);
+            }
+        }
+    }
+
     /**
      * Creates a generic component with the specified selector.
      *
@@ -350,7 +527,7 @@ public abstract class ScAbstractComponent extends ScSelectorPropertyContainer {
      * <p>
      * This method is the primary factory method for creating component instances. It:
      * <ul>
-     *   <li>Instantiates the component class via reflection</li>
+     *   <li>Instantiates the component class with its cached constructor (see {@link ScInstanceFactory})</li>
      *   <li>Sets the selector on the component</li>
      *   <li>Establishes the parent-child relationship (caller component and owner page)</li>
      *   <li>Handles any instantiation errors by throwing {@link ScComponentCreationException}</li>
@@ -388,7 +565,7 @@ public abstract class ScAbstractComponent extends ScSelectorPropertyContainer {
      * <p>
      * This method creates a component that may be an inner class of a containing object. It:
      * <ul>
-     *   <li>Instantiates the component class via reflection, passing the containing object if provided</li>
+     *   <li>Instantiates the component class with its cached constructor, passing the containing object if provided</li>
      *   <li>Sets the selector on the component</li>
      *   <li>Handles any instantiation errors by throwing {@link ScComponentCreationException}</li>
      * </ul>
@@ -409,10 +586,17 @@ public abstract class ScAbstractComponent extends ScSelectorPropertyContainer {
      * @see #$component(ScSelector, Class)
      */
     protected <T extends ScComponent> T $component(@NonNull ScSelector selector, @NonNull Class<T> componentType, @Nullable ScAbstractComponent containingObject) {
+        return childComponent(new ScChildKey(selector, componentType, null, containingObject), () -> newComponent(selector, componentType, containingObject));
+    }
+
+    /**
+     * Creates a new component instance.
+     */
+    private <T extends ScComponent> T newComponent(@NonNull ScSelector selector, @NonNull Class<T> componentType, @Nullable ScAbstractComponent containingObject) {
         try {
             T $component;
 
-            $component = containingObject == null ? componentType.getDeclaredConstructor().newInstance() : componentType.getDeclaredConstructor(containingObject.getClass()).newInstance(containingObject);
+            $component = containingObject == null ? ScInstanceFactory.of(componentType).newInstance() : ScInstanceFactory.of(componentType).newInstance(containingObject);
             $component.setSelector(selector);
             $component.setCallerComponent(this);
             return $component;
@@ -460,13 +644,15 @@ public abstract class ScAbstractComponent extends ScSelectorPropertyContainer {
      * @see #$$components(ScSelector, Class, Class)
      */
     protected <T extends ScComponent> ScComponentCollection<T> $$components(@NonNull ScSelector selector, @NonNull Class<T> componentType) {
-        ScComponentCollection<T> $$components = new ScComponentCollection<>();
+        return childComponent(new ScChildKey(selector, ScComponentCollection.class, componentType, null), () -> {
+            ScComponentCollection<T> $$components = new ScComponentCollection<>();
 
-        $$components.setSelector(selector);
-        $$components.setComponentType(componentType);
-        $$components.setCallerComponent(this);
+            $$components.setSelector(selector);
+            $$components.setComponentType(componentType);
+            $$components.setCallerComponent(this);
 
-        return $$components;
+            return $$components;
+        });
     }
 
     /**
@@ -504,14 +690,16 @@ public abstract class ScAbstractComponent extends ScSelectorPropertyContainer {
      * @see #$$components(ScSelector, Class, Class)
      */
     protected <T extends ScComponent> ScComponentCollection<T> $$components(@NonNull ScSelector selector, @NonNull Class<T> componentType, ScAbstractComponent containingObject) {
-        ScComponentCollection<T> $$components = new ScComponentCollection<>();
+        return childComponent(new ScChildKey(selector, ScComponentCollection.class, componentType, containingObject), () -> {
+            ScComponentCollection<T> $$components = new ScComponentCollection<>();
 
-        $$components.setSelector(selector);
-        $$components.setComponentType(componentType);
-        $$components.setContainingObject(containingObject);
-        $$components.setCallerComponent(this);
+            $$components.setSelector(selector);
+            $$components.setComponentType(componentType);
+            $$components.setContainingObject(containingObject);
+            $$components.setCallerComponent(this);
 
-        return $$components;
+            return $$components;
+        });
     }
 
     /**
@@ -521,7 +709,7 @@ public abstract class ScAbstractComponent extends ScSelectorPropertyContainer {
      * This method allows you to specify a custom {@link ScComponentCollection} subclass to manage
      * components. It:
      * <ul>
-     *   <li>Instantiates the custom collection class via reflection</li>
+     *   <li>Instantiates the custom collection class with its cached constructor</li>
      *   <li>Configures the selector and component type</li>
      *   <li>Handles instantiation errors by throwing {@link ScComponentCreationException}</li>
      * </ul>
@@ -556,10 +744,17 @@ public abstract class ScAbstractComponent extends ScSelectorPropertyContainer {
      * @see #$$components(ScSelector, Class, ScAbstractComponent)
      */
     protected <T extends ScComponent, R extends ScComponentCollection<T>> R $$components(@NonNull ScSelector selector, @NonNull Class<T> componentType, @NonNull Class<R> componentCollectionType) {
+        return childComponent(new ScChildKey(selector, componentCollectionType, componentType, null), () -> newComponents(selector, componentType, componentCollectionType));
+    }
+
+    /**
+     * Creates a new collection instance of the custom collection type.
+     */
+    private <T extends ScComponent, R extends ScComponentCollection<T>> R newComponents(@NonNull ScSelector selector, @NonNull Class<T> componentType, @NonNull Class<R> componentCollectionType) {
         try {
             R $$components;
 
-            $$components = componentCollectionType.getDeclaredConstructor().newInstance();
+            $$components = ScInstanceFactory.of(componentCollectionType).newInstance();
             $$components.setSelector(selector);
             $$components.setComponentType(componentType);
             $$components.setCallerComponent(this);
@@ -652,9 +847,9 @@ public abstract class ScAbstractComponent extends ScSelectorPropertyContainer {
 
         try {
             if (containingObject == null) {
-                $frameContent = frameContentType.getDeclaredConstructor().newInstance();
+                $frameContent = ScInstanceFactory.of(frameContentType).newInstance();
             } else {
-                $frameContent = frameContentType.getDeclaredConstructor(containingObject.getClass()).newInstance(containingObject);
+                $frameContent = ScInstanceFactory.of(frameContentType).newInstance(containingObject);
             }
         } catch (Exception ex) {
             throw new ScComponentCreationException(ex);
@@ -671,6 +866,51 @@ public abstract class ScAbstractComponent extends ScSelectorPropertyContainer {
         }
     }
 
+    /**
+     * Returns the text of an element inside a frame, without switching to the frame when possible.
+     *
+     * <p>
+     * For a same-origin frame whose content is loaded, the frame and the element are resolved, and the text is read,
+     * with a single script execution (see {@link ScFrameReader}). Otherwise, for example for a cross-origin frame or
+     * an element that does not exist yet, the text is read by switching to the frame as
+     * {@link #$frame(ScSelector, Class, ScFrameAction)} does. Either way, the text is the trimmed rendered text of
+     * the element.
+     *
+     * <p>
+     * Use this to read a single value from a frame. Interacting with the frame content still requires
+     * {@link #$frame(ScSelector, Class, ScFrameAction)}.
+     *
+     * <p>
+     * <strong>Usage Example:</strong>
+     * <pre>{@code
+     * private static final ScCssSelector IFRAME = _cssSelector.descendant(_id("embedded-content"));
+     * private static final ScCssSelector EMBEDDED_STATUS_TEXT = _cssSelector.descendant(_id("status"));
+     *
+     * public String embeddedStatusText() {
+     *     return $frameText(IFRAME, EMBEDDED_STATUS_TEXT);
+     * }
+     * }</pre>
+     *
+     * @param frameSelector the {@link ScSelector} for locating the frame element
+     * @param selector the {@link ScSelector} for locating the element inside the frame document
+     * @return the text of the element
+     * @throws ScElementNotFoundException if the frame or the element cannot be found
+     *
+     * @see #$frame(ScSelector, Class, ScFrameAction)
+     */
+    protected @NonNull String $frameText(@NonNull ScSelector frameSelector, @NonNull ScSelector selector) {
+        final String text = ScFrameReader.readText(this.$component(frameSelector, ScFrame.class), selector);
+
+        if (text != null) {
+            return text;
+        }
+
+        final String[] switchedText = new String[1];
+
+        $frame(frameSelector, ScFrameReader.ScAnyFrameContent.class, frameContent -> switchedText[0] = frameContent.text(selector));
+        return switchedText[0];
+    }
+
     /**
      * Handles dialog component interaction with automatic display and visibility verification.
      *
@@ -757,4 +997,15 @@ public abstract class ScAbstractComponent extends ScSelectorPropertyContainer {
         $dialog.waitForHiddenDialog();
         LOG.debug("Close dialog: {}", $dialog.getClass().getSimpleName());
     }
-}
\ No newline at end of file
+
+    /**
+     * Identifies a child component or collection created by a component.
+     *
+     * @param selector selector of the child
+     * @param type class of the component or collection
+     * @param componentType class of the components in the collection; null for a single component
+     * @param containingObject object containing the class if it is an inner class; null otherwise
+     */
+    private record ScChildKey(@NonNull ScSelector selector, @NonNull Class<?> type, @Nullable Class<?> componentType, @Nullable Object containingObject) {
+    }
+}
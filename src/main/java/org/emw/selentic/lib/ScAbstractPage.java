@@ -1,14 +1,27 @@
 package org.emw.selentic.lib;
 
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.emw.selentic.lib.config.SelenticConfig;
 import org.emw.selentic.lib.exception.ScUnexpectedPageException;
 import org.emw.selentic.lib.exception.ScWaitTimeoutException;
+import org.emw.selentic.lib.selector.ScCompiledSelector;
 import org.emw.selentic.lib.selector.ScPageCssSelectorBuilder;
 import org.emw.selentic.lib.selector.ScPageXPathBuilder;
+import org.emw.selentic.lib.selector.ScSelector;
 import org.emw.selentic.lib.util.ScLogHandler;
 import org.emw.selentic.lib.util.ScNullCheck;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 
-import static org.emw.selentic.lib.util.ScWait.waitUntil;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static org.emw.selentic.lib.util.ScWait.waitUntilNonNull;
 
 /**
  * {@code ScAbstractPage} is the abstract base class for all page classes.
@@ -21,6 +34,11 @@ import static org.emw.selentic.lib.util.ScWait.waitUntil;
 public abstract class ScAbstractPage extends ScAbstractComponent {
     private static final Logger LOGGER = ScLogHandler.logger(ScAbstractPage.class);
 
+    /**
+     * Elements of the selectors declared by this page, resolved when entering the page.
+     */
+    private final Map<ScCompiledSelector, WebElement> warmElements = new ConcurrentHashMap<>();
+
     /**
      * Provides access to the builder which provides methods to build XPath selector objects for page-level elements.
      *
@@ -35,6 +53,81 @@ public abstract class ScAbstractPage extends ScAbstractComponent {
      */
     protected static final ScPageCssSelectorBuilder _cssSelector = new ScPageCssSelectorBuilder();
 
+    /**
+     * Script fragment that defines {@code check()}, which checks all readiness conditions once inside the browser.
+     * The first argument is the readiness options.
+     */
+    private static final String READINESS_CHECK = ScNetworkMonitor.IN_PAGE_REQUEST_TRACKER + """
+            const options = arguments[0];
+
+            if (options.pendingRequests) {
+                installRequestTracker();
+            }
+
+            const pending = () => {
+                const result = [];
+
+                if (document.readyState !== 'complete') {
+                    result.push('readyState=' + document.readyState);
+                }
+                if (options.fonts && document.fonts && document.fonts.status !== 'loaded') {
+                    result.push('fonts');
+                }
+                if (options.pendingRequests && window.__selenticPendingRequests > options.maxInFlight) {
+                    result.push('requests=' + window.__selenticPendingRequests);
+                }
+                if (options.angular && typeof window.getAllAngularTestabilities === 'function'
+                        && !window.getAllAngularTestabilities().every(t => t.isStable())) {
+                    result.push('angular');
+                }
+                if (options.appReadyFlag && window[options.appReadyFlag] !== true) {
+                    result.push(options.appReadyFlag);
+                }
+                return result;
+            };
+
+            const check = () => {
+                let result;
+
+                try {
+                    result = pending();
+                } catch (e) {
+                    result = ['error: ' + e];
+                }
+                return { ready: result.length === 0, url: location.href, pending: result.join(', ') };
+            };
+            """;
+
+    /**
+     * Asynchronous script that checks all readiness conditions inside the browser.
+     * Arguments are the readiness options, the maximum time to keep polling, and the callback.
+     */
+    private static final String READINESS_PROBE = READINESS_CHECK + """
+            const timeout = arguments[1];
+            const callback = arguments[arguments.length - 1];
+            const started = Date.now();
+
+            const poll = () => {
+                const state = check();
+
+                if (state.ready || Date.now() - started >= timeout) {
+                    callback(state);
+                } else {
+                    setTimeout(poll, 25);
+                }
+            };
+
+            poll();
+            """;
+
+    /**
+     * Script that checks all readiness conditions once, used while virtual time is paused, since the timers that
+     * {@link #READINESS_PROBE} polls with do not run then. The argument is the readiness options.
+     */
+    private static final String READINESS_CHECK_ONCE = READINESS_CHECK + """
+            return check();
+            """;
+
     /**
      * Waits for a specific component to be displayed on the page.
      *
@@ -65,27 +158,167 @@ public abstract class ScAbstractPage extends ScAbstractComponent {
 
     /**
      * Waits for the page to be fully loaded and ready for interaction.
+     * <p>
+     * The readiness conditions are checked by a single asynchronous probe script that keeps polling inside the browser
+     * until every condition enabled in {@link #readinessOptions()} is met, so entering a page normally costs one round
+     * trip. If the page enables {@link ScPageReadinessOptions#pendingRequests(boolean)}, for Chrome and Edge, pending
+     * network requests are tracked through DevTools instead of inside the page
+     * (see {@link Selentic#waitForNetworkIdle(long, int)}). If the document is replaced while the probe is running
+     * (e.g., navigation is still in progress), the probe is started again on the new document until the wait timeout
+     * is reached.
+     * While virtual time is paused (see {@link Selentic#pauseVirtualTime()}), timers in the page do not run, so the
+     * conditions are checked once per poll from here instead.
+     * <p>
+     * The script timeout of the session is raised only while the probe runs, and only if it is shorter than the wait
+     * timeout. When pending requests are tracked inside the page (browsers other than Chrome and Edge), the tracker is
+     * installed by the first probe in the document, so fetch/XHR requests started before that are not counted.
      *
      * @throws ScUnexpectedPageException if an error occurs while waiting for the page to load,
      *                                    or if the page does not load within the timeout period
      */
     final void waitForPage() {
         try {
-            waitUntil(() -> {
-                final String readyState = String.valueOf(Selentic.executeScript("return document.readyState"));
+            final WebDriver driver = Selentic.driver();
+            final ScPageReadinessOptions options = this.readinessOptions();
+            final ScNetworkMonitor networkMonitor = options.isPendingRequests() ? Selentic.networkMonitor() : null;
+            final Map<String, Object> argument = options.toScriptArgument(networkMonitor == null);
+            final long timeout = this.waitTimeout();
+            final long deadline = System.currentTimeMillis() + timeout;
+
+            final Map<?, ?> result;
 
-                return readyState != null && readyState.equals("complete");
-            });
+            if (Selentic.isVirtualTimePaused()) {
+                // Timers in the page do not run, so the conditions are polled from here.
+                result = waitUntilNonNull(timeout, () -> readyState(options, () -> ((JavascriptExecutor) driver).executeScript(READINESS_CHECK_ONCE, argument)));
+            } else {
+                result = Selentic.withScriptTimeout(timeout, () -> waitUntilNonNull(timeout, () -> readyState(options, () -> {
+                    final long remaining = Math.max(deadline - System.currentTimeMillis(), 0);
+
+                    return ((JavascriptExecutor) driver).executeAsyncScript(READINESS_PROBE, argument, remaining);
+                })));
+            }
+            if (networkMonitor != null) {
+                networkMonitor.waitForIdle(options.networkQuietMilliseconds(), options.maxInFlight(), Math.max(deadline - System.currentTimeMillis(), 0));
+            }
+            if (Selentic.isAnimationScriptPerPage()) {
+                Selentic.executeScript(ScAnimationAccelerator.SCRIPT);
+            }
             this.waitForDisplayedPage();
-            LOGGER.debug("Page URL: {}", ScNullCheck.requiresNonNull(Selentic.driver().getCurrentUrl()));
+            LOGGER.debug("Page URL: {}", result.get("url"));
         } catch (Throwable th) {
             throw new ScUnexpectedPageException(ScNullCheck.requiresNonNull(this.getClass().getCanonicalName()), th);
         }
     }
 
+    /**
+     * Runs the readiness script and returns its result if the page is ready.
+     *
+     * @param options readiness options, for logging
+     * @param script runs the readiness script and returns its result
+     * @return the result of the script, or null if the page is not ready yet
+     */
+    private static @Nullable Map<?, ?> readyState(@NonNull ScPageReadinessOptions options, @NonNull Supplier<@Nullable Object> script) {
+        try {
+            if (script.get() instanceof Map<?, ?> map) {
+                if (Boolean.TRUE.equals(map.get("ready"))) {
+                    return map;
+                }
+                LOGGER.debug("Page is not ready {}: {}", options, map.get("pending"));
+            }
+            return null;
+        } catch (WebDriverException ex) {
+            // The document may have been unloaded while the probe was running.
+            LOGGER.debug("Readiness probe was interrupted: {}", ex.getClass().getSimpleName());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the options used by {@link #waitForPage()} to decide that the page is ready.
+     * <p>
+     * Can be overridden to enable or disable readiness conditions for the page.
+     * <pre>{@code
+     * @Override
+     * protected ScPageReadinessOptions readinessOptions() {
+     *     return super.readinessOptions().fonts(false).appReadyFlag("__appReady");
+     * }
+     * }</pre>
+     *
+     * @return readiness options for the page
+     * @see ScPageReadinessOptions
+     */
+    protected ScPageReadinessOptions readinessOptions() {
+        return new ScPageReadinessOptions();
+    }
+
     /**
      * Can be overridden to allow additional wait for the page.
      */
     protected void waitForDisplayedPage() {
     }
+
+    /**
+     * Returns true if the selectors declared by this page are resolved in one script when entering the page.
+     *
+     * <p>
+     * Warm-up saves a round trip for each page-level component used right after entering the page, but resolves every
+     * declared selector, including those the test does not use. Override this method to return true in pages whose
+     * components are mostly used on each visit, or false in pages that declare many selectors.
+     *
+     * <pre>{@code
+     * @Override
+     * protected boolean warmsUpOnEntry() {
+     *     return true;
+     * }
+     * }</pre>
+     *
+     * @return true if the page is warmed up; by default, the {@code warm-up-pages} value in {@link SelenticConfig}
+     * @see SelenticConfig#isPageWarmUpEnabled()
+     */
+    protected boolean warmsUpOnEntry() {
+        return SelenticConfig.config().isPageWarmUpEnabled();
+    }
+
+    /**
+     * Resolves the selectors declared by this page in one script, so that the page-level components used right after
+     * entering the page do not look up their elements one by one. Does nothing if {@link #warmsUpOnEntry()} is false.
+     * Memoized child components of a previous visit are discarded either way.
+     *
+     * @see ScPageWarmUp
+     * @see #memoizesChildComponents()
+     */
+    final void warmUp() {
+        this.warmElements.clear();
+        this.clearChildComponents();
+        if (this.warmsUpOnEntry()) {
+            this.warmElements.putAll(ScPageWarmUp.resolve(this));
+        }
+    }
+
+    /**
+     * Discards the elements resolved by {@link #warmUp()}.
+     */
+    final void coolDown() {
+        this.warmElements.clear();
+    }
+
+    /**
+     * Returns the element resolved for the selector by {@link #warmUp()}.
+     *
+     * @param selector selector of a page-level component
+     * @return the element, or null if the selector was not resolved
+     */
+    final @Nullable WebElement warmElement(@NonNull ScSelector selector) {
+        return this.warmElements.get(selector.compile());
+    }
+
+    /**
+     * Discards the element resolved for the selector by {@link #warmUp()}, e.g., when it has become stale.
+     *
+     * @param selector selector of a page-level component
+     * @return true if an element was discarded
+     */
+    final boolean evictWarmElement(@NonNull ScSelector selector) {
+        return this.warmElements.remove(selector.compile()) != null;
+    }
 }
\ No newline at end of file
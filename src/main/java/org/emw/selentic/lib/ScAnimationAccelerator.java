@@ -0,0 +1,96 @@
+package org.emw.selentic.lib;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.emw.selentic.lib.util.ScLogHandler;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+
+import java.util.Map;
+
+/**
+ * Speeds up animations in the browser, so that waiting for components to stop animating does not pay for cosmetic
+ * animation durations.
+ * <p>
+ * When enabled, each document gets a stylesheet that shortens CSS transitions and animations to almost zero, and
+ * animations created through the Web Animations API ({@code element.animate()}) are played at a high playback rate.
+ * Transition and animation events are still fired, so application code waiting for {@code transitionend} or
+ * {@code animationend} keeps working. The browser is also started with {@code prefers-reduced-motion} set to
+ * {@code reduce}.
+ * <p>
+ * For Chrome and Edge the script is registered to run on every new document before any page script. For other
+ * browsers it is executed when a page is entered ({@link ScAbstractPage#waitForPage()}), so animations started
+ * while the page is loading are not accelerated.
+ *
+ * @see Selentic#enableAnimationAcceleration()
+ */
+final class ScAnimationAccelerator {
+    private static final Logger LOG = ScLogHandler.logger(ScAnimationAccelerator.class);
+
+    /**
+     * Playback rate applied to Web Animations. A 2-second animation completes in 20 milliseconds.
+     */
+    private static final int PLAYBACK_RATE = 100;
+
+    /**
+     * Script that accelerates animations in the current document. It is safe to run it more than once.
+     */
+    static final String SCRIPT = """
+            (() => {
+                if (window.__selenticAnimationsAccelerated) {
+                    return;
+                }
+                window.__selenticAnimationsAccelerated = true;
+
+                const style = document.createElement('style');
+
+                style.textContent = `*, *::before, *::after {
+                    transition-duration: 0.01ms !important;
+                    transition-delay: 0s !important;
+                    animation-duration: 0.01ms !important;
+                    animation-delay: 0s !important;
+                    scroll-behavior: auto !important;
+                }`;
+                const addStyle = () => (document.head || document.documentElement).appendChild(style);
+
+                if (document.documentElement) {
+                    addStyle();
+                } else {
+                    document.addEventListener('DOMContentLoaded', addStyle, { once: true });
+                }
+
+                const originalAnimate = Element.prototype.animate;
+
+                Element.prototype.animate = function() {
+                    const animation = originalAnimate.apply(this, arguments);
+
+                    animation.playbackRate = %d;
+                    return animation;
+                };
+                if (document.getAnimations) {
+                    document.getAnimations().forEach(a => a.playbackRate = %d);
+                }
+            })();
+            """.formatted(PLAYBACK_RATE, PLAYBACK_RATE);
+
+    private ScAnimationAccelerator() {
+    }
+
+    /**
+     * Registers the acceleration script to run on every new document, if the browser supports it.
+     *
+     * @param driver web driver before it is decorated with a listener
+     * @return true if the script runs on every new document; false if it must be executed per page
+     */
+    static boolean installOnNewDocument(@NonNull WebDriver driver) {
+        if (driver instanceof HasCdp cdp) {
+            try {
+                cdp.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", Map.of("source", SCRIPT));
+                return true;
+            } catch (RuntimeException ex) {
+                LOG.warn("Could not register animation acceleration for new documents. It is applied per page: {}", ex.getMessage());
+            }
+        }
+        return false;
+    }
+}
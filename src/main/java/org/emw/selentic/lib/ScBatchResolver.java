@@ -0,0 +1,148 @@
+package org.emw.selentic.lib;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.emw.selentic.lib.selector.ScCompiledSelector;
+import org.emw.selentic.lib.selector.ScCssSelector;
+import org.emw.selentic.lib.selector.ScSelector;
+import org.emw.selentic.lib.selector.ScSelectorPropertyType;
+import org.emw.selentic.lib.selector.ScShadowRootBy;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves the elements of several locator chains with a single script execution, evaluating each distinct prefix
+ * once.
+ * <p>
+ * A locator chain ({@link ScComponent#locatorChain()}) has one step per component level, starting from the document.
+ * Chains of components inside the same container start with the same steps, and CSS selectors resolved from the
+ * document are further split into segments ({@link ScCssSelector#segments()}), so that selectors built from the same
+ * prefix share their leading segments. The steps and segments of all chains are arranged in a tree inside the
+ * browser, and each node of the tree is evaluated once. For example, the fields of a 20-field form resolve the form
+ * container once, not 20 times.
+ * <p>
+ * Each component level selects the first matching element inside the element of the previous level, as
+ * {@code findElement} does. Within the segments of a selector, all matching elements are kept, so the result is the
+ * same as evaluating the whole selector at once.
+ *
+ * @see ScAbstractComponent#resolveAll(ScComponent...)
+ * @see ScComponentStateProbe
+ * @see ScPageWarmUp
+ */
+final class ScBatchResolver {
+
+    /**
+     * JavaScript function expression {@code chains => (Element|null)[]} that resolves locator chains. An invalid
+     * selector makes the function throw, so that the caller can fall back to resolving the chains one by one.
+     */
+    static final String RESOLVE_ALL = """
+            chains => {
+                const querySelectorAll = %s;
+                const inDocumentOrder = nodes => [...new Set(nodes)].sort((a, b) =>
+                        a === b ? 0 : a.compareDocumentPosition(b) & Node.DOCUMENT_POSITION_FOLLOWING ? -1 : 1);
+                const first = (context, step) => {
+                    if (step.xpath !== undefined) {
+                        return document.evaluate(step.xpath, context, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+                    }
+                    return step.css.includes('>>>') ? querySelectorAll(context, step.css)[0] || null : context.querySelector(step.css);
+                };
+                const segment = (contexts, text, index) => {
+                    const selector = text.trim();
+
+                    if (selector.startsWith('>>>')) {
+                        return contexts.flatMap(c => c.shadowRoot ? [...c.shadowRoot.querySelectorAll(selector.substring(3))] : []);
+                    }
+                    return contexts.flatMap(c => [...c.querySelectorAll(index === 0 ? text : ':scope' + text)]);
+                };
+                const root = { elements: [document], children: new Map() };
+                const node = (parent, key, evaluate) => {
+                    let child = parent.children.get(key);
+
+                    if (child === undefined) {
+                        child = { elements: parent.elements.length === 0 ? [] : evaluate(parent.elements), children: new Map() };
+                        parent.children.set(key, child);
+                    }
+                    return child;
+                };
+
+                return chains.map(chain => {
+                    let current = root;
+
+                    for (const step of chain) {
+                        if (step instanceof Element) {
+                            current = node(current, step, () => step.isConnected ? [step] : []);
+                        } else if (step.segments !== undefined) {
+                            step.segments.forEach((text, i) => {
+                                const last = i === step.segments.length - 1;
+
+                                current = node(current, (last ? 'first:' : 'all:') + text, contexts => {
+                                    const elements = inDocumentOrder(segment(contexts, text, i));
+
+                                    return last ? elements.slice(0, 1) : elements;
+                                });
+                            });
+                        } else {
+                            current = node(current, JSON.stringify(step), contexts => [first(contexts[0], step)].filter(e => e));
+                        }
+                    }
+                    return current.elements[0] || null;
+                });
+            }""".formatted(ScShadowRootBy.QUERY_SELECTOR_ALL);
+
+    private static final String RESOLVE = "return (" + RESOLVE_ALL + ")(arguments[0]);";
+
+    private ScBatchResolver() {
+    }
+
+    /**
+     * Returns the locator step of a selector that is resolved from the document. CSS selectors with more than one
+     * segment are sent as segments, so that their prefixes can be shared.
+     *
+     * @param selector selector of a page-level or absolute component
+     * @return locator step
+     */
+    static @NonNull Map<String, Object> documentStep(@NonNull ScSelector selector) {
+        final ScCompiledSelector compiled = selector.compile();
+
+        if (compiled.type() == ScSelectorPropertyType.Types.CssSelector && selector instanceof ScCssSelector css && css.segments().size() > 1) {
+            return Map.of("css", compiled.text(), "segments", css.segments());
+        }
+        return step(selector);
+    }
+
+    /**
+     * Returns the locator step of a selector that is resolved inside the element of the previous step.
+     *
+     * @param selector selector of a component
+     * @return locator step
+     */
+    static @NonNull Map<String, Object> step(@NonNull ScSelector selector) {
+        final ScCompiledSelector compiled = selector.compile();
+
+        return compiled.type() == ScSelectorPropertyType.Types.XPath ? Map.of("xpath", compiled.text()) : Map.of("css", compiled.text());
+    }
+
+    /**
+     * Resolves the elements of the locator chains with one script execution.
+     *
+     * @param chains locator chains
+     * @return the element of each chain, or null if it does not exist, in the same order as the chains
+     */
+    static @NonNull List<@Nullable WebElement> resolve(@NonNull List<List<Object>> chains) {
+        final List<@Nullable WebElement> elements = new ArrayList<>(chains.size());
+
+        if (chains.isEmpty()) {
+            return elements;
+        }
+
+        final Object result = Selentic.executeScript(RESOLVE, chains);
+
+        for (int i = 0; i < chains.size(); i++) {
+            elements.add(result instanceof List<?> list && i < list.size() && list.get(i) instanceof WebElement element ? element : null);
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,23 @@
+package org.emw.selentic.lib;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * Browser performance profiles.
+ * <ul>
+ *     <li>{@code Default}: browsers are started with the framework's default options.</li>
+ *     <li>{@code Throughput}: background throttling, component updates, translation, sync, and default apps are
+ *     disabled, and the window has a fixed small size.</li>
+ * </ul>
+ *
+ * @see Selentic#enableThroughputProfile(boolean)
+ */
+public enum ScBrowserProfile {
+    Default, Throughput;
+
+    public static ScBrowserProfile toEnum(@NonNull String profileText) {
+        return Arrays.stream(ScBrowserProfile.values()).filter(p -> p.toString().equalsIgnoreCase(profileText)).findFirst().orElse(Default);
+    }
+}
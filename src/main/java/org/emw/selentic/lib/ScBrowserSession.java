@@ -0,0 +1,473 @@
+package org.emw.selentic.lib;
+
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.emw.selentic.lib.exception.ScUnsupportedBrowserException;
+import org.emw.selentic.lib.util.ScLogHandler;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.safari.SafariDriver;
+import org.slf4j.Logger;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A running browser and the state attached to it (network monitor, animation acceleration, virtual time).
+ * <p>
+ * The web driver held by this class is never decorated with a listener, since DevTools access requires the original
+ * driver. A session is owned by one {@link SelenticWebDriverContext} at a time. When the session pool is enabled, it
+ * is handed back to {@link ScSessionPool} instead of quitting, so that the next test does not pay for starting a
+ * browser.
+ *
+ * @see ScSessionPool
+ */
+final class ScBrowserSession {
+    private static final Logger LOG = ScLogHandler.logger(ScBrowserSession.class);
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private final int id = SEQUENCE.incrementAndGet();
+    private final ScSessionHealth health = new ScSessionHealth();
+    private final @NonNull ScBrowser browser;
+    private final @NonNull String key;
+    private final @NonNull WebDriver driver;
+
+    /**
+     * The window that the network monitor and the other DevTools state are attached to.
+     */
+    private final @NonNull String originalWindowHandle;
+    private final @Nullable Path profileDirectory;
+    private final @Nullable ScNetworkMonitor networkMonitor;
+    private final boolean animationScriptPerPage;
+    private final long startupMilliseconds;
+    /**
+     * Guards the mutable state of this session. A lock is used rather than synchronized methods, so that a virtual
+     * thread using the session does not pin its carrier thread. Virtual time is attached without holding the lock;
+     * other threads wait for it instead of attaching again.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition virtualTimeAttached = this.lock.newCondition();
+    private boolean attachingVirtualTime = false;
+    private @MonotonicNonNull ScVirtualTime virtualTime;
+    private boolean prelaunched = false;
+    private int leaseCount = 0;
+    private long releasedTimestamp = System.currentTimeMillis();
+
+    private ScBrowserSession(@NonNull ScBrowser browser, @NonNull String key, @NonNull WebDriver driver, @Nullable Path profileDirectory, @NonNull ScWebDriverOptions options, long startupMilliseconds) {
+        this.browser = browser;
+        this.key = key;
+        this.driver = driver;
+        this.profileDirectory = profileDirectory;
+        this.startupMilliseconds = startupMilliseconds;
+        this.originalWindowHandle = driver.getWindowHandle();
+
+        // Track network requests through DevTools for Chromium based browsers.
+        this.networkMonitor = browser == ScBrowser.Chrome || browser == ScBrowser.Edge ? ScNetworkMonitor.attach(driver) : null;
+
+        // Register animation acceleration for every new document, or fall back to applying it per page.
+        this.animationScriptPerPage = options.isAnimationAccelerated() && !ScAnimationAccelerator.installOnNewDocument(driver);
+    }
+
+    /**
+     * Starts a new browser with the options. When the options have a profile template, the browser starts with its own
+     * copy of the template, which is deleted when the session quits.
+     *
+     * @param browser browser type
+     * @param options web driver options. Preferences must already be applied to the options.
+     * @return started session
+     */
+    static @NonNull ScBrowserSession start(@NonNull ScBrowser browser, @NonNull ScWebDriverOptions options) {
+        final long started = System.currentTimeMillis();
+        final Path profileDirectory = copyProfileTemplate(browser, options.profileTemplate());
+        final WebDriver driver;
+
+        try {
+            driver = switch (browser) {
+                case Chrome -> new ChromeDriver(profileDirectory == null ? options.chromeOptions() : withUserDataDir(options.chromeOptions(), profileDirectory));
+                case Edge -> new EdgeDriver(profileDirectory == null ? options.edgeOptions() : withUserDataDir(options.edgeOptions(), profileDirectory));
+                case Firefox -> new FirefoxDriver(profileDirectory == null ? options.firefoxOptions() : withProfile(options.firefoxOptions(), profileDirectory));
+                case Safari -> new SafariDriver(options.safariOptions());
+            };
+        } catch (RuntimeException ex) {
+            if (profileDirectory != null) {
+                ScProfileTemplate.delete(profileDirectory);
+            }
+            throw ex;
+        }
+
+        final long startupMilliseconds = System.currentTimeMillis() - started;
+
+        LOG.debug("Started {} in {} ms", browser, startupMilliseconds);
+        return new ScBrowserSession(browser, options.sessionKey(browser), driver, profileDirectory, options, startupMilliseconds);
+    }
+
+    private static @Nullable Path copyProfileTemplate(@NonNull ScBrowser browser, @Nullable File profileTemplate) {
+        if (profileTemplate == null) {
+            return null;
+        }
+        if (browser == ScBrowser.Safari) {
+            LOG.warn("Profile templates are not supported by Safari. Template is not used: {}", profileTemplate);
+            return null;
+        }
+        return ScProfileTemplate.copy(profileTemplate.toPath());
+    }
+
+    // The shared options are copied, so that the profile directory of this session does not become part of them.
+    private static @NonNull ChromeOptions withUserDataDir(@NonNull ChromeOptions options, @NonNull Path profileDirectory) {
+        final ChromeOptions copy = options.merge(new ImmutableCapabilities());
+
+        copy.addArguments("--user-data-dir=" + profileDirectory.toAbsolutePath());
+        return copy;
+    }
+
+    private static @NonNull EdgeOptions withUserDataDir(@NonNull EdgeOptions options, @NonNull Path profileDirectory) {
+        final EdgeOptions copy = options.merge(new ImmutableCapabilities());
+
+        copy.addArguments("--user-data-dir=" + profileDirectory.toAbsolutePath());
+        return copy;
+    }
+
+    private static @NonNull FirefoxOptions withProfile(@NonNull FirefoxOptions options, @NonNull Path profileDirectory) {
+        final FirefoxOptions copy = options.merge(new ImmutableCapabilities());
+
+        copy.addArguments("-profile", profileDirectory.toAbsolutePath().toString());
+        return copy;
+    }
+
+    @NonNull ScBrowser browser() {
+        return this.browser;
+    }
+
+    /**
+     * Returns a label that identifies this session in the log (e.g., {@code Chrome#3}).
+     *
+     * @return session label
+     */
+    @NonNull String label() {
+        return this.browser + "#" + this.id;
+    }
+
+    @NonNull ScSessionHealth health() {
+        return this.health;
+    }
+
+    /**
+     * Returns the key of the browser and options that started this session. Sessions with the same key are
+     * interchangeable.
+     *
+     * @return session key
+     */
+    @NonNull String key() {
+        return this.key;
+    }
+
+    /**
+     * Returns the web driver. It is not decorated with a listener.
+     *
+     * @return web driver
+     */
+    @NonNull WebDriver driver() {
+        return this.driver;
+    }
+
+    /**
+     * Returns how long it took to start the browser.
+     *
+     * @return startup duration in milliseconds
+     */
+    long startupMilliseconds() {
+        return this.startupMilliseconds;
+    }
+
+    void markPrelaunched() {
+        this.lock.lock();
+        try {
+            this.prelaunched = true;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns true if the browser was started ahead of time, before a thread asked for it.
+     *
+     * @return true if prelaunched
+     */
+    boolean isPrelaunched() {
+        this.lock.lock();
+        try {
+            return this.prelaunched;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Nullable ScNetworkMonitor networkMonitor() {
+        return this.networkMonitor;
+    }
+
+    boolean isAnimationScriptPerPage() {
+        return this.animationScriptPerPage;
+    }
+
+    /**
+     * Returns the virtual time control of this session.
+     *
+     * @return virtual time control
+     * @throws ScUnsupportedBrowserException if the browser does not support virtual time
+     */
+    @NonNull ScVirtualTime virtualTime() {
+        this.lock.lock();
+        try {
+            // Another thread may be attaching virtual time.
+            while (this.attachingVirtualTime) {
+                this.virtualTimeAttached.awaitUninterruptibly();
+            }
+            if (this.virtualTime != null) {
+                return this.virtualTime;
+            }
+            this.attachingVirtualTime = true;
+        } finally {
+            this.lock.unlock();
+        }
+
+        // Attaching opens a DevTools session and sends commands to the browser. It is done without holding the lock.
+        ScVirtualTime attached = null;
+
+        try {
+            attached = ScVirtualTime.attach(this.driver, this.browser);
+            return attached;
+        } finally {
+            this.lock.lock();
+            try {
+                this.attachingVirtualTime = false;
+                if (attached != null) {
+                    this.virtualTime = attached;
+                }
+                this.virtualTimeAttached.signalAll();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns true if virtual time has been taken over. Such session cannot be reused, since virtual time stays in
+     * control of the browser tab.
+     *
+     * @return true if virtual time was used
+     */
+    boolean isVirtualTimeUsed() {
+        this.lock.lock();
+        try {
+            return this.virtualTime != null;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns true if virtual time has been taken over and is paused.
+     *
+     * @return true if virtual time is paused
+     * @see ScVirtualTime#isPaused()
+     */
+    boolean isVirtualTimePaused() {
+        final ScVirtualTime virtualTime;
+
+        this.lock.lock();
+        try {
+            virtualTime = this.virtualTime;
+        } finally {
+            this.lock.unlock();
+        }
+        return virtualTime != null && virtualTime.isPaused();
+    }
+
+    /**
+     * Counts a lease of this session.
+     *
+     * @return the number of times this session has been leased, including this one
+     */
+    int leased() {
+        this.lock.lock();
+        try {
+            return ++this.leaseCount;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    int leaseCount() {
+        this.lock.lock();
+        try {
+            return this.leaseCount;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    void released() {
+        this.lock.lock();
+        try {
+            this.releasedTimestamp = System.currentTimeMillis();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    long idleMilliseconds() {
+        this.lock.lock();
+        try {
+            return System.currentTimeMillis() - this.releasedTimestamp;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns true if the browser still responds.
+     *
+     * @return true if the session is alive
+     */
+    boolean isAlive() {
+        try {
+            this.driver.getWindowHandle();
+            return true;
+        } catch (RuntimeException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns true if {@link #reset()} clears the cookies and storage of every origin the session visited, not only
+     * of the page shown when it is released.
+     * <p>
+     * This requires DevTools and the network monitor, which records the visited origins, so only Chrome and Edge
+     * sessions qualify. WebDriver alone clears storage of the current page, and in Firefox and Safari, cookies of the
+     * current domain only.
+     *
+     * @return true if all visited origins are cleared on reset
+     */
+    boolean clearsAllOrigins() {
+        return this.driver instanceof HasCdp && this.networkMonitor != null;
+    }
+
+    /**
+     * Brings the browser back to a clean state: extra windows are closed, an open alert is dismissed, cookies and
+     * storage are cleared, URL blocking is removed, and the original window shows {@code about:blank}.
+     * <p>
+     * Cookies and storage are cleared for the current page through WebDriver. For Chrome and Edge, all cookies, and the
+     * storage of every origin that the session sent requests to or that a window showed, are cleared through DevTools
+     * as well (see {@link #clearsAllOrigins()}).
+     * <p>
+     * If the original window was closed, the DevTools state of the session no longer applies to a window, so the
+     * session is not reset.
+     *
+     * @return true if the browser was reset; false if it is in an unknown state and should be quit
+     */
+    boolean reset() {
+        try {
+            final Set<String> handles = this.driver.getWindowHandles();
+            final Set<String> origins = new LinkedHashSet<>();
+
+            if (!handles.contains(this.originalWindowHandle)) {
+                LOG.debug("Original window of {} was closed", this.label());
+                return false;
+            }
+            for (String handle : handles) {
+                this.driver.switchTo().window(handle);
+                this.dismissAlert();
+                this.addCurrentOrigin(origins);
+                if (!handle.equals(this.originalWindowHandle)) {
+                    this.driver.close();
+                }
+            }
+            this.driver.switchTo().window(this.originalWindowHandle);
+            this.driver.switchTo().defaultContent();
+            ((JavascriptExecutor) this.driver).executeScript("try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            this.driver.manage().deleteAllCookies();
+            if (this.driver instanceof HasCdp cdp) {
+                if (this.networkMonitor != null) {
+                    origins.addAll(this.networkMonitor.visitedOrigins());
+                }
+                clearOrigins(cdp, origins);
+                cdp.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", List.of()));
+            }
+            this.driver.get("about:blank");
+            if (this.networkMonitor != null) {
+                this.networkMonitor.reset();
+            }
+            return true;
+        } catch (RuntimeException ex) {
+            LOG.warn("Could not reset {} session: {}", this.browser, ex.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Clears all cookies, and the storage of the origins. Session storage belongs to the window, so it is cleared
+     * separately for the original window.
+     */
+    private static void clearOrigins(@NonNull HasCdp cdp, @NonNull Set<String> origins) {
+        cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+        cdp.executeCdpCommand("DOMStorage.enable", Map.of());
+        try {
+            for (String origin : origins) {
+                cdp.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+                cdp.executeCdpCommand("DOMStorage.clear", Map.of("storageId", Map.of("securityOrigin", origin, "isLocalStorage", false)));
+            }
+        } finally {
+            cdp.executeCdpCommand("DOMStorage.disable", Map.of());
+        }
+    }
+
+    private void addCurrentOrigin(@NonNull Set<String> origins) {
+        final String origin = ScNetworkMonitor.origin(this.driver.getCurrentUrl());
+
+        if (origin != null) {
+            origins.add(origin);
+        }
+    }
+
+    /**
+     * Quits the browser and deletes its copy of the profile template. Errors are logged, since the browser may already
+     * be gone.
+     */
+    void quit() {
+        try {
+            this.driver.quit();
+        } catch (RuntimeException ex) {
+            LOG.debug("Error while quitting {} session: {}", this.browser, ex.getMessage());
+        } finally {
+            if (this.profileDirectory != null) {
+                ScProfileTemplate.delete(this.profileDirectory);
+            }
+        }
+    }
+
+    private void dismissAlert() {
+        try {
+            this.driver.switchTo().alert().dismiss();
+        } catch (NoAlertPresentException ex) {
+            // No alert to dismiss.
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package org.emw.selentic.lib;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.emw.selentic.lib.util.ScLogHandler;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.slf4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Snapshot of the cookies, localStorage, and sessionStorage of the current origin, so that a test can start in a
+ * logged-in state instead of logging in through the UI.
+ * <p>
+ * Snapshots are kept in memory for the whole run, so that a user logs in once per run instead of once per test. Each
+ * snapshot is also written as JSON to the {@code state} directory under the log directory, for inspection, and is read
+ * back from there if it is not in memory.
+ *
+ * @see Selentic#saveState(String)
+ * @see Selentic#restoreState(String)
+ */
+final class ScBrowserState {
+    private static final Logger LOG = ScLogHandler.logger(ScBrowserState.class);
+    private static final Map<String, ScBrowserState> STATES = new ConcurrentHashMap<>();
+    private static final Json JSON = new Json();
+
+    /**
+     * Path loaded to get a document of the origin when the browser is elsewhere. Any response works, since only the
+     * origin of the document matters.
+     */
+    private static final String ORIGIN_PATH = "/favicon.ico";
+
+    private final @NonNull String origin;
+    private final @NonNull List<Map<String, Object>> cookies;
+    private final @NonNull Map<String, Object> localStorage;
+    private final @NonNull Map<String, Object> sessionStorage;
+
+    private ScBrowserState(@NonNull String origin, @NonNull List<Map<String, Object>> cookies, @NonNull Map<String, Object> localStorage, @NonNull Map<String, Object> sessionStorage) {
+        this.origin = origin;
+        this.cookies = cookies;
+        this.localStorage = localStorage;
+        this.sessionStorage = sessionStorage;
+    }
+
+    /**
+     * Captures the state of the current origin, and keeps it under the name.
+     *
+     * @param name state name, e.g., the user that is logged in
+     * @param driver web driver
+     */
+    static void save(@NonNull String name, @NonNull WebDriver driver) {
+        final JavascriptExecutor executor = (JavascriptExecutor) driver;
+        final List<Map<String, Object>> cookies = new ArrayList<>();
+
+        for (Cookie cookie : driver.manage().getCookies()) {
+            cookies.add(new LinkedHashMap<>(cookie.toJson()));
+        }
+
+        final ScBrowserState state = new ScBrowserState(
+                origin(driver.getCurrentUrl()),
+                cookies,
+                storage(executor.executeScript("return Object.fromEntries(Object.entries(window.localStorage));")),
+                storage(executor.executeScript("return Object.fromEntries(Object.entries(window.sessionStorage));")));
+
+        STATES.put(name, state);
+        state.write(file(name));
+        LOG.debug("Saved state '{}' of {}: {} cookies, {} localStorage items, {} sessionStorage items", name, state.origin, cookies.size(), state.localStorage.size(), state.sessionStorage.size());
+    }
+
+    /**
+     * Restores the state saved under the name. If the browser is not on the origin of the state, a page of the origin
+     * is loaded first, since cookies and storage can only be written for the current origin.
+     *
+     * @param name state name
+     * @param driver web driver
+     * @return true if the state was restored; false if no state has been saved under the name
+     */
+    static boolean restore(@NonNull String name, @NonNull WebDriver driver) {
+        final ScBrowserState state = STATES.computeIfAbsent(name, n -> read(file(n)));
+
+        if (state == null) {
+            return false;
+        }
+        if (!state.origin.equals(origin(driver.getCurrentUrl()))) {
+            driver.get(state.origin + ORIGIN_PATH);
+        }
+
+        final Date now = new Date();
+
+        for (Map<String, Object> values : state.cookies) {
+            final Cookie cookie = cookie(values);
+
+            if (cookie.getExpiry() == null || cookie.getExpiry().after(now)) {
+                driver.manage().addCookie(cookie);
+            }
+        }
+        ((JavascriptExecutor) driver).executeScript("""
+                for (const [key, value] of Object.entries(arguments[0])) { window.localStorage.setItem(key, value); }
+                for (const [key, value] of Object.entries(arguments[1])) { window.sessionStorage.setItem(key, value); }
+                """, state.localStorage, state.sessionStorage);
+        LOG.debug("Restored state '{}' of {}", name, state.origin);
+        return true;
+    }
+
+    private static @NonNull String origin(@NonNull String url) {
+        final URI uri = URI.create(url);
+
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @NonNull Map<String, Object> storage(@Nullable Object items) {
+        return items instanceof Map<?, ?> map ? new LinkedHashMap<>((Map<String, Object>) map) : new LinkedHashMap<>();
+    }
+
+    private static @NonNull Cookie cookie(@NonNull Map<String, Object> values) {
+        final Cookie.Builder builder = new Cookie.Builder(String.valueOf(values.get("name")), String.valueOf(values.get("value")))
+                .path(String.valueOf(values.getOrDefault("path", "/")))
+                .isSecure(Boolean.TRUE.equals(values.get("secure")))
+                .isHttpOnly(Boolean.TRUE.equals(values.get("httpOnly")));
+
+        if (values.get("domain") instanceof String domain) {
+            builder.domain(domain);
+        }
+        // Expiry is a date in memory, and seconds since the epoch once read from a file.
+        if (values.get("expiry") instanceof Date expiry) {
+            builder.expiresOn(expiry);
+        } else if (values.get("expiry") instanceof Number expiry) {
+            builder.expiresOn(new Date(expiry.longValue() * 1000));
+        }
+        if (values.get("sameSite") instanceof String sameSite) {
+            builder.sameSite(sameSite);
+        }
+        return builder.build();
+    }
+
+    private static @Nullable File file(@NonNull String name) {
+        return ScLogHandler.logDirectory() == null ? null : new File(ScLogHandler.stateDirectory(), name.replaceAll("[^A-Za-z0-9._-]", "_") + ".json");
+    }
+
+    private void write(@Nullable File file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.getParentFile().toPath());
+            Files.writeString(file.toPath(), JSON.toJson(Map.of("origin", this.origin, "cookies", this.cookies, "localStorage", this.localStorage, "sessionStorage", this.sessionStorage)), StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            LOG.error("Failed to write state file {}: {}", file, ex.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @Nullable ScBrowserState read(@Nullable File file) {
+        if (file == null || !file.isFile()) {
+            return null;
+        }
+        try {
+            final Map<String, Object> values = JSON.toType(Files.readString(file.toPath(), StandardCharsets.UTF_8), Json.MAP_TYPE);
+
+            return new ScBrowserState(
+                    String.valueOf(values.get("origin")),
+                    new ArrayList<>((List<Map<String, Object>>) values.get("cookies")),
+                    storage(values.get("localStorage")),
+                    storage(values.get("sessionStorage")));
+        } catch (IOException | JsonException | ClassCastException ex) {
+            LOG.error("Failed to read state file {}: {}", file, ex.getMessage());
+            return null;
+        }
+    }
+}
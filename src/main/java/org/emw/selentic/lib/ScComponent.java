@@ -2,6 +2,7 @@ package org.emw.selentic.lib;
 
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.emw.selentic.lib.exception.*;
 import org.emw.selentic.lib.selector.*;
 import org.emw.selentic.lib.exception.*;
@@ -13,6 +14,7 @@ import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -101,6 +103,7 @@ public abstract class ScComponent extends ScAbstractComponent {
     private @MonotonicNonNull ScSelector selector;
     private @MonotonicNonNull ScAbstractComponent $callerComponent;
     private @MonotonicNonNull WebElement webElement;
+    private @Nullable WebElement resolvedElement;
     private @MonotonicNonNull ScComponentRule rule;
 
     /**
@@ -153,6 +156,17 @@ public abstract class ScComponent extends ScAbstractComponent {
         this.webElement = webElement;
     }
 
+    /**
+     * Internal method to set the element resolved for this component by a batch resolution. The element is used
+     * instead of looking it up, until it becomes stale.
+     *
+     * @param resolvedElement the element found by the selector of this component
+     * @see ScAbstractComponent#resolveAll(ScComponent...)
+     */
+    final void setResolvedElement(@NonNull WebElement resolvedElement) {
+        this.resolvedElement = resolvedElement;
+    }
+
     /**
      * Internal method to set the parent component or page that called this component.
      *
@@ -181,11 +195,20 @@ public abstract class ScComponent extends ScAbstractComponent {
         if (this.webElement == null) {
             final ScAbstractComponent $c = ScNullCheck.requiresNonNull(this.$callerComponent, ScAbstractComponent.class);
             final Optional<ScSelector> selector = Optional.ofNullable(this.selector);
-
-            if (selector.isPresent() && ($c instanceof ScAbstractPage || selector.get().isAbsolute())) {
-                return Selentic.driver().findElement(selector.get().build());
+            final WebElement resolvedElement = this.resolvedElement;
+
+            if (resolvedElement != null) {
+                return resolvedElement;
+            } else if (selector.isPresent() && $c instanceof ScAbstractPage page && page.warmElement(selector.get()) instanceof WebElement warmElement) {
+                return warmElement;
+            } else if (selector.isPresent() && ($c instanceof ScAbstractPage || selector.get().isAbsolute())) {
+                ScSelectorProfiler.profile(selector.get(), $c.getClass(), null);
+                return this.foundElement($c, Selentic.driver().findElement(selector.get().build()));
             } else if (selector.isPresent()) {
-                return ((ScComponent) $c).existingElement().findElement(selector.get().build());
+                final WebElement containerElement = ((ScComponent) $c).existingElement();
+
+                ScSelectorProfiler.profile(selector.get(), $c.getClass(), containerElement);
+                return this.foundElement($c, containerElement.findElement(selector.get().build()));
             } else {
                 throw new ScElementNotFoundException("Selector is not present.");
             }
@@ -194,6 +217,51 @@ public abstract class ScComponent extends ScAbstractComponent {
         return this.webElement;
     }
 
+    /**
+     * Keeps the element found by the selector if this component is memoized by the caller, so that the memoized
+     * instance does not look it up again until the element becomes stale.
+     *
+     * @param $c the caller component or page
+     * @param element the element found by the selector
+     * @return the element
+     * @see ScAbstractComponent#memoizesChildComponents()
+     */
+    private @NonNull WebElement foundElement(@NonNull ScAbstractComponent $c, @NonNull WebElement element) {
+        if ($c.memoizesChildComponents()) {
+            this.resolvedElement = element;
+        }
+        return element;
+    }
+
+    /**
+     * Returns the steps to locate this component from the document, so that the element can be resolved inside the
+     * browser without a round trip per step.
+     * <p>
+     * Each step is either a {@link WebElement} (for components created from a collection), or a map with a
+     * {@code css} or {@code xpath} key holding the selector text relative to the element of the previous step. CSS
+     * selectors resolved from the document also have a {@code segments} key (see {@link ScBatchResolver}).
+     *
+     * @return locator steps, starting from the document
+     * @throws ScElementNotFoundException if the selector is not present
+     */
+    final @NonNull List<Object> locatorChain() {
+        if (this.webElement != null) {
+            return List.of(this.webElement);
+        }
+
+        final ScAbstractComponent $c = ScNullCheck.requiresNonNull(this.$callerComponent, ScAbstractComponent.class);
+        final ScSelector selector = Optional.ofNullable(this.selector).orElseThrow(() -> new ScElementNotFoundException("Selector is not present."));
+
+        if ($c instanceof ScAbstractPage || selector.isAbsolute()) {
+            return List.of(ScBatchResolver.documentStep(selector));
+        } else {
+            final List<Object> chain = new ArrayList<>(((ScComponent) $c).locatorChain());
+
+            chain.add(ScBatchResolver.step(selector));
+            return chain;
+        }
+    }
+
     /**
      * Sets property rules for the component to be associated with a web element.
      *
@@ -332,8 +400,28 @@ public abstract class ScComponent extends ScAbstractComponent {
 
             return true;
         } catch (NoSuchElementException | StaleElementReferenceException ex) {
-            return false;
+            // An element resolved in advance may have been replaced since. Look it up again.
+            return this.evictResolvedElement() && this.exists();
+        }
+    }
+
+    /**
+     * Discards the element resolved for this component in advance, by a batch resolution, when entering the page or
+     * by a previous lookup of a memoized component. The memoized child components are discarded as well, since they
+     * were found inside the discarded element.
+     *
+     * @return true if an element was discarded
+     * @see ScAbstractComponent#resolveAll(ScComponent...)
+     * @see ScAbstractPage#warmUp()
+     * @see ScAbstractComponent#memoizesChildComponents()
+     */
+    private boolean evictResolvedElement() {
+        this.clearChildComponents();
+        if (this.resolvedElement != null) {
+            this.resolvedElement = null;
+            return true;
         }
+        return this.selector != null && this.$callerComponent instanceof ScAbstractPage page && page.evictWarmElement(this.selector);
     }
 
     /**
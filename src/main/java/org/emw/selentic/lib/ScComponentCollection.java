@@ -96,9 +96,13 @@ public class ScComponentCollection<T extends ScComponent> implements Iterable<T>
         final ScAbstractComponent $c = ScNullCheck.requiresNonNull(this.$callerComponent, ScAbstractComponent.class);
 
         if ($c instanceof ScAbstractPage || selector.isAbsolute()) {
+            ScSelectorProfiler.profile(selector, $c.getClass(), null);
             return Selentic.driver().findElements(selector.build());
         } else {
-            return ((ScComponent) $c).existingElement().findElements(selector.build());
+            final WebElement containerElement = ((ScComponent) $c).existingElement();
+
+            ScSelectorProfiler.profile(selector, $c.getClass(), containerElement);
+            return containerElement.findElements(selector.build());
         }
     }
 
@@ -109,16 +113,16 @@ public class ScComponentCollection<T extends ScComponent> implements Iterable<T>
      * @param componentType The class to instantiate.
      * @param containingObject The parent context.
      * @return A new instance of type T.
-     * @throws ScComponentCreationException if reflection-based instantiation fails.
+     * @throws ScComponentCreationException if instantiation fails.
      */
     private T $componentFromElement(@NonNull WebElement webElement, @NonNull Class<T> componentType, @Nullable ScAbstractComponent containingObject) {
         try {
             T component;
 
             if (containingObject == null) {
-                component = componentType.getDeclaredConstructor().newInstance();
+                component = ScInstanceFactory.of(componentType).newInstance();
             } else {
-                component = componentType.getDeclaredConstructor(containingObject.getClass()).newInstance(containingObject);
+                component = ScInstanceFactory.of(componentType).newInstance(containingObject);
             }
             component.setWebElement(webElement);
             component.setCallerComponent(ScNullCheck.requiresNonNull(this.$callerComponent, ScAbstractComponent.class));
@@ -0,0 +1,161 @@
+package org.emw.selentic.lib;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.emw.selentic.lib.util.ScLogHandler;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Evaluates a wait condition for several components with a single script execution.
+ * <p>
+ * Components are located inside the browser by their locator chain ({@link ScComponent#locatorChain()}), so that
+ * checking N components costs one round trip instead of several per component. Common prefixes of the chains are
+ * resolved once (see {@link ScBatchResolver}). Components that override
+ * {@link ScComponent#isDisplayed()}, {@link ScComponent#isAnimating()}, or {@link ScClickableComponent#isEnabled()}
+ * are evaluated by calling those methods, since their state cannot be derived from the element alone.
+ *
+ * @see ScAbstractComponent#waitForAll(ScAbstractComponent.ScWaitCondition, ScComponent...)
+ * @see ScAbstractComponent#waitForAny(ScAbstractComponent.ScWaitCondition, ScComponent...)
+ */
+final class ScComponentStateProbe {
+    private static final Logger LOG = ScLogHandler.logger(ScComponentStateProbe.class);
+
+    /**
+     * Same visibility check as used by {@code WebElement.isDisplayed()}, so that the batched check agrees with the
+     * individual one. Also used by {@link ScFrameReader}. A simplified check is used if the Selenium atom is not
+     * available on the class path.
+     */
+    static final String IS_DISPLAYED = loadIsDisplayedAtom();
+
+    /**
+     * Script that resolves each locator chain and returns whether the element meets the condition.
+     * Arguments are the condition name and the list of locator chains.
+     */
+    private static final String PROBE = "const isShown = " + IS_DISPLAYED + ";\n"
+            + "const resolveAll = " + ScBatchResolver.RESOLVE_ALL + ";\n" + """
+            const condition = arguments[0];
+            const chains = arguments[1];
+            const isAnimating = e => e.getAnimations().some(a => a.playState === 'running' || a.playState === 'pending');
+
+            return resolveAll(chains).map(e => {
+                switch (condition) {
+                    case 'ToExist': return e !== null;
+                    case 'ToNotExist': return e === null;
+                    case 'ToBeDisplayed': return e !== null && isShown(e);
+                    case 'ToBeHidden': return e === null || !isShown(e);
+                    case 'ToBeEnabled': return e !== null && !e.matches(':disabled');
+                    case 'ToBeDisabled': return e === null || e.matches(':disabled');
+                    case 'ToStopAnimating': return e !== null && isShown(e) && !isAnimating(e);
+                }
+                return false;
+            });
+            """;
+
+    private ScComponentStateProbe() {
+    }
+
+    /**
+     * Evaluates the condition for each component.
+     *
+     * @param condition the wait condition
+     * @param components components to evaluate
+     * @return whether each component meets the condition, in the same order as the components
+     */
+    static boolean[] evaluate(ScAbstractComponent.@NonNull ScWaitCondition condition, @NonNull List<ScComponent> components) {
+        final boolean[] met = new boolean[components.size()];
+        final List<Integer> probedIndexes = new ArrayList<>();
+        final List<List<Object>> chains = new ArrayList<>();
+
+        for (int i = 0; i < components.size(); i++) {
+            final ScComponent component = components.get(i);
+
+            if (isProbed(component, condition)) {
+                probedIndexes.add(i);
+                chains.add(component.locatorChain());
+            } else {
+                met[i] = isMet(component, condition);
+            }
+        }
+
+        if (!chains.isEmpty()) {
+            try {
+                final List<?> results = (List<?>) Selentic.executeScript(PROBE, condition.name(), chains);
+
+                for (int i = 0; i < probedIndexes.size(); i++) {
+                    met[probedIndexes.get(i)] = results != null && Boolean.TRUE.equals(results.get(i));
+                }
+            } catch (WebDriverException ex) {
+                // e.g., an element from a collection became stale. Check components one by one for this poll.
+                LOG.debug("Component state probe failed. Checking components individually: {}", ex.getClass().getSimpleName());
+                for (int index : probedIndexes) {
+                    met[index] = isMet(components.get(index), condition);
+                }
+            }
+        }
+        return met;
+    }
+
+    /**
+     * Returns true if the component meets the condition, checked with the component's own methods. This gives the
+     * same result as {@link ScAbstractComponent#waitForComponent(ScComponent, ScAbstractComponent.ScWaitCondition)}.
+     *
+     * @param component the component
+     * @param condition the wait condition
+     * @return true if the condition is met
+     */
+    static boolean isMet(@NonNull ScComponent component, ScAbstractComponent.@NonNull ScWaitCondition condition) {
+        return switch (condition) {
+            case ToExist -> component.exists();
+            case ToNotExist -> !component.exists();
+            case ToBeDisplayed -> component.isDisplayed();
+            case ToBeHidden -> !component.isDisplayed();
+            case ToBeEnabled -> !(component instanceof ScClickableComponent c) || c.isEnabled();
+            case ToBeDisabled -> !(component instanceof ScClickableComponent c) || !c.isEnabled();
+            case ToStopAnimating -> component.isDisplayed() && !component.isAnimating();
+        };
+    }
+
+    /**
+     * Returns true if the state of the component can be checked by the probe script.
+     */
+    private static boolean isProbed(@NonNull ScComponent component, ScAbstractComponent.@NonNull ScWaitCondition condition) {
+        return switch (condition) {
+            case ToExist, ToNotExist -> true;
+            case ToBeDisplayed, ToBeHidden -> isInherited(component, "isDisplayed", ScComponent.class);
+            case ToStopAnimating -> isInherited(component, "isDisplayed", ScComponent.class) && isInherited(component, "isAnimating", ScComponent.class);
+            case ToBeEnabled, ToBeDisabled -> component instanceof ScClickableComponent && isInherited(component, "isEnabled", ScClickableComponent.class);
+        };
+    }
+
+    /**
+     * Returns true if the component uses the implementation of the method in the given framework class.
+     */
+    private static boolean isInherited(@NonNull ScComponent component, @NonNull String methodName, @NonNull Class<?> frameworkClass) {
+        try {
+            return component.getClass().getMethod(methodName).getDeclaringClass() == frameworkClass;
+        } catch (NoSuchMethodException ex) {
+            return false;
+        }
+    }
+
+    private static @NonNull String loadIsDisplayedAtom() {
+        try (InputStream in = ScComponentStateProbe.class.getResourceAsStream("/org/openqa/selenium/remote/isDisplayed.js")) {
+            if (in != null) {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        } catch (IOException ex) {
+            LOG.debug("Could not load isDisplayed atom: {}", ex.getMessage());
+        }
+        return """
+                e => e.getClientRects().length > 0 && (e.checkVisibility
+                        ? e.checkVisibility({ checkOpacity: true, checkVisibilityCSS: true, opacityProperty: true, visibilityProperty: true })
+                        : getComputedStyle(e).visibility !== 'hidden')
+                """;
+    }
+}
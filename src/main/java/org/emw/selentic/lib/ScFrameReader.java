@@ -0,0 +1,96 @@
+package org.emw.selentic.lib;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.emw.selentic.lib.selector.ScSelector;
+import org.emw.selentic.lib.selector.ScShadowRootBy;
+import org.emw.selentic.lib.util.ScLogHandler;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+
+/**
+ * Reads the text of an element inside a same-origin frame with a single script execution, without switching the
+ * WebDriver context to the frame.
+ * <p>
+ * Reading a label through {@link ScAbstractComponent#$frame(ScSelector, Class, ScFrameAction)} takes at least four
+ * commands: switching to the frame, waiting for the frame content, finding the element and switching back. For a
+ * same-origin frame, the script reaches into the frame's {@code contentDocument} from the current document instead.
+ * Element references cannot be returned this way, since WebDriver only accepts an element in the browsing context
+ * it was found in, so the text is read inside the script. The text is made to match {@code WebElement.getText()}: an
+ * element that is not displayed, by the same check as {@code WebElement.isDisplayed()}, has no text, and non-breaking
+ * spaces are read as spaces.
+ * <p>
+ * The script returns null when the frame is cross-origin, still loading, or the element does not exist yet. The
+ * caller then falls back to switching to the frame, which waits and reports errors as usual.
+ *
+ * @see ScAbstractComponent#$frameText(ScSelector, ScSelector)
+ */
+final class ScFrameReader {
+    private static final Logger LOG = ScLogHandler.logger(ScFrameReader.class);
+
+    /**
+     * Script that resolves the frame by its locator chain, and the element by its step inside the frame document.
+     * Arguments are the locator chain of the frame and the locator step of the element. Elements without rendered
+     * text, such as SVG elements, are left to the caller.
+     */
+    private static final String READ_TEXT = "const isShown = " + ScComponentStateProbe.IS_DISPLAYED + ";\n"
+            + "const resolveAll = " + ScBatchResolver.RESOLVE_ALL + ";\n"
+            + "const querySelectorAll = " + ScShadowRootBy.QUERY_SELECTOR_ALL + ";\n" + """
+            const frame = resolveAll([arguments[0]])[0];
+            const step = arguments[1];
+            let doc = null;
+
+            try {
+                doc = frame === null ? null : frame.contentDocument;
+            } catch (e) {
+                doc = null;
+            }
+            if (doc === null || doc.readyState !== 'complete') {
+                return null;
+            }
+
+            const element = step.xpath !== undefined
+                    ? doc.evaluate(step.xpath, doc, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue
+                    : querySelectorAll(doc, step.css)[0];
+
+            if (!element || typeof element.innerText !== 'string') {
+                return null;
+            }
+            return isShown(element) ? element.innerText.replace(/\\xa0/g, ' ').trim() : '';
+            """;
+
+    private ScFrameReader() {
+    }
+
+    /**
+     * Reads the text of the element inside the frame.
+     *
+     * @param frame the frame component
+     * @param selector selector of the element, resolved from the frame document
+     * @return the text of the element, or null if it could not be read without switching to the frame
+     */
+    static @Nullable String readText(@NonNull ScFrame frame, @NonNull ScSelector selector) {
+        try {
+            return Selentic.executeScript(READ_TEXT, frame.locatorChain(), ScBatchResolver.step(selector)) instanceof String text ? text : null;
+        } catch (WebDriverException ex) {
+            LOG.debug("Could not read frame content without switching: {}", ex.getClass().getSimpleName());
+            return null;
+        }
+    }
+
+    /**
+     * Frame content used when the text has to be read by switching to the frame.
+     */
+    static final class ScAnyFrameContent extends ScFrameContent {
+
+        /**
+         * Returns the text of the element inside the frame.
+         *
+         * @param selector selector of the element
+         * @return the text of the element
+         */
+        @NonNull String text(@NonNull ScSelector selector) {
+            return $genericComponent(selector).text();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.emw.selentic.lib;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates instances of component, collection, frame content and page classes with constructor handles that are
+ * looked up once per class.
+ * <p>
+ * Components are created every time a page or component method is called, and a collection creates one component per
+ * element. Looking up the constructor by reflection for each of them becomes measurable with collections of thousands
+ * of rows. The factory of each class is kept in a {@link ClassValue}, so it is released together with the class.
+ * <p>
+ * Constructors must be accessible, as with {@link Class#getDeclaredConstructor(Class[])}, and the same exceptions are
+ * thrown: an exception thrown by the constructor is wrapped in an {@link InvocationTargetException}.
+ *
+ * @param <T> type of the created instances
+ */
+final class ScInstanceFactory<T> {
+    private static final MethodType NO_ARGUMENT = MethodType.methodType(Object.class);
+    private static final MethodType ONE_ARGUMENT = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<ScInstanceFactory<?>> FACTORIES = new ClassValue<>() {
+        @Override
+        protected ScInstanceFactory<?> computeValue(Class<?> type) {
+            return new ScInstanceFactory<>(type);
+        }
+    };
+
+    private final @NonNull Class<T> type;
+    private volatile @Nullable MethodHandle constructor;
+
+    /**
+     * Constructors of an inner class, by the class of the containing object.
+     */
+    private final Map<Class<?>, MethodHandle> innerConstructors = new ConcurrentHashMap<>();
+
+    private ScInstanceFactory(@NonNull Class<T> type) {
+        this.type = type;
+    }
+
+    /**
+     * Returns the factory of the class.
+     *
+     * @param type class to instantiate
+     * @param <T> type of the created instances
+     * @return the factory
+     */
+    @SuppressWarnings("unchecked")
+    static <T> @NonNull ScInstanceFactory<T> of(@NonNull Class<T> type) {
+        return (ScInstanceFactory<T>) FACTORIES.get(type);
+    }
+
+    /**
+     * Creates an instance with the constructor without parameters.
+     *
+     * @return a new instance
+     * @throws ReflectiveOperationException if the constructor does not exist, is not accessible or throws
+     */
+    @NonNull T newInstance() throws ReflectiveOperationException {
+        MethodHandle handle = this.constructor;
+
+        if (handle == null) {
+            handle = MethodHandles.lookup().unreflectConstructor(this.type.getDeclaredConstructor()).asType(NO_ARGUMENT);
+            this.constructor = handle;
+        }
+
+        final Object instance;
+
+        try {
+            instance = handle.invokeExact();
+        } catch (Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new InvocationTargetException(ex);
+        }
+        return this.type.cast(instance);
+    }
+
+    /**
+     * Creates an instance of an inner class with the constructor that takes the containing object.
+     *
+     * @param containingObject the object that contains the inner class
+     * @return a new instance
+     * @throws ReflectiveOperationException if the constructor does not exist, is not accessible or throws
+     */
+    @NonNull T newInstance(@NonNull Object containingObject) throws ReflectiveOperationException {
+        final Class<?> containingType = containingObject.getClass();
+        MethodHandle handle = this.innerConstructors.get(containingType);
+
+        if (handle == null) {
+            handle = MethodHandles.lookup().unreflectConstructor(this.type.getDeclaredConstructor(containingType)).asType(ONE_ARGUMENT);
+            this.innerConstructors.put(containingType, handle);
+        }
+
+        final Object instance;
+
+        try {
+            instance = handle.invokeExact(containingObject);
+        } catch (Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new InvocationTargetException(ex);
+        }
+        return this.type.cast(instance);
+    }
+}
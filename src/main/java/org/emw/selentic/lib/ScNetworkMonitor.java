@@ -0,0 +1,335 @@
+package org.emw.selentic.lib;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.emw.selentic.lib.exception.ScWaitTimeoutException;
+import org.emw.selentic.lib.util.ScLogHandler;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tracks in-flight network requests of a Chromium based browser (Chrome, Edge) through the DevTools protocol.
+ * <p>
+ * One monitor is attached to each web driver session by {@link SelenticWebDriverContext}, and it listens to the
+ * {@code Network} domain events to maintain the set of requests that have been sent but have not finished yet.
+ * Unlike an in-page counter, this also covers requests issued before any script is injected into the page (document,
+ * scripts, stylesheets, images, and requests from workers).
+ * <p>
+ * Browsers without DevTools support fall back to an in-page counter of fetch/XHR requests
+ * ({@link #waitForInPageIdle(WebDriver, long, int, long)}).
+ * <p>
+ * Use {@link Selentic#waitForNetworkIdle(long, int)} rather than accessing this class directly.
+ *
+ * @see Selentic#waitForNetworkIdle(long, int)
+ */
+final class ScNetworkMonitor {
+    private static final Logger LOG = ScLogHandler.logger(ScNetworkMonitor.class);
+
+    /**
+     * Script fragment that defines {@code installRequestTracker()}. Once called, the page counts its own pending
+     * fetch/XHR requests in {@code window.__selenticPendingRequests}. This is the fallback used when DevTools is not
+     * available, and it only counts requests issued after it is installed in the document.
+     */
+    static final String IN_PAGE_REQUEST_TRACKER = """
+            const installRequestTracker = () => {
+                if (window.__selenticPendingRequests !== undefined) {
+                    return;
+                }
+                window.__selenticPendingRequests = 0;
+                const originalFetch = window.fetch;
+
+                if (originalFetch) {
+                    window.fetch = function() {
+                        window.__selenticPendingRequests++;
+                        return originalFetch.apply(this, arguments).finally(() => window.__selenticPendingRequests--);
+                    };
+                }
+                const originalSend = XMLHttpRequest.prototype.send;
+
+                XMLHttpRequest.prototype.send = function() {
+                    window.__selenticPendingRequests++;
+                    this.addEventListener('loadend', () => window.__selenticPendingRequests--, { once: true });
+                    return originalSend.apply(this, arguments);
+                };
+            };
+            """;
+
+    /**
+     * Asynchronous script that waits inside the browser until the in-page request counter stays at or below the
+     * maximum for the quiet period. Arguments are the quiet period, the maximum in-flight count, the timeout, and the
+     * callback.
+     */
+    private static final String IN_PAGE_IDLE_PROBE = IN_PAGE_REQUEST_TRACKER + """
+            const quiet = arguments[0];
+            const maxInFlight = arguments[1];
+            const timeout = arguments[2];
+            const callback = arguments[arguments.length - 1];
+            const started = Date.now();
+            let quietSince = Date.now();
+            let last = -1;
+
+            installRequestTracker();
+
+            const poll = () => {
+                const count = window.__selenticPendingRequests;
+
+                if (count > maxInFlight || count !== last) {
+                    quietSince = Date.now();
+                    last = count;
+                }
+                if (count <= maxInFlight && Date.now() - quietSince >= quiet) {
+                    callback(true);
+                } else if (Date.now() - started >= timeout) {
+                    callback(false);
+                } else {
+                    setTimeout(poll, 25);
+                }
+            };
+
+            poll();
+            """;
+    private final Set<String> inFlightRequestIds = new HashSet<>();
+
+    /**
+     * Origins that requests were sent to since the last reset, so that their storage can be cleared.
+     */
+    private final Set<String> origins = new LinkedHashSet<>();
+    private final DevTools devTools;
+
+    /**
+     * Guards the request state. A lock is used rather than a monitor, so that a virtual thread waiting for the
+     * network does not pin its carrier thread.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition activity = this.lock.newCondition();
+    private long lastActivityTimestamp = System.currentTimeMillis();
+
+    /**
+     * Attaches a monitor to the web driver. The driver must not be wrapped by a decorator.
+     *
+     * @param driver a web driver that implements {@link HasDevTools}
+     */
+    private ScNetworkMonitor(@NonNull HasDevTools driver) {
+        this.devTools = driver.getDevTools();
+        this.devTools.createSessionIfThereIsNotOne();
+        this.devTools.addListener(networkEvent("Network.requestWillBeSent"), params -> this.requestStarted(params));
+        this.devTools.addListener(networkEvent("Network.loadingFinished"), params -> this.requestFinished(params));
+        this.devTools.addListener(networkEvent("Network.loadingFailed"), params -> this.requestFinished(params));
+        this.devTools.send(new Command<Void>("Network.enable", Map.of()));
+    }
+
+    /**
+     * Attaches a monitor to the web driver if the browser supports the DevTools protocol.
+     * <p>
+     * Failing to attach is not fatal; the framework falls back to in-page request tracking.
+     *
+     * @param driver web driver before it is decorated with a listener
+     * @return attached monitor, or null if the driver does not support DevTools
+     */
+    static @Nullable ScNetworkMonitor attach(@NonNull WebDriver driver) {
+        if (driver instanceof HasDevTools hasDevTools) {
+            try {
+                return new ScNetworkMonitor(hasDevTools);
+            } catch (RuntimeException ex) {
+                LOG.warn("Network monitoring is not available. Falling back to in-page request tracking: {}", ex.getMessage());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of requests that have been sent but have not finished or failed yet.
+     *
+     * @return number of in-flight requests
+     */
+    int inFlightCount() {
+        this.lock.lock();
+        try {
+            return this.inFlightRequestIds.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until there are no more than {@code maxInFlight} requests in flight, and no request has started or
+     * finished for {@code quietMilliseconds}.
+     *
+     * @param quietMilliseconds duration without network activity
+     * @param maxInFlight maximum number of in-flight requests to still consider the network idle (e.g., long polling)
+     * @param timeoutMilliseconds maximum wait time
+     * @throws ScWaitTimeoutException if the network does not become idle within the timeout
+     */
+    void waitForIdle(long quietMilliseconds, int maxInFlight, long timeoutMilliseconds) {
+        final long deadline = System.currentTimeMillis() + timeoutMilliseconds;
+
+        this.lock.lock();
+        try {
+            while (true) {
+                final long now = System.currentTimeMillis();
+                final long quietUntil = this.lastActivityTimestamp + quietMilliseconds;
+
+                if (this.inFlightRequestIds.size() <= maxInFlight && now >= quietUntil) {
+                    return;
+                }
+                if (now >= deadline) {
+                    LOG.debug("Network is not idle. In-flight requests: {}", this.inFlightRequestIds.size());
+                    throw new ScWaitTimeoutException(timeoutMilliseconds);
+                }
+                try {
+                    // Signalled by every network event, so the quiet period is re-evaluated as soon as something changes.
+                    final long wakeUp = this.inFlightRequestIds.size() <= maxInFlight ? Math.min(quietUntil, deadline) : deadline;
+
+                    this.activity.await(Math.max(1, wakeUp - now), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ScWaitTimeoutException(timeoutMilliseconds);
+                }
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the origins that requests were sent to since the last reset.
+     *
+     * @return origins, such as {@code https://example.com} or {@code file://}
+     */
+    @NonNull Set<String> visitedOrigins() {
+        this.lock.lock();
+        try {
+            return new LinkedHashSet<>(this.origins);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Forgets requests that are still in flight, so that requests cancelled while the browser was reset are not
+     * counted by the next user of the web driver, and forgets the visited origins.
+     */
+    void reset() {
+        this.lock.lock();
+        try {
+            this.inFlightRequestIds.clear();
+            this.origins.clear();
+            this.activityOccurred();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void requestStarted(@NonNull Map<String, Object> params) {
+        final String origin = params.get("request") instanceof Map<?, ?> request ? origin(request.get("url")) : null;
+
+        if (origin != null) {
+            this.lock.lock();
+            try {
+                this.origins.add(origin);
+            } finally {
+                this.lock.unlock();
+            }
+        }
+        if ("EventSource".equals(params.get("type"))) {
+            // Server-sent event streams never finish, and would keep the network busy forever.
+            return;
+        }
+        this.lock.lock();
+        try {
+            this.inFlightRequestIds.add(String.valueOf(params.get("requestId")));
+            this.activityOccurred();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void requestFinished(@NonNull Map<String, Object> params) {
+        this.lock.lock();
+        try {
+            this.inFlightRequestIds.remove(String.valueOf(params.get("requestId")));
+            this.activityOccurred();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Records network activity and wakes up waiting threads. Must be called while holding the lock.
+     */
+    private void activityOccurred() {
+        this.lastActivityTimestamp = System.currentTimeMillis();
+        this.activity.signalAll();
+    }
+
+    /**
+     * Waits for the network to be idle using the in-page request counter. This is used for browsers without DevTools
+     * support, and only covers fetch/XHR requests issued after the counter was installed in the current document.
+     *
+     * @param driver web driver
+     * @param quietMilliseconds duration without a change in the number of pending requests
+     * @param maxInFlight maximum number of pending requests to still consider the network idle
+     * @param timeoutMilliseconds maximum wait time
+     * @throws ScWaitTimeoutException if the network does not become idle within the timeout
+     */
+    static void waitForInPageIdle(@NonNull WebDriver driver, long quietMilliseconds, int maxInFlight, long timeoutMilliseconds) {
+        final Object idle = ((JavascriptExecutor) driver).executeAsyncScript(IN_PAGE_IDLE_PROBE, quietMilliseconds, maxInFlight, timeoutMilliseconds);
+
+        if (!Boolean.TRUE.equals(idle)) {
+            throw new ScWaitTimeoutException(timeoutMilliseconds);
+        }
+    }
+
+    /**
+     * Creates a version independent DevTools event that provides its parameters as a map.
+     *
+     * @param name event name
+     * @return the event
+     */
+    /**
+     * Returns the origin of a URL whose storage can be cleared: {@code scheme://host[:port]} for HTTP(S), and
+     * {@code file://} for files.
+     *
+     * @param url request URL
+     * @return the origin, or null for other URLs (e.g., {@code data:} or {@code about:blank})
+     */
+    static @Nullable String origin(@Nullable Object url) {
+        if (!(url instanceof String text)) {
+            return null;
+        }
+        try {
+            final URI uri = new URI(text);
+            final String scheme = uri.getScheme();
+
+            if ("file".equals(scheme)) {
+                return "file://";
+            }
+            if (!("http".equals(scheme) || "https".equals(scheme)) || uri.getHost() == null) {
+                return null;
+            }
+            return scheme + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort());
+        } catch (URISyntaxException ex) {
+            return null;
+        }
+    }
+
+    private static @NonNull Event<Map<String, Object>> networkEvent(@NonNull String name) {
+        return new Event<>(name, input -> input.read(Json.MAP_TYPE));
+    }
+}
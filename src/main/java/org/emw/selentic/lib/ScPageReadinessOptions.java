@@ -0,0 +1,203 @@
+package org.emw.selentic.lib;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration class for customizing how {@link ScAbstractPage} decides that a page is ready.
+ * <p>
+ * When a page is entered (for example through {@link ScWithPage#inPage(ScWithPage.InPageAction)}), the framework
+ * runs a single asynchronous readiness probe in the browser. The probe keeps checking all enabled conditions inside
+ * the browser and reports back once, so entering a page costs one round trip instead of one per poll.
+ * <p>
+ * The {@code ScPageReadinessOptions} class follows the same builder pattern as {@link ScScrollOptions}. Override
+ * {@link ScAbstractPage#readinessOptions()} in a page class to change which conditions are checked for that page.
+ *
+ * <h2>Default Configuration:</h2>
+ * <ul>
+ *   <li><strong>Document</strong>: {@code document.readyState} must be {@code "complete"} (always checked)</li>
+ *   <li><strong>Fonts</strong>: {@code document.fonts.status} must be {@code "loaded"}</li>
+ *   <li><strong>Pending Requests</strong>: not checked. Pages with long polling, server-sent events over fetch,
+ *   analytics beacons or similar requests never become idle, so this has to be enabled per page</li>
+ *   <li><strong>Max In-Flight Requests</strong>: 0, when pending requests are checked</li>
+ *   <li><strong>Network Quiet Period</strong>: 0 milliseconds</li>
+ *   <li><strong>Angular</strong>: all Angular testabilities must be stable, if Angular is present on the page</li>
+ *   <li><strong>App Ready Flag</strong>: not checked</li>
+ * </ul>
+ *
+ * <h3>Usage Example:</h3>
+ * <pre>{@code
+ * public class DashboardPage extends ScPage {
+ *     @Override
+ *     protected ScPageReadinessOptions readinessOptions() {
+ *         // The application sets window.__appReady = true once its initial data is rendered.
+ *         return super.readinessOptions().appReadyFlag("__appReady");
+ *     }
+ * }
+ *
+ * public class SearchPage extends ScPage {
+ *     @Override
+ *     protected ScPageReadinessOptions readinessOptions() {
+ *         // Wait for the search results, but ignore the one long-polling request that never finishes.
+ *         return super.readinessOptions().pendingRequests(true).maxInFlight(1);
+ *     }
+ * }
+ * }</pre>
+ *
+ * @see ScAbstractPage#readinessOptions()
+ */
+public class ScPageReadinessOptions {
+    private boolean fonts;
+    private boolean pendingRequests;
+    private boolean angular;
+    private String appReadyFlag;
+    private long networkQuietMilliseconds;
+    private int maxInFlight;
+
+    /**
+     * Constructs a new {@code ScPageReadinessOptions} with default readiness configuration.
+     * <p>
+     * Individual options can be customized using the builder-style methods after construction.
+     */
+    ScPageReadinessOptions() {
+        this.fonts = true;
+        this.pendingRequests = false;
+        this.angular = true;
+        this.appReadyFlag = "";
+        this.networkQuietMilliseconds = 0;
+        this.maxInFlight = 0;
+    }
+
+    /**
+     * Sets whether the probe waits for web fonts to finish loading.
+     *
+     * @param fonts true to wait for {@code document.fonts} to be loaded
+     * @return this {@code ScPageReadinessOptions} instance for method chaining
+     */
+    public ScPageReadinessOptions fonts(boolean fonts) {
+        this.fonts = fonts;
+        return this;
+    }
+
+    /**
+     * Sets whether the probe waits for pending network requests to complete.
+     * <p>
+     * For Chrome and Edge, requests are tracked through DevTools for the whole session. For other browsers, only
+     * fetch/XHR requests are counted, and only from the moment the probe is first installed in the document: requests
+     * the page starts before the probe first runs (e.g., from inline scripts) are not counted. Use
+     * {@link #appReadyFlag(String)} for such pages.
+     *
+     * @param pendingRequests true to wait until no more than {@link #maxInFlight(int)} requests are pending
+     * @return this {@code ScPageReadinessOptions} instance for method chaining
+     */
+    public ScPageReadinessOptions pendingRequests(boolean pendingRequests) {
+        this.pendingRequests = pendingRequests;
+        return this;
+    }
+
+    /**
+     * Sets whether the probe waits for Angular testabilities to be stable. This has no effect on pages without Angular.
+     *
+     * @param angular true to wait for Angular to be stable
+     * @return this {@code ScPageReadinessOptions} instance for method chaining
+     */
+    public ScPageReadinessOptions angular(boolean angular) {
+        this.angular = angular;
+        return this;
+    }
+
+    /**
+     * Sets the name of a global ({@code window}) variable that the application sets to {@code true} once it is ready.
+     * An empty string disables the check.
+     *
+     * @param appReadyFlag name of the global variable, e.g. {@code "__appReady"}
+     * @return this {@code ScPageReadinessOptions} instance for method chaining
+     */
+    public ScPageReadinessOptions appReadyFlag(@NonNull String appReadyFlag) {
+        this.appReadyFlag = appReadyFlag.trim();
+        return this;
+    }
+
+    /**
+     * Sets how long the network must stay without any request starting or finishing before the page is considered
+     * ready. This only applies when pending requests are tracked through DevTools (Chrome and Edge), and is useful for
+     * pages that issue follow-up requests shortly after loading.
+     *
+     * @param networkQuietMilliseconds quiet period in milliseconds
+     * @return this {@code ScPageReadinessOptions} instance for method chaining
+     * @see Selentic#waitForNetworkIdle(long, int)
+     */
+    public ScPageReadinessOptions networkQuietPeriod(long networkQuietMilliseconds) {
+        this.networkQuietMilliseconds = networkQuietMilliseconds;
+        return this;
+    }
+
+    /**
+     * Sets how many requests may still be in flight for the network to be considered idle, when pending requests are
+     * checked. Use this for pages that keep a known number of requests open, such as a long-polling request.
+     *
+     * @param maxInFlight maximum number of in-flight requests
+     * @return this {@code ScPageReadinessOptions} instance for method chaining
+     * @see #pendingRequests(boolean)
+     */
+    public ScPageReadinessOptions maxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    /**
+     * Returns whether the page waits for pending network requests.
+     *
+     * @return true if pending requests are checked
+     */
+    boolean isPendingRequests() {
+        return this.pendingRequests;
+    }
+
+    /**
+     * Returns the network quiet period.
+     *
+     * @return quiet period in milliseconds
+     */
+    long networkQuietMilliseconds() {
+        return this.networkQuietMilliseconds;
+    }
+
+    /**
+     * Returns the maximum number of in-flight requests.
+     *
+     * @return maximum number of in-flight requests
+     */
+    int maxInFlight() {
+        return this.maxInFlight;
+    }
+
+    /**
+     * Returns the options as a map that can be passed to the readiness probe script as an argument.
+     *
+     * @param inPageRequestTracking true if pending requests are tracked by the probe script rather than through DevTools
+     * @return options keyed by the names used in the probe script
+     */
+    Map<String, Object> toScriptArgument(boolean inPageRequestTracking) {
+        final Map<String, Object> argument = new HashMap<>();
+
+        argument.put("fonts", this.fonts);
+        argument.put("pendingRequests", this.pendingRequests && inPageRequestTracking);
+        argument.put("maxInFlight", this.maxInFlight);
+        argument.put("angular", this.angular);
+        argument.put("appReadyFlag", this.appReadyFlag);
+        return argument;
+    }
+
+    /**
+     * Returns a readable representation of these options, used in log and error messages.
+     *
+     * @return options text
+     */
+    @Override
+    public String toString() {
+        return "{fonts: %s, pendingRequests: %s, maxInFlight: %d, angular: %s, appReadyFlag: '%s', networkQuietPeriod: %d}".formatted(this.fonts, this.pendingRequests, this.maxInFlight, this.angular, this.appReadyFlag, this.networkQuietMilliseconds);
+    }
+}
@@ -0,0 +1,101 @@
+package org.emw.selentic.lib;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.emw.selentic.lib.config.SelenticConfig;
+import org.emw.selentic.lib.selector.ScCompiledSelector;
+import org.emw.selentic.lib.selector.ScSelector;
+import org.emw.selentic.lib.util.ScLogHandler;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the selectors declared by a page class in a single script execution (see {@link ScBatchResolver}).
+ * <p>
+ * Entering a page usually touches many page-level components in a row, and each of them would otherwise look up its
+ * element with its own round trip. The {@code static} {@link ScSelector} fields declared by the page class (and its
+ * superclasses below {@link ScAbstractPage}) are collected once per class, and resolved together against the document
+ * when entering the page. The first matching element of each selector is kept by the page, and used by components
+ * created from the page with the same selector. Selectors that match nothing are left out, and their components look
+ * up the element as usual.
+ *
+ * @see ScAbstractPage#warmUp()
+ * @see ScAbstractPage#warmsUpOnEntry()
+ * @see SelenticConfig#isPageWarmUpEnabled()
+ */
+final class ScPageWarmUp {
+    private static final Logger LOG = ScLogHandler.logger(ScPageWarmUp.class);
+    private static final Map<Class<?>, List<ScSelector>> DECLARED_SELECTORS = new ConcurrentHashMap<>();
+
+    private ScPageWarmUp() {
+    }
+
+    /**
+     * Resolves the selectors declared by the page class.
+     *
+     * @param page the page being entered
+     * @return the element of each selector that matched, by compiled selector
+     */
+    static @NonNull Map<ScCompiledSelector, WebElement> resolve(@NonNull ScAbstractPage page) {
+        final List<ScSelector> selectors = DECLARED_SELECTORS.computeIfAbsent(page.getClass(), ScPageWarmUp::declaredSelectors);
+        final Map<ScCompiledSelector, WebElement> elements = new HashMap<>();
+        final List<List<Object>> chains = new ArrayList<>(selectors.size());
+
+        for (ScSelector selector : selectors) {
+            chains.add(List.of(ScBatchResolver.documentStep(selector)));
+        }
+        try {
+            final List<@Nullable WebElement> resolved = ScBatchResolver.resolve(chains);
+
+            for (int i = 0; i < selectors.size(); i++) {
+                final WebElement element = resolved.get(i);
+
+                if (element != null) {
+                    elements.put(selectors.get(i).compile(), element);
+                }
+            }
+            LOG.debug("Warmed up {}: {} of {} selectors resolved.", page.getClass().getSimpleName(), elements.size(), selectors.size());
+        } catch (WebDriverException ex) {
+            // Components look up their elements one by one instead.
+            LOG.debug("Could not warm up {}: {}", page.getClass().getSimpleName(), ex.getClass().getSimpleName());
+        }
+        return elements;
+    }
+
+    /**
+     * Returns the {@code static} selectors declared by the page class and its superclasses, compiled and without
+     * duplicates.
+     */
+    private static @NonNull List<ScSelector> declaredSelectors(@NonNull Class<?> pageType) {
+        final Set<ScSelector> selectors = new LinkedHashSet<>();
+
+        for (Class<?> type = pageType; type != null && type != ScAbstractPage.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) || !ScSelector.class.isAssignableFrom(field.getType())) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    if (field.get(null) instanceof ScSelector selector) {
+                        selector.compile();
+                        selectors.add(selector);
+                    }
+                } catch (RuntimeException | IllegalAccessException ex) {
+                    LOG.debug("Skipped selector {}.{}: {}", type.getSimpleName(), field.getName(), ex.getMessage());
+                }
+            }
+        }
+        return List.copyOf(selectors);
+    }
+}
@@ -0,0 +1,106 @@
+package org.emw.selentic.lib;
+
+import org.apache.commons.io.FileUtils;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.emw.selentic.lib.exception.ScInitializationException;
+import org.emw.selentic.lib.util.ScLogHandler;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Set;
+
+/**
+ * Copies a browser profile template into a temporary directory for one browser session, so that each session starts
+ * with a warm HTTP cache and preferences, without sharing mutable files with other sessions.
+ * <p>
+ * Files that are read-only in the template are hard linked instead of copied, where the file system supports it.
+ * Neither the browser nor anything else can modify such file through the link, so linking is safe and avoids copying
+ * large cache files. Make the template read-only (e.g., {@code chmod -R a-w}) to get the most out of it. Lock files
+ * of the browser that created the template are skipped.
+ *
+ * @see Selentic#useProfileTemplate(java.io.File)
+ */
+final class ScProfileTemplate {
+    private static final Logger LOG = ScLogHandler.logger(ScProfileTemplate.class);
+
+    /**
+     * Files that only mark a profile as in use by a running browser.
+     */
+    private static final Set<String> LOCK_FILES = Set.of("SingletonLock", "SingletonCookie", "SingletonSocket", "lockfile", "lock", ".parentlock", "parent.lock");
+
+    private ScProfileTemplate() {
+    }
+
+    /**
+     * Copies the template into a new temporary directory.
+     *
+     * @param template profile template directory
+     * @return the new profile directory
+     * @throws ScInitializationException if the template cannot be copied
+     */
+    static @NonNull Path copy(@NonNull Path template) {
+        final long started = System.currentTimeMillis();
+        final int[] linkedCount = {0};
+
+        try {
+            final Path target = Files.createTempDirectory("selentic-profile-");
+
+            Files.walkFileTree(template, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    Files.createDirectories(target.resolve(template.relativize(dir).toString()));
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    final Path copy = target.resolve(template.relativize(file).toString());
+
+                    if (LOCK_FILES.contains(file.getFileName().toString()) || !attrs.isRegularFile()) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    if (!Files.isWritable(file) && link(copy, file)) {
+                        linkedCount[0]++;
+                    } else {
+                        Files.copy(file, copy, StandardCopyOption.COPY_ATTRIBUTES);
+                        // Copies of read-only files must be writable by the browser.
+                        copy.toFile().setWritable(true, true);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            LOG.debug("Copied profile template {} to {} in {} ms ({} files linked)", template, target, System.currentTimeMillis() - started, linkedCount[0]);
+            return target;
+        } catch (IOException ex) {
+            throw new ScInitializationException("Failed to copy profile template " + template + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Deletes a profile directory created by {@link #copy(Path)}. Errors are logged, since the browser may still hold
+     * files for a moment after it quits.
+     *
+     * @param profileDirectory profile directory
+     */
+    static void delete(@NonNull Path profileDirectory) {
+        if (!FileUtils.deleteQuietly(profileDirectory.toFile())) {
+            LOG.debug("Could not delete profile directory {}", profileDirectory);
+        }
+    }
+
+    private static boolean link(@NonNull Path link, @NonNull Path existing) {
+        try {
+            Files.createLink(link, existing);
+            return true;
+        } catch (IOException | UnsupportedOperationException ex) {
+            // e.g., the temporary directory is on another file system.
+            return false;
+        }
+    }
+}
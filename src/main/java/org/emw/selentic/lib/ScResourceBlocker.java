@@ -0,0 +1,51 @@
+package org.emw.selentic.lib;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.emw.selentic.lib.util.ScLogHandler;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Blocks requests whose URL matches one of the patterns, so that third-party analytics, fonts, and large images do
+ * not slow down page loads in functional tests.
+ * <p>
+ * Patterns are URL globs, where {@code *} matches any number of characters (e.g., {@code *google-analytics.com*},
+ * {@code *.woff2}). Blocked requests fail immediately, as if the network were unavailable.
+ * <p>
+ * Blocking is applied to Chrome and Edge through the DevTools protocol ({@code Network.setBlockedURLs}), for the
+ * current tab. Other browsers do not support it, and a warning is logged.
+ *
+ * @see Selentic#blockUrls(String...)
+ */
+final class ScResourceBlocker {
+    private static final Logger LOG = ScLogHandler.logger(ScResourceBlocker.class);
+
+    private ScResourceBlocker() {
+    }
+
+    /**
+     * Replaces the blocked URL patterns of the browser.
+     *
+     * @param driver web driver before it is decorated with a listener
+     * @param patterns URL patterns to block. An empty list removes blocking.
+     */
+    static void apply(@NonNull WebDriver driver, @NonNull List<String> patterns) {
+        if (driver instanceof HasCdp cdp) {
+            try {
+                cdp.executeCdpCommand("Network.enable", Map.of());
+                cdp.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", patterns));
+                if (!patterns.isEmpty()) {
+                    LOG.debug("Blocking URLs: {}", patterns);
+                }
+            } catch (RuntimeException ex) {
+                LOG.warn("Could not block URLs: {}", ex.getMessage());
+            }
+        } else if (!patterns.isEmpty()) {
+            LOG.warn("URL blocking is only supported by Chrome and Edge. URLs are not blocked: {}", patterns);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package org.emw.selentic.lib;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.emw.selentic.lib.config.SelenticConfig;
+import org.emw.selentic.lib.selector.ScCompiledSelector;
+import org.emw.selentic.lib.selector.ScSelector;
+import org.emw.selentic.lib.selector.ScSelectorPropertyType;
+import org.emw.selentic.lib.selector.ScShadowRootBy;
+import org.emw.selentic.lib.util.ScLogHandler;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Measures how expensive selectors are on the live page, so that the worst ones can be rewritten.
+ * <p>
+ * When profiling is enabled, with {@code profile-selectors} in {@link SelenticConfig} or
+ * {@link Selentic#enableSelectorProfiling(boolean)}, each element lookup is preceded by an
+ * evaluation of the same selector inside the browser, timed with {@code performance.now()} around
+ * {@code querySelectorAll} or {@code document.evaluate}, which also counts the matched nodes. The browser round trip
+ * is not part of the time. Results are aggregated per selector and per declaring page or component class, and written
+ * to {@code selector-profile.txt} in the log directory when the JVM exits.
+ * <p>
+ * Profiling adds a round trip to every lookup. Use it to find expensive selectors, not in regular runs.
+ */
+final class ScSelectorProfiler {
+    private static final Logger LOG = ScLogHandler.logger(ScSelectorProfiler.class);
+    private static final Map<Key, Statistics> STATISTICS = new ConcurrentHashMap<>();
+    private static final AtomicBoolean REPORT_REGISTERED = new AtomicBoolean(false);
+    private static volatile boolean enabled = false;
+
+    /**
+     * Evaluations per profiled lookup. The fastest one is used, since {@code performance.now()} is coarse in some
+     * browsers and the first evaluation may pay for style recalculation.
+     */
+    private static final int EVALUATIONS = 3;
+
+    private static final String PROFILE_SCRIPT = "const querySelectorAll = " + ScShadowRootBy.QUERY_SELECTOR_ALL + ";\n" + """
+            const context = arguments[0] || document;
+            const css = arguments[1];
+            const text = arguments[2];
+            let best = Number.MAX_VALUE;
+            let count = 0;
+
+            for (let i = 0; i < arguments[3]; i++) {
+                const started = performance.now();
+
+                if (css) {
+                    count = querySelectorAll(context, text).length;
+                } else {
+                    count = document.evaluate(text, context, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null).snapshotLength;
+                }
+                best = Math.min(best, performance.now() - started);
+            }
+            return [best, count];
+            """;
+
+    static {
+        setEnabled(SelenticConfig.config().isSelectorProfiled());
+    }
+
+    private ScSelectorProfiler() {
+    }
+
+    /**
+     * Enables or disables profiling for all threads. The report is written when the JVM exits, if profiling was
+     * enabled at any time.
+     *
+     * @param enable true to profile lookups from now on
+     */
+    static void setEnabled(boolean enable) {
+        if (enable && REPORT_REGISTERED.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(ScSelectorProfiler::report, "selentic-selector-profiler-report"));
+        }
+        enabled = enable;
+    }
+
+    /**
+     * Returns true if lookups are profiled.
+     *
+     * @return true if profiling is enabled
+     */
+    static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Profiles a lookup, if profiling is enabled. Errors are logged, so that profiling never fails a test.
+     *
+     * @param selector selector to look up
+     * @param declaringClass page or component class that declares the selector
+     * @param context element to search in, or null to search the whole page
+     */
+    static void profile(@NonNull ScSelector selector, @NonNull Class<?> declaringClass, @Nullable WebElement context) {
+        if (!enabled) {
+            return;
+        }
+
+        final ScCompiledSelector compiled = selector.compile();
+
+        try {
+            final Object result = ((JavascriptExecutor) Selentic.driver()).executeScript(PROFILE_SCRIPT, context, compiled.type() == ScSelectorPropertyType.Types.CssSelector, compiled.text(), EVALUATIONS);
+
+            if (result instanceof List<?> values && values.size() == 2 && values.get(0) instanceof Number milliseconds && values.get(1) instanceof Number count) {
+                STATISTICS.computeIfAbsent(new Key(declaringClass, compiled), k -> new Statistics()).add(milliseconds.doubleValue(), count.intValue());
+            }
+        } catch (RuntimeException ex) {
+            LOG.debug("Could not profile selector \"{}\": {}", compiled, ex.getMessage());
+        }
+    }
+
+    /**
+     * Writes the profile to the log directory and logs the most expensive selectors.
+     */
+    private static void report() {
+        final List<String> lines = reportLines();
+
+        if (lines.isEmpty()) {
+            return;
+        }
+
+        final File logDirectory = ScLogHandler.logDirectory();
+
+        if (logDirectory != null) {
+            final File file = new File(logDirectory, "selector-profile.txt");
+
+            try {
+                Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+                LOG.info("Selector profile: file://{}", file.getAbsolutePath().replace("\\", "/"));
+            } catch (IOException ex) {
+                LOG.error("Failed to write selector profile: {}", ex.getMessage());
+            }
+        }
+        lines.stream().limit(12).forEach(LOG::info);
+    }
+
+    /**
+     * Returns the lines of the profile report: selectors and classes, by total evaluation time.
+     *
+     * @return lines of the report, or an empty list if nothing was profiled
+     */
+    static @NonNull List<String> reportLines() {
+        final List<Map.Entry<Key, Statistics>> selectors = new ArrayList<>(STATISTICS.entrySet());
+        final Map<Class<?>, Statistics> classes = new HashMap<>();
+        final List<String> lines = new ArrayList<>();
+
+        if (selectors.isEmpty()) {
+            return lines;
+        }
+        selectors.sort(Comparator.comparingDouble((Map.Entry<Key, Statistics> e) -> e.getValue().totalMilliseconds()).reversed());
+        lines.add("Selectors by total evaluation time");
+        lines.add(String.format("%10s %8s %9s %9s %8s  %s", "total ms", "lookups", "avg ms", "max ms", "matches", "class / selector"));
+        for (Map.Entry<Key, Statistics> entry : selectors) {
+            lines.add(entry.getValue().format(entry.getKey().declaringClass().getSimpleName() + " " + entry.getKey().selector()));
+            classes.computeIfAbsent(entry.getKey().declaringClass(), c -> new Statistics()).add(entry.getValue());
+        }
+
+        final List<Map.Entry<Class<?>, Statistics>> classEntries = new ArrayList<>(classes.entrySet());
+
+        classEntries.sort(Comparator.comparingDouble((Map.Entry<Class<?>, Statistics> e) -> e.getValue().totalMilliseconds()).reversed());
+        lines.add("");
+        lines.add("Page and component classes by total evaluation time");
+        lines.add(String.format("%10s %8s %9s %9s %8s  %s", "total ms", "lookups", "avg ms", "max ms", "matches", "class"));
+        for (Map.Entry<Class<?>, Statistics> entry : classEntries) {
+            lines.add(entry.getValue().format(entry.getKey().getName()));
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the number of profiled lookups of a selector declared by a class.
+     *
+     * @param declaringClass page or component class that declares the selector
+     * @param selector the selector
+     * @return the number of lookups, or 0 if it was not profiled
+     */
+    static int lookups(@NonNull Class<?> declaringClass, @NonNull ScSelector selector) {
+        final Statistics statistics = STATISTICS.get(new Key(declaringClass, selector.compile()));
+
+        return statistics == null ? 0 : statistics.lookups();
+    }
+
+    private record Key(@NonNull Class<?> declaringClass, @NonNull ScCompiledSelector selector) {
+    }
+
+    /**
+     * Evaluation statistics of a selector or a class.
+     */
+    private static final class Statistics {
+        private double totalMilliseconds = 0;
+        private double maxMilliseconds = 0;
+        private int lookups = 0;
+        private int maxMatches = 0;
+
+        synchronized void add(double milliseconds, int matches) {
+            this.totalMilliseconds += milliseconds;
+            this.maxMilliseconds = Math.max(this.maxMilliseconds, milliseconds);
+            this.lookups++;
+            this.maxMatches = Math.max(this.maxMatches, matches);
+        }
+
+        synchronized void add(@NonNull Statistics other) {
+            this.totalMilliseconds += other.totalMilliseconds;
+            this.maxMilliseconds = Math.max(this.maxMilliseconds, other.maxMilliseconds);
+            this.lookups += other.lookups;
+            this.maxMatches = Math.max(this.maxMatches, other.maxMatches);
+        }
+
+        synchronized int lookups() {
+            return this.lookups;
+        }
+
+        synchronized double totalMilliseconds() {
+            return this.totalMilliseconds;
+        }
+
+        synchronized @NonNull String format(@NonNull String name) {
+            return String.format("%10.2f %8d %9.3f %9.3f %8d  %s", this.totalMilliseconds, this.lookups, this.totalMilliseconds / this.lookups, this.maxMilliseconds, this.maxMatches, name);
+        }
+    }
+}
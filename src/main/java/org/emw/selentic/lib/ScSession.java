@@ -0,0 +1,184 @@
+package org.emw.selentic.lib;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.openqa.selenium.WebDriver;
+
+import java.util.function.Supplier;
+
+/**
+ * {@code ScSession} is an explicit handle to a browser session (a web driver with its browser type and options).
+ *
+ * <p>
+ * By default, {@link Selentic} keeps one session per thread. That does not work well when test steps move between
+ * threads ({@code CompletableFuture}, executors), or when one thread drives several browsers. A session handle can
+ * be bound to any thread for the duration of an action. While it is bound, {@link Selentic#driver()} and every page
+ * and component used by the thread work on the session instead of the thread's own web driver.
+ *
+ * <p>
+ * Bindings are nested and are always restored when the action ends, so ownership is deterministic even on virtual
+ * threads and pooled executor threads. A session should be used by one thread at a time, since a web driver does not
+ * accept concurrent commands.
+ *
+ * <p>
+ * <strong>Usage Example:</strong>
+ * <pre>{@code
+ * final ScSession session = Selentic.newSession();
+ *
+ * try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+ *     executor.submit(session.bind(() -> {
+ *         Selentic.open("https://example.com");
+ *         ScPage.with(HomePage.class).inPage(home -> home.searchBox().setText("Selenium"));
+ *     })).get();
+ * } finally {
+ *     session.quit();
+ * }
+ *
+ * // Steps of the current thread's session that hop to another thread.
+ * final ScSession current = Selentic.session();
+ *
+ * CompletableFuture.supplyAsync(current.bind(() -> Selentic.driver().getTitle()));
+ * }</pre>
+ *
+ * @see Selentic#newSession()
+ * @see Selentic#session()
+ * @see Selentic#sessions(String...)
+ */
+public final class ScSession {
+    private static final ThreadLocal<@Nullable ScSession> BOUND = new ThreadLocal<>();
+
+    private final SelenticWebDriverContext context;
+    private final @Nullable String name;
+
+    ScSession(@NonNull SelenticWebDriverContext context, @Nullable String name) {
+        this.context = context;
+        this.name = name;
+    }
+
+    /**
+     * Returns the session bound to the current thread.
+     *
+     * @return bound session, or null if the thread uses its own context
+     */
+    static @Nullable ScSession bound() {
+        return BOUND.get();
+    }
+
+    SelenticWebDriverContext context() {
+        return this.context;
+    }
+
+    /**
+     * Returns the name of the session.
+     *
+     * @return session name, or null if the session was not created with a name
+     *
+     * @see Selentic#sessions(String...)
+     */
+    public @Nullable String name() {
+        return this.name;
+    }
+
+    /**
+     * Returns the web driver of the session. The web driver is started if it is not running yet.
+     *
+     * @return the {@link WebDriver} instance of this session
+     */
+    public @NonNull WebDriver driver() {
+        return this.context.driver();
+    }
+
+    /**
+     * Runs the action with this session bound to the current thread. The previous binding is restored afterward.
+     *
+     * @param action action to run
+     */
+    public void run(@NonNull Runnable action) {
+        final ScSession previous = BOUND.get();
+
+        BOUND.set(this);
+        try {
+            action.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Runs the action with this session bound to the current thread, and returns its result. The previous binding is
+     * restored afterward.
+     *
+     * @param action action to run
+     * @return the result of the action
+     * @param <T> result type
+     */
+    public <T> T call(@NonNull Supplier<T> action) {
+        final ScSession previous = BOUND.get();
+
+        BOUND.set(this);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Returns an action that runs with this session bound to whichever thread runs it. Use it to pass steps to an
+     * executor or {@code CompletableFuture}.
+     *
+     * @param action action to bind
+     * @return bound action
+     */
+    public @NonNull Runnable bind(@NonNull Runnable action) {
+        return () -> this.run(action);
+    }
+
+    /**
+     * Returns an action that runs with this session bound to whichever thread runs it. Use it to pass steps to an
+     * executor or {@code CompletableFuture}.
+     *
+     * @param action action to bind
+     * @return bound action
+     * @param <T> result type
+     */
+    public <T> @NonNull Supplier<T> bind(@NonNull Supplier<T> action) {
+        return () -> this.call(action);
+    }
+
+    /**
+     * Returns a page builder that enters the page in this session, regardless of the thread that uses it.
+     *
+     * @param pageType the class of the page to create; must extend from {@code ScPage}
+     * @return a {@link ScWithPage} fluent builder for the specified page type
+     * @param <T> the page type to create
+     *
+     * @see ScPage#with(Class)
+     */
+    public <T extends ScPage> @NonNull ScWithPage<T> page(@NonNull Class<T> pageType) {
+        return new ScWithPage<>(pageType, this);
+    }
+
+    /**
+     * Quits the web driver of this session, or returns it to the session pool if the pool is enabled. The session
+     * can be used again; a new web driver is started with the same browser and options.
+     *
+     * @see Selentic#quit()
+     */
+    public void quit() {
+        this.context.quit();
+    }
+
+    @Override
+    public String toString() {
+        return this.name == null ? "ScSession" : "ScSession[" + this.name + "]";
+    }
+
+    private static void restore(@Nullable ScSession previous) {
+        if (previous == null) {
+            BOUND.remove();
+        } else {
+            BOUND.set(previous);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package org.emw.selentic.lib;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.emw.selentic.lib.exception.ScEntryNotFoundException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * {@code ScSessionGroup} is a group of named sessions used together in one test, such as two users in a chat, or a
+ * requester and an approver.
+ *
+ * <p>
+ * This class is obtained through {@link Selentic#sessions(String...)}. Each session has its own browser. Actions can
+ * be run in one session ({@link #session(String)}), or in all sessions at the same time
+ * ({@link #parallel(ScSessionAction)}), so that the users' steps overlap instead of running one after another.
+ *
+ * <p>
+ * Closing the group quits the web drivers of all sessions, so it can be used with try-with-resources.
+ *
+ * @see Selentic#sessions(String...)
+ * @see ScSession
+ */
+public final class ScSessionGroup implements AutoCloseable {
+    private final Map<String, ScSession> sessions = new LinkedHashMap<>();
+
+    /**
+     * Creates the sessions. Web drivers are not started until the sessions are used.
+     *
+     * @param names names of the sessions
+     * @throws IllegalArgumentException if a name is used more than once
+     */
+    ScSessionGroup(@NonNull String... names) {
+        for (String name : names) {
+            if (this.sessions.putIfAbsent(name, new ScSession(new SelenticWebDriverContext(), name)) != null) {
+                throw new IllegalArgumentException("Session name is used more than once: " + name);
+            }
+        }
+    }
+
+    /**
+     * Returns the session with the name.
+     *
+     * @param name session name
+     * @return the session
+     * @throws ScEntryNotFoundException if there is no session with the name in this group
+     */
+    public @NonNull ScSession session(@NonNull String name) {
+        final ScSession session = this.sessions.get(name);
+
+        if (session == null) {
+            throw new ScEntryNotFoundException(name);
+        }
+        return session;
+    }
+
+    /**
+     * Returns the sessions in the order of their names.
+     *
+     * @return sessions in this group
+     */
+    public @NonNull List<ScSession> sessions() {
+        return List.copyOf(this.sessions.values());
+    }
+
+    /**
+     * Runs the action in every session at the same time, each on its own virtual thread with the session bound, and
+     * waits until all of them finish.
+     *
+     * <p>
+     * If an action fails, the failure is thrown after all actions have finished. Failures in other sessions are
+     * added to it as suppressed exceptions.
+     *
+     * @param action action to run; receives the session it runs in
+     */
+    public void parallel(@NonNull ScSessionAction action) {
+        final List<Future<?>> futures = new ArrayList<>();
+        Throwable failure = null;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (ScSession session : this.sessions.values()) {
+                futures.add(executor.submit(session.bind(() -> action.inSession(session))));
+            }
+            for (Future<?> future : futures) {
+                failure = collect(failure, future);
+            }
+        }
+        if (failure instanceof RuntimeException ex) {
+            throw ex;
+        } else if (failure instanceof Error error) {
+            throw error;
+        } else if (failure != null) {
+            throw new RuntimeException(failure);
+        }
+    }
+
+    /**
+     * Quits the web drivers of all sessions.
+     */
+    public void quit() {
+        RuntimeException failure = null;
+
+        for (ScSession session : this.sessions.values()) {
+            try {
+                session.quit();
+            } catch (RuntimeException ex) {
+                if (failure == null) {
+                    failure = ex;
+                } else {
+                    failure.addSuppressed(ex);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Same as {@link #quit()}.
+     */
+    @Override
+    public void close() {
+        this.quit();
+    }
+
+    /**
+     * Waits for the future, and adds its failure to the failure collected so far.
+     */
+    private static @Nullable Throwable collect(@Nullable Throwable failure, @NonNull Future<?> future) {
+        try {
+            future.get();
+            return failure;
+        } catch (ExecutionException ex) {
+            final Throwable cause = ex.getCause() == null ? ex : ex.getCause();
+
+            if (failure == null) {
+                return cause;
+            }
+            failure.addSuppressed(cause);
+            return failure;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            if (failure == null) {
+                return ex;
+            }
+            failure.addSuppressed(ex);
+            return failure;
+        }
+    }
+
+    /**
+     * Functional interface for actions run in a session of the group.
+     *
+     * @see ScSessionGroup#parallel(ScSessionAction)
+     */
+    public interface ScSessionAction {
+        /**
+         * Performs the action. The session is bound to the current thread while this method runs.
+         *
+         * @param session the session the action runs in; {@link ScSession#name()} identifies the user
+         */
+        void inSession(@NonNull ScSession session);
+    }
+}
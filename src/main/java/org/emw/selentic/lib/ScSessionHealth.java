@@ -0,0 +1,122 @@
+package org.emw.selentic.lib;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.Map;
+
+/**
+ * Health of a browser session, sampled each time the session is released to the session pool.
+ * <p>
+ * Two values are sampled:
+ * <ul>
+ *     <li>JavaScript heap used by the current page. For Chrome and Edge, it is read through DevTools
+ *     ({@code Runtime.getHeapUsage}). Otherwise {@code performance.memory} is used where the browser provides it.</li>
+ *     <li>Command latency: the fastest of a few round trips of a trivial WebDriver command. The fastest latency ever
+ *     sampled is kept as the baseline of the session.</li>
+ * </ul>
+ * A session is recycled when the heap exceeds the configured limit, or the latency degrades by the configured factor
+ * compared to its baseline.
+ *
+ * @see ScSessionPool
+ */
+final class ScSessionHealth {
+    /**
+     * Round trips per latency sample. The fastest one is used, so that a single hiccup does not count as degradation.
+     */
+    private static final int LATENCY_ROUND_TRIPS = 3;
+
+    /**
+     * Latency increase that is never considered degradation, since a factor of a 1 millisecond baseline is noise.
+     */
+    private static final long LATENCY_TOLERANCE_MILLISECONDS = 20;
+
+    private long baselineLatencyMilliseconds = -1;
+    private long latencyMilliseconds = -1;
+    private long heapUsedBytes = -1;
+    private int sampleCount = 0;
+
+    /**
+     * Samples heap usage and command latency.
+     *
+     * @param driver web driver before it is decorated with a listener
+     */
+    void sample(@NonNull WebDriver driver) {
+        long latency = Long.MAX_VALUE;
+
+        // Commands are sent without holding the monitor, so that a virtual thread does not pin its carrier thread.
+        for (int i = 0; i < LATENCY_ROUND_TRIPS; i++) {
+            final long started = System.nanoTime();
+
+            driver.getWindowHandle();
+            latency = Math.min(latency, (System.nanoTime() - started) / 1_000_000);
+        }
+        this.record(latency, measureHeapUsedBytes(driver));
+    }
+
+    /**
+     * Records a sample.
+     *
+     * @param latencyMilliseconds fastest command latency of the sample
+     * @param heapUsedBytes JavaScript heap used, or -1 if it is not known
+     */
+    synchronized void record(long latencyMilliseconds, long heapUsedBytes) {
+        this.latencyMilliseconds = latencyMilliseconds;
+        if (this.baselineLatencyMilliseconds < 0 || latencyMilliseconds < this.baselineLatencyMilliseconds) {
+            this.baselineLatencyMilliseconds = latencyMilliseconds;
+        }
+        this.heapUsedBytes = heapUsedBytes;
+        this.sampleCount++;
+    }
+
+    /**
+     * Returns why the session should be recycled according to the last sample.
+     *
+     * @param maxHeapBytes heap limit, or 0 for no limit
+     * @param maxLatencyFactor allowed latency compared to the baseline, or 0 for no limit
+     * @return the reason, or null if the session is healthy
+     */
+    synchronized @Nullable String recycleReason(long maxHeapBytes, double maxLatencyFactor) {
+        if (maxHeapBytes > 0 && this.heapUsedBytes > maxHeapBytes) {
+            return "heap " + megabytes(this.heapUsedBytes) + " MB exceeds " + megabytes(maxHeapBytes) + " MB";
+        }
+        if (maxLatencyFactor > 0 && this.sampleCount > 1) {
+            final long allowed = Math.max((long) (this.baselineLatencyMilliseconds * maxLatencyFactor), this.baselineLatencyMilliseconds + LATENCY_TOLERANCE_MILLISECONDS);
+
+            if (this.latencyMilliseconds > allowed) {
+                return "command latency " + this.latencyMilliseconds + " ms exceeds " + allowed + " ms";
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "heap " + (this.heapUsedBytes < 0 ? "n/a" : megabytes(this.heapUsedBytes) + " MB")
+                + ", command latency " + this.latencyMilliseconds + " ms (baseline " + this.baselineLatencyMilliseconds + " ms)";
+    }
+
+    private static long measureHeapUsedBytes(@NonNull WebDriver driver) {
+        try {
+            if (driver instanceof HasCdp cdp) {
+                final Object used = cdp.executeCdpCommand("Runtime.getHeapUsage", Map.of()).get("usedSize");
+
+                if (used instanceof Number number) {
+                    return number.longValue();
+                }
+            }
+            final Object used = ((JavascriptExecutor) driver).executeScript("return window.performance && performance.memory ? performance.memory.usedJSHeapSize : -1");
+
+            return used instanceof Number number ? number.longValue() : -1;
+        } catch (RuntimeException ex) {
+            return -1;
+        }
+    }
+
+    private static String megabytes(long bytes) {
+        return String.format("%.1f", bytes / (1024.0 * 1024.0));
+    }
+}
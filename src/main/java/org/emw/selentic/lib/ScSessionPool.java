@@ -0,0 +1,425 @@
+package org.emw.selentic.lib;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.emw.selentic.lib.config.SelenticConfig;
+import org.emw.selentic.lib.util.ScLogHandler;
+import org.slf4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps browsers running between tests, so that a test does not pay for starting a new browser.
+ * <p>
+ * Idle sessions are kept per browser and options ({@link ScWebDriverOptions#sessionKey(ScBrowser)}). A thread that
+ * starts a web driver leases an idle session with the same key if there is one, and starts a new browser otherwise.
+ * {@link Selentic#quit()} releases the session back to the pool after resetting it ({@link ScBrowserSession#reset()}).
+ * A released session is quit instead of pooled when:
+ * <ul>
+ *     <li>it has been leased {@code session-pool.max-reuse} times</li>
+ *     <li>the pool already holds {@code session-pool.max-idle} idle sessions</li>
+ *     <li>its JavaScript heap exceeds {@code session-pool.max-heap-mb}, or its command latency degraded by
+ *     {@code session-pool.max-latency-factor} compared to when it was fresh ({@link ScSessionHealth})</li>
+ *     <li>it could not be reset, or virtual time was used in it</li>
+ *     <li>it is a Firefox or Safari session, or DevTools is not available, since the cookies and storage of every
+ *     origin it visited cannot be cleared ({@link ScBrowserSession#clearsAllOrigins()})</li>
+ * </ul>
+ * The health of each released session that could be pooled is logged, so that degradation over the leases of a
+ * session can be followed.
+ * Sessions that stay idle longer than {@code session-pool.idle-timeout-sec} are quit in the background. Idle sessions
+ * are quit when the JVM shuts down.
+ * <p>
+ * Browsers can be started ahead of time ({@link #prelaunch(ScBrowser, ScWebDriverOptions, int)}), so that the first
+ * web driver of each thread is already running. A thread that finds no idle session waits for a prelaunched browser
+ * that is still starting, rather than starting another one.
+ * <p>
+ * The pool is disabled by default, and is enabled by {@code session-pool.enabled} in {@code selentic.conf}, or by
+ * prelaunching browsers.
+ *
+ * @see SelenticConfig#isSessionPoolEnabled()
+ */
+final class ScSessionPool {
+    private static final Logger LOG = ScLogHandler.logger(ScSessionPool.class);
+    private static final ScSessionPool POOL = new ScSessionPool(
+            SelenticConfig.config().isSessionPoolEnabled(),
+            SelenticConfig.config().sessionPoolMaxIdle(),
+            SelenticConfig.config().sessionPoolMaxReuse(),
+            SelenticConfig.config().sessionPoolIdleTimeoutSeconds() * 1000,
+            SelenticConfig.config().sessionPoolMaxHeapMegabytes() * 1024 * 1024,
+            SelenticConfig.config().sessionPoolMaxLatencyFactor());
+
+    private final Map<String, Deque<ScBrowserSession>> idleSessions = new HashMap<>();
+    private final Map<String, Integer> launchingCounts = new HashMap<>();
+    private final Map<String, Integer> waitingCounts = new HashMap<>();
+    private final int maxIdle;
+    private final int maxReuse;
+    private final long idleTimeoutMilliseconds;
+    private final long maxHeapBytes;
+    private final double maxLatencyFactor;
+    private volatile boolean enabled;
+    private @Nullable ScheduledExecutorService evictor;
+    private @Nullable ExecutorService prelauncher;
+    private int idleCount = 0;
+
+    /**
+     * Guards the idle sessions and counters. A lock is used rather than a monitor, so that a virtual thread waiting
+     * for a prelaunched browser does not pin its carrier thread.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition prelaunched = this.lock.newCondition();
+    private int startedCount = 0;
+    private int reusedCount = 0;
+    private long savedMilliseconds = 0;
+
+    /**
+     * Creates a pool with the given limits. The shared pool uses the values in {@link SelenticConfig}.
+     *
+     * @param enabled true if sessions are pooled
+     * @param maxIdle maximum number of idle sessions
+     * @param maxReuse maximum number of leases of a session
+     * @param idleTimeoutMilliseconds how long a session may stay idle before it is quit
+     * @param maxHeapBytes maximum JavaScript heap of a released session
+     * @param maxLatencyFactor maximum command latency of a released session, compared to when it was fresh
+     */
+    ScSessionPool(boolean enabled, int maxIdle, int maxReuse, long idleTimeoutMilliseconds, long maxHeapBytes, double maxLatencyFactor) {
+        this.enabled = enabled;
+        this.maxIdle = maxIdle;
+        this.maxReuse = maxReuse;
+        this.idleTimeoutMilliseconds = idleTimeoutMilliseconds;
+        this.maxHeapBytes = maxHeapBytes;
+        this.maxLatencyFactor = maxLatencyFactor;
+    }
+
+    static @NonNull ScSessionPool pool() {
+        return POOL;
+    }
+
+    boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Returns the number of idle sessions of all keys.
+     *
+     * @return number of idle sessions
+     */
+    int idleCount() {
+        this.lock.lock();
+        try {
+            return this.idleCount;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Leases an idle session with the key, or starts a new browser if there is none.
+     *
+     * @param browser browser type
+     * @param options web driver options. Preferences must already be applied to the options.
+     * @return session owned by the caller until it is released
+     */
+    @NonNull ScBrowserSession lease(@NonNull ScBrowser browser, @NonNull ScWebDriverOptions options) {
+        final String key = options.sessionKey(browser);
+        final long leaseStarted = System.currentTimeMillis();
+        ScBrowserSession session;
+
+        while ((session = this.pollIdle(key)) != null) {
+            // The browser may have crashed or been closed while it was idle.
+            if (session.isAlive()) {
+                if (session.leased() == 1 && session.isPrelaunched()) {
+                    final long saved = Math.max(0, session.startupMilliseconds() - (System.currentTimeMillis() - leaseStarted));
+
+                    this.lock.lock();
+                    try {
+                        this.savedMilliseconds += saved;
+                    } finally {
+                        this.lock.unlock();
+                    }
+                    LOG.info("Using prelaunched session {}. Saved {} ms of browser startup", session.label(), saved);
+                } else {
+                    this.lock.lock();
+                    try {
+                        this.reusedCount++;
+                    } finally {
+                        this.lock.unlock();
+                    }
+                    LOG.debug("Reusing pooled session {} (lease {} of {})", session.label(), session.leaseCount(), this.maxReuse);
+                }
+                return session;
+            }
+            LOG.debug("Discarding pooled session {} that no longer responds", session.label());
+            session.quit();
+        }
+        session = ScBrowserSession.start(browser, options);
+        session.leased();
+        this.lock.lock();
+        try {
+            this.startedCount++;
+        } finally {
+            this.lock.unlock();
+        }
+        return session;
+    }
+
+    /**
+     * Returns the session to the pool after resetting it, or quits it if it cannot be reused.
+     *
+     * @param session session leased from this pool
+     */
+    void release(@NonNull ScBrowserSession session) {
+        final String reason = this.offerReleased(session);
+
+        if (reason != null) {
+            LOG.debug("Quitting session {} instead of pooling it: {}", session.label(), reason);
+            session.quit();
+        }
+    }
+
+    /**
+     * Resets the released session and adds it to the idle sessions, unless it cannot be reused.
+     *
+     * @param session released session
+     * @return why the session was not pooled, or null if it was pooled
+     */
+    private @Nullable String offerReleased(@NonNull ScBrowserSession session) {
+        if (session.leaseCount() >= this.maxReuse) {
+            return "reached maximum reuse count";
+        }
+        if (session.isVirtualTimeUsed()) {
+            return "virtual time was used";
+        }
+        if (!session.clearsAllOrigins()) {
+            return "cookies and storage of all visited origins cannot be cleared in " + session.browser();
+        }
+
+        // Health is only sampled for sessions that could otherwise be pooled, since sampling takes several commands.
+        final String unhealthyReason = this.checkHealth(session);
+
+        if (unhealthyReason != null) {
+            return unhealthyReason;
+        }
+        if (!session.reset()) {
+            return "could not be reset";
+        }
+        if (!this.offerIdle(session)) {
+            return "pool is full";
+        }
+        return null;
+    }
+
+    /**
+     * Samples the health of the session before it is reset, and logs it.
+     *
+     * @param session released session
+     * @return why the session should be recycled, or null if it is healthy
+     */
+    private @Nullable String checkHealth(@NonNull ScBrowserSession session) {
+        try {
+            session.health().sample(session.driver());
+        } catch (RuntimeException ex) {
+            return "does not respond";
+        }
+        LOG.info("Session health {}: lease {}, {}", session.label(), session.leaseCount(), session.health());
+        return session.health().recycleReason(this.maxHeapBytes, this.maxLatencyFactor);
+    }
+
+    /**
+     * Starts browsers in the background and adds them to the pool as idle sessions. The pool is enabled by this call.
+     * The number of browsers is limited by {@code session-pool.max-idle}.
+     *
+     * @param browser browser type
+     * @param options web driver options. Preferences must already be applied, and the options must not be changed
+     *                while the browsers start.
+     * @param count number of browsers to start
+     */
+    void prelaunch(@NonNull ScBrowser browser, @NonNull ScWebDriverOptions options, int count) {
+        final String key = options.sessionKey(browser);
+        final int launches = Math.min(count, this.maxIdle);
+        final ExecutorService prelauncher;
+
+        if (launches <= 0) {
+            return;
+        }
+        if (launches < count) {
+            LOG.info("Prelaunching {} of {} requested {} sessions, limited by session-pool.max-idle", launches, count, browser);
+        } else {
+            LOG.info("Prelaunching {} {} session(s) in the background", launches, browser);
+        }
+        this.lock.lock();
+        try {
+            this.enabled = true;
+            this.launchingCounts.merge(key, launches, Integer::sum);
+            if (this.prelauncher == null) {
+                this.prelauncher = Executors.newCachedThreadPool(runnable -> {
+                    final Thread thread = new Thread(runnable, "selentic-session-prelaunch");
+
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            prelauncher = this.prelauncher;
+        } finally {
+            this.lock.unlock();
+        }
+        for (int i = 0; i < launches; i++) {
+            prelauncher.execute(() -> this.prelaunchOne(key, browser, options));
+        }
+    }
+
+    private void prelaunchOne(@NonNull String key, @NonNull ScBrowser browser, @NonNull ScWebDriverOptions options) {
+        ScBrowserSession session = null;
+        boolean pooled = false;
+
+        try {
+            session = ScBrowserSession.start(browser, options);
+            session.markPrelaunched();
+        } catch (RuntimeException ex) {
+            LOG.warn("Could not prelaunch {} session: {}", browser, ex.getMessage());
+        }
+        this.lock.lock();
+        try {
+            this.launchingCounts.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+            if (session != null) {
+                this.startedCount++;
+                pooled = this.offerIdle(session);
+            }
+            this.prelaunched.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+        if (session != null && !pooled) {
+            session.quit();
+        }
+    }
+
+    /**
+     * Takes an idle session with the key. If there is none, but a prelaunched browser with the key is still starting
+     * and no other thread is waiting for it, waits for it.
+     *
+     * @param key session key
+     * @return idle session, or null if a new browser has to be started
+     */
+    private @Nullable ScBrowserSession pollIdle(@NonNull String key) {
+        this.lock.lock();
+        try {
+            while (true) {
+                final Deque<ScBrowserSession> sessions = this.idleSessions.get(key);
+
+                if (sessions != null && !sessions.isEmpty()) {
+                    this.idleCount--;
+                    // The most recently used session is taken, so that rarely used sessions age out.
+                    return sessions.pollLast();
+                }
+                if (this.waitingCounts.getOrDefault(key, 0) >= this.launchingCounts.getOrDefault(key, 0)) {
+                    return null;
+                }
+                this.waitingCounts.merge(key, 1, Integer::sum);
+                try {
+                    this.prelaunched.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                } finally {
+                    this.waitingCounts.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+                }
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private boolean offerIdle(@NonNull ScBrowserSession session) {
+        this.lock.lock();
+        try {
+            if (this.idleCount >= this.maxIdle) {
+                return false;
+            }
+            session.released();
+            this.idleSessions.computeIfAbsent(session.key(), k -> new ArrayDeque<>()).addLast(session);
+            this.idleCount++;
+            this.startEvictor();
+            return true;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Starts the background eviction of idle sessions and the shutdown hook, the first time a session is pooled.
+     */
+    private void startEvictor() {
+        if (this.evictor == null) {
+            final long period = Math.max(1000, this.idleTimeoutMilliseconds / 2);
+
+            this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "selentic-session-pool-evictor");
+
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+            Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "selentic-session-pool-shutdown"));
+        }
+    }
+
+    /**
+     * Quits sessions that have been idle longer than the idle timeout.
+     */
+    void evictIdle() {
+        final List<ScBrowserSession> expired = new ArrayList<>();
+
+        this.lock.lock();
+        try {
+            for (Deque<ScBrowserSession> sessions : this.idleSessions.values()) {
+                final Iterator<ScBrowserSession> iterator = sessions.iterator();
+
+                while (iterator.hasNext()) {
+                    final ScBrowserSession session = iterator.next();
+
+                    if (session.idleMilliseconds() >= this.idleTimeoutMilliseconds) {
+                        iterator.remove();
+                        this.idleCount--;
+                        expired.add(session);
+                    }
+                }
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        for (ScBrowserSession session : expired) {
+            LOG.debug("Quitting session {} idle for {} ms", session.label(), session.idleMilliseconds());
+            session.quit();
+        }
+    }
+
+    /**
+     * Quits all idle sessions.
+     */
+    void shutdown() {
+        final List<ScBrowserSession> sessions = new ArrayList<>();
+
+        this.lock.lock();
+        try {
+            this.idleSessions.values().forEach(sessions::addAll);
+            this.idleSessions.clear();
+            this.idleCount = 0;
+            LOG.info("Session pool: {} browser(s) started, {} lease(s) served by a pooled browser, {} ms of browser startup saved by prelaunch", this.startedCount, this.reusedCount, this.savedMilliseconds);
+        } finally {
+            this.lock.unlock();
+        }
+        sessions.forEach(ScBrowserSession::quit);
+    }
+}
@@ -0,0 +1,232 @@
+package org.emw.selentic.lib;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.emw.selentic.lib.exception.ScUnsupportedBrowserException;
+import org.emw.selentic.lib.exception.ScWaitTimeoutException;
+import org.emw.selentic.lib.util.ScLogHandler;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Controls the virtual time of a Chromium based browser (Chrome, Edge) through the DevTools protocol.
+ * <p>
+ * Once virtual time is paused, timers ({@code setTimeout}, {@code setInterval}, {@code requestAnimationFrame}) in the
+ * page only progress when the virtual time is advanced. Advancing runs the timers that would have run in that
+ * duration as fast as the browser can execute them, so debounce timers, auto-hiding toasts, and polling widgets can be
+ * fast-forwarded deterministically. While virtual time advances, it is paused as long as network requests are
+ * pending, so responses are handled before the timers that depend on them.
+ * <p>
+ * Virtual time stays in control of the browser tab once it is enabled, until the web driver quits.
+ * <p>
+ * Use the methods in {@link Selentic} rather than accessing this class directly.
+ *
+ * @see Selentic#pauseVirtualTime()
+ * @see Selentic#advanceVirtualTime(long)
+ * @see Selentic#runVirtualTimeUntilIdle()
+ */
+final class ScVirtualTime {
+    private static final Logger LOG = ScLogHandler.logger(ScVirtualTime.class);
+
+    /**
+     * Virtual time advanced at a time while running until idle.
+     */
+    private static final long IDLE_STEP_MILLISECONDS = 50;
+
+    /**
+     * Script that keeps track of timeouts that are scheduled but have not run yet, so that "idle" can be detected.
+     * Intervals are not tracked since they never finish. Timeouts scheduled before the script runs are not tracked.
+     */
+    private static final String TIMEOUT_TRACKER = """
+            (() => {
+                if (window.__selenticPendingTimeouts !== undefined) {
+                    return;
+                }
+                const pending = new Set();
+                const originalSetTimeout = window.setTimeout;
+                const originalClearTimeout = window.clearTimeout;
+
+                window.__selenticPendingTimeouts = () => pending.size;
+                window.setTimeout = function(handler, ...rest) {
+                    if (typeof handler !== 'function') {
+                        return originalSetTimeout.call(window, handler, ...rest);
+                    }
+                    const id = originalSetTimeout.call(window, function() {
+                        pending.delete(id);
+                        return handler.apply(this, arguments);
+                    }, ...rest);
+
+                    pending.add(id);
+                    return id;
+                };
+                window.clearTimeout = function(id) {
+                    pending.delete(id);
+                    return originalClearTimeout.call(window, id);
+                };
+            })();
+            """;
+
+    private final DevTools devTools;
+
+    /**
+     * Guards the virtual time state. A lock is used rather than a monitor, so that a virtual thread waiting for the
+     * budget to expire does not pin its carrier thread.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition budgetExpiry = this.lock.newCondition();
+    private long budgetExpiredCount = 0;
+    private boolean enabled = false;
+    private volatile boolean paused = false;
+
+    private ScVirtualTime(@NonNull HasDevTools driver) {
+        this.devTools = driver.getDevTools();
+        this.devTools.createSessionIfThereIsNotOne();
+        this.devTools.addListener(new Event<Map<String, Object>>("Emulation.virtualTimeBudgetExpired", input -> input.read(Json.MAP_TYPE)), params -> this.budgetExpired());
+    }
+
+    /**
+     * Attaches virtual time control to the web driver.
+     *
+     * @param driver web driver before it is decorated with a listener
+     * @param browser browser of the web driver
+     * @return virtual time control
+     * @throws ScUnsupportedBrowserException if the browser does not support virtual time
+     */
+    static @NonNull ScVirtualTime attach(@NonNull WebDriver driver, @NonNull ScBrowser browser) {
+        if ((browser == ScBrowser.Chrome || browser == ScBrowser.Edge) && driver instanceof HasDevTools hasDevTools) {
+            try {
+                return new ScVirtualTime(hasDevTools);
+            } catch (RuntimeException ex) {
+                throw new ScUnsupportedBrowserException("Virtual time is not available: " + ex.getMessage(), ex);
+            }
+        }
+        throw new ScUnsupportedBrowserException("Virtual time is only supported by Chrome and Edge. Current browser is " + browser + ".");
+    }
+
+    /**
+     * Pauses virtual time. Timers in the page do not run until the virtual time is advanced.
+     */
+    void pause() {
+        this.lock.lock();
+        try {
+            this.enable();
+            this.devTools.send(new Command<Void>("Emulation.setVirtualTimePolicy", Map.of("policy", "pause")));
+            this.paused = true;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Advances virtual time by the given duration, and pauses it again. Returns once the duration has passed in the
+     * browser.
+     *
+     * @param milliseconds virtual time to advance
+     * @param timeoutMilliseconds maximum real time to wait for the browser to advance
+     * @throws ScWaitTimeoutException if the browser does not advance the virtual time within the timeout
+     */
+    void advance(long milliseconds, long timeoutMilliseconds) {
+        this.lock.lock();
+        try {
+            final long expiredCount = this.budgetExpiredCount;
+            final long deadline = System.currentTimeMillis() + timeoutMilliseconds;
+
+            this.enable();
+            this.devTools.send(new Command<Void>("Emulation.setVirtualTimePolicy", Map.of("policy", "pauseIfNetworkFetchesPending", "budget", milliseconds)));
+            this.paused = true;
+
+            while (this.budgetExpiredCount == expiredCount) {
+                final long remaining = deadline - System.currentTimeMillis();
+
+                if (remaining <= 0) {
+                    throw new ScWaitTimeoutException(timeoutMilliseconds);
+                }
+                try {
+                    this.budgetExpiry.await(remaining, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ScWaitTimeoutException(timeoutMilliseconds);
+                }
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Advances virtual time in small steps until no timeout is pending in the page.
+     *
+     * @param timeoutMilliseconds maximum real time to wait
+     * @throws ScWaitTimeoutException if timeouts are still pending when the timeout is reached (e.g., a timeout that
+     *                                always schedules another one)
+     */
+    void runUntilIdle(long timeoutMilliseconds) {
+        final long deadline = System.currentTimeMillis() + timeoutMilliseconds;
+        long advanced = 0;
+
+        this.lock.lock();
+        try {
+            this.enable();
+            while (pendingTimeouts() > 0) {
+                final long remaining = deadline - System.currentTimeMillis();
+
+                if (remaining <= 0) {
+                    throw new ScWaitTimeoutException(timeoutMilliseconds);
+                }
+                this.advance(IDLE_STEP_MILLISECONDS, remaining);
+                advanced += IDLE_STEP_MILLISECONDS;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        LOG.debug("Virtual time advanced until idle: {} ms", advanced);
+    }
+
+    /**
+     * Returns true if virtual time has been paused. Virtual time stays paused once paused, since advancing pauses it
+     * again when the budget has run out. Timers and {@code Date.now()} in the page do not progress on their own, so
+     * scripts that poll with {@code setTimeout} never finish.
+     *
+     * @return true if virtual time is paused
+     */
+    boolean isPaused() {
+        return this.paused;
+    }
+
+    /**
+     * Registers the timeout tracker for new documents and the current document, the first time virtual time is used.
+     * Must be called while holding the lock.
+     */
+    private void enable() {
+        if (!this.enabled) {
+            this.devTools.send(new Command<Void>("Page.addScriptToEvaluateOnNewDocument", Map.of("source", TIMEOUT_TRACKER)));
+            Selentic.executeScript(TIMEOUT_TRACKER);
+            this.enabled = true;
+        }
+    }
+
+    private long pendingTimeouts() {
+        final Object pending = Selentic.executeScript("return window.__selenticPendingTimeouts ? window.__selenticPendingTimeouts() : 0");
+
+        return pending instanceof Number number ? number.longValue() : 0;
+    }
+
+    private void budgetExpired() {
+        this.lock.lock();
+        try {
+            this.budgetExpiredCount++;
+            this.budgetExpiry.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+}
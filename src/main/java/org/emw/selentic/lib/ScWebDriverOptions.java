@@ -1,6 +1,7 @@
 package org.emw.selentic.lib;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.emw.selentic.lib.util.ScLogHandler;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeOptions;
@@ -14,6 +15,20 @@ import java.util.List;
 import java.util.Map;
 
 public final class ScWebDriverOptions {
+    private static final int THROUGHPUT_WINDOW_WIDTH = 1280;
+    private static final int THROUGHPUT_WINDOW_HEIGHT = 800;
+    private static final List<String> CHROMIUM_THROUGHPUT_ARGUMENTS = List.of(
+            "--disable-background-timer-throttling",
+            "--disable-renderer-backgrounding",
+            "--disable-backgrounding-occluded-windows",
+            "--disable-component-update",
+            "--disable-sync",
+            "--disable-default-apps",
+            "--disable-client-side-phishing-detection",
+            "--no-first-run",
+            "--mute-audio",
+            "--window-size=" + THROUGHPUT_WINDOW_WIDTH + "," + THROUGHPUT_WINDOW_HEIGHT);
+
     private final ChromeOptions chromeOptions = new ChromeOptions();
     private final Map<String, Object> chromePrefs = new HashMap<>();
     private final FirefoxOptions firefoxOptions = new FirefoxOptions();
@@ -21,6 +36,10 @@ public final class ScWebDriverOptions {
     private final EdgeOptions edgeOptions = new EdgeOptions();
     private final Map<String, Object> edgePrefs = new HashMap<>();
     private final SafariOptions safariOptions = new SafariOptions();
+    private boolean headless = false;
+    private boolean animationAccelerated = false;
+    private boolean throughputProfile = false;
+    private @Nullable File profileTemplate = null;
 
     ScWebDriverOptions() {
         final File downloadDirectory = ScLogHandler.downloadDirectory();
@@ -112,6 +131,114 @@ public final class ScWebDriverOptions {
         firefoxOptions.setAcceptInsecureCerts(true);
     }
 
+    /**
+     * Enables headless mode for all browser types. Calling it more than once has no further effect.
+     */
+    void enableHeadless() {
+        if (!headless) {
+            headless = true;
+            chromeOptions.addArguments("--headless=new");
+            edgeOptions.addArguments("--headless=new");
+            firefoxOptions.addArguments("--headless");
+            safariOptions.setCapability("webkit:headless", true);
+        }
+    }
+
+    /**
+     * Enables animation acceleration. The browsers are started with {@code prefers-reduced-motion} set to
+     * {@code reduce}, and the acceleration script is applied to the pages once the web driver starts.
+     *
+     * @see ScAnimationAccelerator
+     */
+    void enableAnimationAcceleration() {
+        if (!animationAccelerated) {
+            animationAccelerated = true;
+            chromeOptions.addArguments("--force-prefers-reduced-motion");
+            edgeOptions.addArguments("--force-prefers-reduced-motion");
+            firefoxOptions.addPreference("ui.prefersReducedMotion", 1);
+        }
+    }
+
+    boolean isAnimationAccelerated() {
+        return animationAccelerated;
+    }
+
+    private static void initializeChromiumThroughputPrefs(@NonNull Map<String, Object> prefs, boolean disableImages) {
+        prefs.put("translate.enabled", false);
+        if (disableImages) {
+            prefs.put("profile.managed_default_content_settings.images", 2);
+        }
+    }
+
+    /**
+     * Applies the throughput profile, which trades browser features that tests rarely need for speed. Calling it more
+     * than once has no further effect.
+     * <ul>
+     *     <li>Timers and rendering are not throttled when the window is in the background or hidden</li>
+     *     <li>Component updates, translation, sync, default apps, and first-run tasks are disabled</li>
+     *     <li>The window has a fixed size of 1280x800</li>
+     *     <li>Optionally, images are not loaded</li>
+     * </ul>
+     *
+     * @param disableImages true to not load images
+     */
+    void enableThroughputProfile(boolean disableImages) {
+        if (!throughputProfile) {
+            throughputProfile = true;
+            chromeOptions.addArguments(CHROMIUM_THROUGHPUT_ARGUMENTS);
+            edgeOptions.addArguments(CHROMIUM_THROUGHPUT_ARGUMENTS);
+            initializeChromiumThroughputPrefs(chromePrefs, disableImages);
+            initializeChromiumThroughputPrefs(edgePrefs, disableImages);
+
+            firefoxOptions.addArguments("--width=" + THROUGHPUT_WINDOW_WIDTH, "--height=" + THROUGHPUT_WINDOW_HEIGHT);
+            firefoxOptions.addPreference("dom.min_background_timeout_value", 4);
+            firefoxOptions.addPreference("dom.timeout.enable_budget_timer_throttling", false);
+            firefoxOptions.addPreference("app.update.auto", false);
+            firefoxOptions.addPreference("extensions.update.enabled", false);
+            firefoxOptions.addPreference("browser.translations.enable", false);
+            firefoxOptions.addPreference("identity.fxaccounts.enabled", false);
+            firefoxOptions.addPreference("browser.shell.checkDefaultBrowser", false);
+            firefoxOptions.addPreference("browser.startup.homepage_override.mstone", "ignore");
+            if (disableImages) {
+                firefoxOptions.addPreference("permissions.default.image", 2);
+            }
+        }
+    }
+
+    /**
+     * Sets the profile template directory. Each browser session starts with its own copy of the template as the user
+     * data directory (Chrome and Edge) or profile (Firefox).
+     *
+     * @param profileTemplate profile template directory, or null to start with a new profile
+     * @see ScProfileTemplate
+     */
+    void useProfileTemplate(@Nullable File profileTemplate) {
+        this.profileTemplate = profileTemplate;
+    }
+
+    @Nullable File profileTemplate() {
+        return profileTemplate;
+    }
+
+    /**
+     * Returns a key that identifies the browser and its options. Web drivers started with the same key are
+     * interchangeable, which is how {@link ScSessionPool} matches a pooled session to a request.
+     *
+     * @param browser browser type
+     * @return session key
+     */
+    @NonNull String sessionKey(@NonNull ScBrowser browser) {
+        final Map<String, Object> capabilities = switch (browser) {
+            case Chrome -> chromeOptions.asMap();
+            case Edge -> edgeOptions.asMap();
+            case Firefox -> firefoxOptions.asMap();
+            case Safari -> safariOptions.asMap();
+        };
+
+        // The template identifies the profile. The copy each session starts with is not part of the options.
+        return browser + ":" + capabilities + (profileTemplate == null ? "" : ":" + profileTemplate.getAbsolutePath());
+    }
+
     ChromeOptions chromeOptions() {
         return chromeOptions;
     }
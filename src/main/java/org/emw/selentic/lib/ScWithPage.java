@@ -1,10 +1,10 @@
 package org.emw.selentic.lib;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.emw.selentic.lib.exception.ScPageCreationException;
 import org.emw.selentic.lib.exception.ScUnexpectedPageException;
 
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * {@code ScWithPage} is a builder class for initializing and working with page instances
@@ -48,13 +48,14 @@ import java.lang.reflect.InvocationTargetException;
  */
 public final class ScWithPage<T extends ScPage> {
     private final T page;
+    private final @Nullable ScSession session;
 
     /**
      * Constructs a {@code ScWithPage} builder by instantiating the specified page type.
      *
      * <p>
-     * This constructor uses reflection to create a new instance of the page class via its
-     * no-argument constructor. This is called internally by the {@link ScPage#with(Class)}
+     * This constructor creates a new instance of the page class via its no-argument constructor, which is looked
+     * up once per page class (see {@link ScInstanceFactory}). This is called internally by the {@link ScPage#with(Class)}
      * factory method.
      * 
      *
@@ -74,9 +75,23 @@ public final class ScWithPage<T extends ScPage> {
      *                                  </ul>
      */
     ScWithPage(@NonNull Class<T> pageType) {
+        this(pageType, null);
+    }
+
+    /**
+     * Constructs a {@code ScWithPage} builder that enters the page in the given session.
+     *
+     * @param pageType the class of the page to instantiate; must extend from {@link ScPage}
+     * @param session session to bind while in the page, or null to use the session of the calling thread
+     * @throws ScPageCreationException if the page instance cannot be created
+     *
+     * @see ScSession#page(Class)
+     */
+    ScWithPage(@NonNull Class<T> pageType, @Nullable ScSession session) {
+        this.session = session;
         try {
-            this.page = pageType.getDeclaredConstructor().newInstance();
-        } catch (InvocationTargetException | InstantiationException | IllegalAccessException | NoSuchMethodException ex) {
+            this.page = ScInstanceFactory.of(pageType).newInstance();
+        } catch (ReflectiveOperationException ex) {
             throw new ScPageCreationException(ex);
         }
     }
@@ -91,7 +106,9 @@ public final class ScWithPage<T extends ScPage> {
      *
      * <p>
      * The page is guaranteed to be fully loaded before the action code executes, ensuring that
-     * all elements are available and ready for interaction.
+     * all elements are available and ready for interaction. If the page is warmed up (see
+     * {@link ScAbstractPage#warmsUpOnEntry()}), the selectors declared by the page class are then resolved in one
+     * script, so that the page-level components used in the action do not look up their elements one by one.
      * 
      *
      * <p>
@@ -118,8 +135,27 @@ public final class ScWithPage<T extends ScPage> {
      * @see InPageAction
      */
     public void inPage(@NonNull InPageAction<T> action) {
+        if (this.session != null) {
+            this.session.run(() -> this.enterPage(action));
+        } else {
+            this.enterPage(action);
+        }
+    }
+
+    /**
+     * Waits for the page, resolves the selectors declared by the page in one script, and runs the action.
+     *
+     * @param action the action to execute within the page context
+     * @see ScAbstractPage#warmUp()
+     */
+    private void enterPage(@NonNull InPageAction<T> action) {
         this.page.waitForPage();
-        action.inPage(this.page);
+        this.page.warmUp();
+        try {
+            action.inPage(this.page);
+        } finally {
+            this.page.coolDown();
+        }
     }
 
     /**
@@ -3,6 +3,8 @@ package org.emw.selentic.lib;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.emw.selentic.lib.config.SelenticConfig;
+import org.emw.selentic.lib.exception.ScUnsupportedBrowserException;
+import org.emw.selentic.lib.exception.ScWaitTimeoutException;
 import org.emw.selentic.lib.util.ScLogHandler;
 import org.emw.selentic.lib.util.ScNullCheck;
 import org.openqa.selenium.*;
@@ -10,11 +12,13 @@ import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.events.WebDriverListener;
 import org.slf4j.Logger;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * {@code Selentic} is the central gateway class for the Selentic Framework, providing access to context that has
@@ -48,8 +52,12 @@ import java.util.List;
  *
  * <h2>Thread Safety</h2>
  * <p>
- * All driver management methods are synchronized to ensure thread-safe access. Each thread maintains its own
- * WebDriver instance, allowing for parallel test execution without interference.
+ * Each thread maintains its own WebDriver instance in a thread-local context, allowing for parallel test execution
+ * without interference. The methods of this class do not lock on a shared monitor; only the context of the calling
+ * thread is locked, so threads do not contend with each other when dispatching commands.
+ * <p>
+ * When steps move between threads, or a thread drives more than one browser, use an explicit {@link ScSession}
+ * handle ({@link #newSession()}, {@link #session()}) bound to the thread that runs the steps.
  * 
  *
  * @see ScBrowser
@@ -60,6 +68,8 @@ import java.util.List;
  */
 public final class Selentic {
     private static final Logger LOG = ScLogHandler.logger(Selentic.class);
+    private static final long DEFAULT_NETWORK_QUIET_MILLISECONDS = 500;
+    private static final long SCRIPT_TIMEOUT_MARGIN_MILLISECONDS = 1000;
     private static final ThreadLocal<@Nullable SelenticWebDriverContext> CONTEXT = ThreadLocal.withInitial(SelenticWebDriverContext::new);
 
     /**
@@ -84,7 +94,7 @@ public final class Selentic {
      * @see Selentic#open(String)
      * @see Selentic#open()
      */
-    public synchronized static void setBrowser(ScBrowser browser) {
+    public static void setBrowser(ScBrowser browser) {
         context().setBrowser(browser);
     }
 
@@ -97,26 +107,149 @@ public final class Selentic {
      *
      * @see #setBrowser(ScBrowser)
      */
-    public synchronized static ScBrowser browser() {
+    public static ScBrowser browser() {
         return context().browser();
     }
 
     /**
      * Enable headless mode for all browser types.
      */
-    public synchronized static void enableHeadless() {
-        withChromeOptions((options, prefs) -> {
-            options.addArguments("--headless=new");
-        });
-        withEdgeOptions(((options, prefs) -> {
-            options.addArguments("--headless=new");
-        }));
-        withFirefoxOptions((options, mimeTypes) -> {
-            options.addArguments("--headless");
-        });
-        withSafariOptions(options -> {
-            options.setCapability("webkit:headless", true);
-        });
+    public static void enableHeadless() {
+        context().enableHeadless();
+    }
+
+    /**
+     * Enable animation acceleration for all browser types.
+     *
+     * <p>
+     * CSS transitions and animations are shortened to almost zero, Web Animations ({@code element.animate()}) are
+     * played at a high playback rate, and {@code prefers-reduced-motion} is set to {@code reduce}. This makes waiting
+     * with {@code ScWaitCondition.ToStopAnimating} (e.g., opening and closing dialogs) nearly instant, at the cost of
+     * not testing the animations themselves. It can also be enabled for all threads with the
+     * {@code accelerate-animations} key in {@link SelenticConfig}.
+     *
+     * <p>
+     * For Chrome and Edge, it applies to every document from the start. For other browsers, it applies once a page
+     * is entered, so animations that start while the page is loading still run at normal speed.
+     *
+     * <p>
+     * This must be called before the web driver starts in the current thread.
+     *
+     * @see SelenticConfig#isAnimationAccelerated()
+     */
+    public static void enableAnimationAcceleration() {
+        context().enableAnimationAcceleration();
+    }
+
+    /**
+     * Blocks requests whose URL matches one of the patterns in the browser of the current thread, so that resources
+     * irrelevant to the test (third-party analytics, web fonts, large images) do not slow down page loads.
+     *
+     * <p>
+     * Patterns are URL globs, where {@code *} matches any number of characters. Blocked requests fail immediately.
+     * Patterns add to the ones set with the {@code blocked-urls} key in {@link SelenticConfig}. If the web driver is
+     * running, blocking is applied right away; otherwise it is applied when the web driver starts.
+     *
+     * <pre>{@code
+     * Selentic.blockUrls("*google-analytics.com*", "*fonts.googleapis.com*", "*.mp4");
+     * }</pre>
+     *
+     * <p>
+     * Blocking is supported by Chrome and Edge, and applies to the current tab. For other browsers, a warning is
+     * logged and nothing is blocked.
+     *
+     * @param patterns URL patterns to block
+     * @see SelenticConfig#blockedUrls()
+     */
+    public static void blockUrls(@NonNull String... patterns) {
+        context().blockUrls(patterns);
+    }
+
+    /**
+     * Starts the browser of the current thread with a copy of the profile template directory, so that it has a warm
+     * HTTP cache and the preferences of the template. This overrides the {@code profile-template-dir} key in
+     * {@link SelenticConfig}.
+     *
+     * <p>
+     * Each browser session gets its own copy of the template as the user data directory (Chrome and Edge) or profile
+     * (Firefox), so parallel sessions do not share mutable state. The copy is deleted when the browser quits. Files
+     * that are read-only in the template are hard linked instead of copied, which makes copying a large cache fast.
+     * To create a template, run the browser once with {@code --user-data-dir} (or a Firefox profile), visit the
+     * application, and close the browser. Safari does not support profile templates.
+     *
+     * <pre>{@code
+     * Selentic.useProfileTemplate(new File("profiles/warm-chrome"));
+     * Selentic.open("https://example.com");
+     * }</pre>
+     *
+     * <p>
+     * This must be called before the web driver starts in the current thread.
+     *
+     * @param directory profile template directory, or null to start with a new profile
+     * @see SelenticConfig#profileTemplateDir()
+     */
+    public static void useProfileTemplate(@Nullable File directory) {
+        context().useProfileTemplate(directory);
+    }
+
+    /**
+     * Applies the throughput profile to all browser types. Images are loaded.
+     *
+     * @see #enableThroughputProfile(boolean)
+     */
+    public static void enableThroughputProfile() {
+        enableThroughputProfile(false);
+    }
+
+    /**
+     * Applies the throughput profile to all browser types.
+     *
+     * <p>
+     * The profile trades browser features that tests rarely need for speed. For Chrome, Edge, and Firefox:
+     * <ul>
+     *   <li>Timers and rendering are not throttled when the window is in the background or hidden, which matters
+     *   when several browsers run side by side</li>
+     *   <li>Component updates, translation, sync, default apps, and first-run tasks are disabled</li>
+     *   <li>The window has a fixed size of 1280x800</li>
+     *   <li>Images are not loaded, if {@code disableImages} is true</li>
+     * </ul>
+     * It can also be enabled for all threads with the {@code browser-profile} key in {@link SelenticConfig}.
+     *
+     * <p>
+     * This must be called before the web driver starts in the current thread. Only the first call has an effect.
+     *
+     * @param disableImages true to not load images. Tests that check images or depend on image size must not set it.
+     * @see SelenticConfig#browserProfile()
+     * @see ScBrowserProfile
+     */
+    public static void enableThroughputProfile(boolean disableImages) {
+        context().enableThroughputProfile(disableImages);
+    }
+
+    /**
+     * Enables or disables selector profiling for all threads.
+     *
+     * <p>
+     * While profiling is enabled, each element lookup is preceded by a timed evaluation of the same selector in the
+     * browser, and a report of the most expensive selectors is written to {@code selector-profile.txt} in the log
+     * directory when the JVM exits. This adds a round trip to every lookup, so it can be enabled only around the
+     * tests being investigated. The default value is set with the {@code profile-selectors} key in
+     * {@link SelenticConfig}.
+     *
+     * @param enable true to profile lookups from now on, false to stop profiling
+     * @see SelenticConfig#isSelectorProfiled()
+     */
+    public static void enableSelectorProfiling(boolean enable) {
+        ScSelectorProfiler.setEnabled(enable);
+    }
+
+    /**
+     * Returns true if the animation acceleration script has to be executed each time a page is entered.
+     *
+     * @return true if the script is executed per page
+     */
+    static boolean isAnimationScriptPerPage() {
+        return context().isAnimationScriptPerPage();
     }
 
     /**
@@ -135,8 +268,8 @@ public final class Selentic {
      * object ({@link ScComponent#actions()}), handling {@link Alert} ({@link ScPage#inAlert(ScPage.ScAlertAction)}), etc.
      *
      * <p>
-     * <strong>Thread Safety:</strong> This method is synchronized to ensure thread-safe access. Each thread
-     * maintains its own WebDriver instance, enabling parallel test execution.
+     * <strong>Thread Safety:</strong> Each thread maintains its own WebDriver instance, enabling parallel test
+     * execution. Only the context of the calling thread is locked.
      * 
      *
      * <p>
@@ -157,7 +290,7 @@ public final class Selentic {
      * @see ScComponent#actions()
      * @see ScPage#inAlert(ScPage.ScAlertAction)
      */
-    public static synchronized WebDriver driver() {
+    public static WebDriver driver() {
         return context().driver();
     }
 
@@ -203,7 +336,7 @@ public final class Selentic {
      * @see #withEdgeOptions(ScWebDriverOptions.EdgeOptionSetup)
      * @see #enableHeadless()
      */
-    public static synchronized void withChromeOptions(ScWebDriverOptions.@NonNull ChromeOptionSetup optionSetup) {
+    public static void withChromeOptions(ScWebDriverOptions.@NonNull ChromeOptionSetup optionSetup) {
         context().withChromeOptions(optionSetup);
     }
 
@@ -278,7 +411,7 @@ public final class Selentic {
      * @see #withEdgeOptions(ScWebDriverOptions.EdgeOptionSetup)
      * @see #enableHeadless()
      */
-    public static synchronized void withFirefoxOptions(ScWebDriverOptions.@NonNull FirefoxOptionSetup optionSetup) {
+    public static void withFirefoxOptions(ScWebDriverOptions.@NonNull FirefoxOptionSetup optionSetup) {
         context().withFirefoxOptions(optionSetup);
     }
 
@@ -325,7 +458,7 @@ public final class Selentic {
      * @see #withFirefoxOptions(ScWebDriverOptions.FirefoxOptionSetup)
      * @see #enableHeadless()
      */
-    public static synchronized void withEdgeOptions(ScWebDriverOptions.@NonNull EdgeOptionSetup optionSetup) {
+    public static void withEdgeOptions(ScWebDriverOptions.@NonNull EdgeOptionSetup optionSetup) {
         context().withEdgeOptions(optionSetup);
     }
 
@@ -354,7 +487,7 @@ public final class Selentic {
      * @see #withFirefoxOptions(ScWebDriverOptions.FirefoxOptionSetup)
      * @see #enableHeadless()
      */
-    public static synchronized void withSafariOptions(ScWebDriverOptions.@NonNull SafariOptionSetup optionSetup) {
+    public static void withSafariOptions(ScWebDriverOptions.@NonNull SafariOptionSetup optionSetup) {
         context().withSafariOptions(optionSetup);
     }
 
@@ -452,22 +585,346 @@ public final class Selentic {
      * <p>
      * To ensure WebDriver state and thread integrity, it is highly recommended to call this method rather than
      * calling {@link WebDriver#quit()} directly by accessing the web driver object.
+     * <p>
+     * When the session pool is enabled ({@code session-pool.enabled} in {@code selentic.conf}), the browser is not
+     * quit. It is reset (extra windows closed, cookies and storage cleared, {@code about:blank} loaded) and kept for
+     * the next thread that starts a web driver with the same browser and options.
      *
      * <p>
-     * <strong>Thread Safety:</strong> This method is synchronized to ensure thread-safe access to the
-     * driver map.
+     * <strong>Thread Safety:</strong> Only the context of the calling thread is affected. If a session is bound to the
+     * thread ({@link ScSession#run(Runnable)}), that session is quit instead.
      * 
      *
      * @see #driver()
      */
-    public static synchronized void quit() {
+    public static void quit() {
+        final ScSession session = ScSession.bound();
+
+        if (session != null) {
+            session.quit();
+            return;
+        }
         try {
-            driver().quit();
+            context().quit();
         } finally {
             CONTEXT.remove();
         }
     }
 
+    /**
+     * Creates a new session that is not tied to any thread. The web driver of the session starts when the session is
+     * first used.
+     *
+     * <p>
+     * Bind the session to a thread with {@link ScSession#run(Runnable)} or {@link ScSession#bind(Runnable)}. While it
+     * is bound, all methods of this class, pages, and components work on the session. Browser type and options are
+     * set by calling {@link #setBrowser(ScBrowser)}, {@link #withChromeOptions(ScWebDriverOptions.ChromeOptionSetup)},
+     * etc. while the session is bound, before the web driver starts. The session must be ended with
+     * {@link ScSession#quit()}.
+     *
+     * @return new session
+     * @see ScSession
+     */
+    public static @NonNull ScSession newSession() {
+        return new ScSession(new SelenticWebDriverContext(), null);
+    }
+
+    /**
+     * Creates a group of named sessions, for tests with several users (e.g., two users in a chat, a requester and an
+     * approver). Each session has its own browser, started when the session is first used.
+     *
+     * <p>
+     * <strong>Usage Example:</strong>
+     * <pre>{@code
+     * try (ScSessionGroup users = Selentic.sessions("alice", "bob")) {
+     *     // Both users log in at the same time.
+     *     users.parallel(user -> {
+     *         Selentic.open("https://example.com/login");
+     *         ScPage.with(LoginPage.class).inPage(p -> p.login(user.name()));
+     *     });
+     *     users.session("alice").page(ChatPage.class).inPage(p -> p.send("Hello"));
+     *     users.session("bob").page(ChatPage.class).inPage(p -> p.waitForMessage("Hello"));
+     * }
+     * }</pre>
+     *
+     * @param names names of the sessions. Names must be unique.
+     * @return group of sessions. Ending the group quits all sessions in it.
+     * @see ScSessionGroup
+     */
+    public static @NonNull ScSessionGroup sessions(@NonNull String... names) {
+        return new ScSessionGroup(names);
+    }
+
+    /**
+     * Returns a handle to the session of the current thread: the bound session if there is one, otherwise the
+     * thread's own session. The handle can be passed to other threads (e.g., with {@link ScSession#bind(Runnable)})
+     * to continue working on the same browser.
+     *
+     * @return current session
+     * @see ScSession
+     */
+    public static @NonNull ScSession session() {
+        final ScSession session = ScSession.bound();
+
+        return session != null ? session : new ScSession(context(), null);
+    }
+
+    /**
+     * Starts browsers in the background with the browser and options of the current thread, so that threads starting
+     * a web driver later do not wait for the browser to start.
+     *
+     * <p>
+     * The browsers are kept in the session pool, which is enabled by this call. A thread that starts a web driver
+     * with the same browser and options takes a prelaunched browser, or waits for one that is still starting. The
+     * time saved is logged. The number of browsers is limited by {@code session-pool.max-idle}.
+     *
+     * <p>
+     * Call this once before tests start (e.g., in a {@code @BeforeSuite} method), after setting the browser and
+     * options, and do not change the options of the current thread afterward. Threads only take a prelaunched browser
+     * if their browser and options are the same, so the options must be set the same way as in the tests.
+     *
+     * <pre>{@code
+     * @BeforeSuite
+     * public void prelaunchBrowsers() {
+     *     Selentic.enableHeadless();
+     *     Selentic.prelaunch(4);  // Same as the thread count of the suite.
+     *     Selentic.quit();        // Clears the options of this thread. No browser is taken from the pool.
+     * }
+     * }</pre>
+     *
+     * @param count number of browsers to start
+     * @see #prelaunch()
+     */
+    public static void prelaunch(int count) {
+        context().prelaunch(count);
+    }
+
+    /**
+     * Starts the number of browsers set by {@code session-pool.prelaunch} in {@code selentic.conf} in the background,
+     * with the browser and options of the current thread. Nothing happens if the value is 0.
+     *
+     * <pre>{@code
+     * @BeforeSuite
+     * public void prelaunchBrowsers() {
+     *     Selentic.enableHeadless();
+     *     Selentic.prelaunch();
+     *     Selentic.quit();
+     * }
+     * }</pre>
+     *
+     * @see #prelaunch(int)
+     * @see SelenticConfig#sessionPoolPrelaunch()
+     */
+    public static void prelaunch() {
+        final int count = SelenticConfig.config().sessionPoolPrelaunch();
+
+        if (count > 0) {
+            prelaunch(count);
+        }
+    }
+
+    /**
+     * Saves the cookies, localStorage, and sessionStorage of the current origin under the name, so that tests can
+     * start logged in with {@link #restoreState(String)} instead of logging in through the UI.
+     *
+     * <p>
+     * The state is kept in memory for the whole run and shared by all threads, so each user logs in once per run.
+     * It is also written as JSON to the {@code state} directory under the log directory.
+     *
+     * <p>
+     * <strong>Usage Example:</strong>
+     * <pre>{@code
+     * if (!Selentic.restoreState("alice")) {
+     *     Selentic.open("https://example.com/login");
+     *     ScPage.with(LoginPage.class).inPage(p -> p.login("alice"));
+     *     Selentic.saveState("alice");
+     * }
+     * Selentic.open("https://example.com/dashboard");
+     * }</pre>
+     *
+     * @param name state name, e.g., the user that is logged in
+     * @see #restoreState(String)
+     */
+    public static void saveState(@NonNull String name) {
+        ScBrowserState.save(name, driver());
+    }
+
+    /**
+     * Restores the cookies, localStorage, and sessionStorage saved with {@link #saveState(String)} into the browser of
+     * the current thread. Call it before navigating to the page under test, in a new browser or a browser reset by
+     * the session pool.
+     *
+     * <p>
+     * If the browser is not on the origin of the saved state, {@code /favicon.ico} of the origin is loaded first,
+     * since cookies and storage can only be written for the current origin. Expired cookies are not restored.
+     *
+     * @param name state name
+     * @return true if the state was restored; false if no state has been saved under the name
+     * @see #saveState(String)
+     */
+    public static boolean restoreState(@NonNull String name) {
+        return ScBrowserState.restore(name, driver());
+    }
+
+    /**
+     * Waits until the browser has no network request in flight for 500 milliseconds.
+     *
+     * @see #waitForNetworkIdle(long, int)
+     */
+    public static void waitForNetworkIdle() {
+        waitForNetworkIdle(DEFAULT_NETWORK_QUIET_MILLISECONDS, 0);
+    }
+
+    /**
+     * Waits until the browser has no more than {@code maxInFlight} network requests in flight, and no request has
+     * started or finished for {@code quietMilliseconds}.
+     *
+     * <p>
+     * For Chrome and Edge, requests are tracked through DevTools from the moment the web driver starts, so all requests
+     * (document, scripts, images, fetch/XHR, and requests from workers) are covered. Server-sent event streams are
+     * ignored. For other browsers, only fetch/XHR requests issued by the current document after the request tracker
+     * has been installed are covered. The tracker is installed when a page is entered, or by the first call of this
+     * method in the document.
+     *
+     * <p>
+     * This is useful after an action that triggers background requests, such as typing into a search box that fetches
+     * suggestions.
+     *
+     * <p>
+     * <strong>Usage Example:</strong>
+     * <pre>{@code
+     * p.searchTextbox().enterText("Selenium");
+     * Selentic.waitForNetworkIdle(300, 0);
+     * }</pre>
+     *
+     * @param quietMilliseconds duration without network activity
+     * @param maxInFlight maximum number of in-flight requests to still consider the network idle (e.g., long polling)
+     * @throws ScWaitTimeoutException if the network does not become idle within the wait timeout in {@link SelenticConfig}
+     * @see #waitForNetworkIdle()
+     */
+    public static void waitForNetworkIdle(long quietMilliseconds, int maxInFlight) {
+        final ScNetworkMonitor networkMonitor = networkMonitor();
+        final long timeout = SelenticConfig.config().waitTimeoutMilliseconds();
+
+        if (networkMonitor != null) {
+            networkMonitor.waitForIdle(quietMilliseconds, maxInFlight, timeout);
+        } else {
+            withScriptTimeout(timeout, () -> {
+                ScNetworkMonitor.waitForInPageIdle(driver(), quietMilliseconds, maxInFlight, timeout);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Pauses the virtual time of the browser (Chrome and Edge only).
+     *
+     * <p>
+     * Once paused, timers in the page ({@code setTimeout}, {@code setInterval}, {@code requestAnimationFrame}) only
+     * progress when the virtual time is advanced with {@link #advanceVirtualTime(long)} or
+     * {@link #runVirtualTimeUntilIdle()}. This turns multi-second timer waits (debounced inputs, auto-hiding toasts,
+     * polling widgets) into milliseconds, and makes them deterministic.
+     *
+     * <p>
+     * Virtual time stays in control of the browser tab until the web driver quits, so use it in test classes that
+     * are written for it.
+     *
+     * <p>
+     * <strong>Usage Example:</strong>
+     * <pre>{@code
+     * Selentic.pauseVirtualTime();
+     * p.searchTextbox().enterText("Selenium");
+     * Selentic.advanceVirtualTime(300);       // Debounce timer fires without waiting 300 ms.
+     * Selentic.runVirtualTimeUntilIdle();     // Any remaining timeouts (e.g., toast auto-hide) run.
+     * }</pre>
+     *
+     * @throws ScUnsupportedBrowserException if the browser is not Chrome or Edge
+     * @see #advanceVirtualTime(long)
+     * @see #runVirtualTimeUntilIdle()
+     */
+    public static void pauseVirtualTime() {
+        context().virtualTime().pause();
+    }
+
+    /**
+     * Advances the virtual time of the browser by the given duration, then pauses it again (Chrome and Edge only).
+     *
+     * <p>
+     * Timers due within the duration run as fast as the browser can execute them. While network requests are pending,
+     * virtual time does not advance, so responses are handled before the timers that depend on them.
+     *
+     * @param milliseconds virtual time to advance
+     * @throws ScUnsupportedBrowserException if the browser is not Chrome or Edge
+     * @throws ScWaitTimeoutException if the browser does not advance within the wait timeout in {@link SelenticConfig}
+     * @see #pauseVirtualTime()
+     */
+    public static void advanceVirtualTime(long milliseconds) {
+        context().virtualTime().advance(milliseconds, SelenticConfig.config().waitTimeoutMilliseconds());
+    }
+
+    /**
+     * Advances the virtual time of the browser until no {@code setTimeout} callback is pending in the page, then
+     * pauses it (Chrome and Edge only).
+     *
+     * <p>
+     * Intervals ({@code setInterval}) are not considered, since they never finish. Timeouts scheduled in the current
+     * document before virtual time was first used are not tracked.
+     *
+     * @throws ScUnsupportedBrowserException if the browser is not Chrome or Edge
+     * @throws ScWaitTimeoutException if timeouts are still pending after the wait timeout in {@link SelenticConfig}
+     * @see #pauseVirtualTime()
+     * @see #advanceVirtualTime(long)
+     */
+    public static void runVirtualTimeUntilIdle() {
+        context().virtualTime().runUntilIdle(SelenticConfig.config().waitTimeoutMilliseconds());
+    }
+
+    /**
+     * Returns true if the virtual time of the browser for the current thread is paused.
+     *
+     * @return true if virtual time is paused
+     * @see #pauseVirtualTime()
+     */
+    static boolean isVirtualTimePaused() {
+        return context().isVirtualTimePaused();
+    }
+
+    /**
+     * Runs the action, making sure that an asynchronous script started by it can run for the given duration before
+     * the web driver times it out.
+     * <p>
+     * The script timeout of the session is read once, and kept by the context. It is only raised when it is shorter
+     * than needed, and the previous value is restored after the action, so that {@link #executeAsyncScript(String,
+     * Object...)} keeps the timeout set by the test. With the default script timeout of WebDriver (30 seconds), no
+     * command is sent.
+     *
+     * @param durationMilliseconds how long the asynchronous script may keep running
+     * @param action action that executes the asynchronous script
+     * @param <T> result type
+     * @return the result of the action
+     */
+    static <T> T withScriptTimeout(long durationMilliseconds, @NonNull Supplier<T> action) {
+        final SelenticWebDriverContext context = context();
+        final long previous = context.raiseScriptTimeout(durationMilliseconds + SCRIPT_TIMEOUT_MARGIN_MILLISECONDS);
+
+        try {
+            return action.get();
+        } finally {
+            if (previous >= 0) {
+                context.restoreScriptTimeout(previous);
+            }
+        }
+    }
+
+    /**
+     * Returns the network monitor for the current thread.
+     *
+     * @return network monitor, or null if the browser does not support DevTools network tracking
+     */
+    static @Nullable ScNetworkMonitor networkMonitor() {
+        return context().networkMonitor();
+    }
+
     /**
      * Executes JavaScript code in the browser context.
      *
@@ -640,6 +1097,11 @@ public final class Selentic {
      * @return a context
      */
     private static @NonNull SelenticWebDriverContext context() {
+        final ScSession session = ScSession.bound();
+
+        if (session != null) {
+            return session.context();
+        }
         return ScNullCheck.requiresNonNull(CONTEXT.get(), SelenticWebDriverContext.class);
     }
 }
\ No newline at end of file
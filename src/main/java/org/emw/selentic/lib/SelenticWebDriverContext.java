@@ -2,22 +2,48 @@ package org.emw.selentic.lib;
 
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.emw.selentic.lib.config.SelenticConfig;
+import org.emw.selentic.lib.exception.ScUnsupportedBrowserException;
+import org.emw.selentic.lib.util.ScNullCheck;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.safari.SafariDriver;
 import org.openqa.selenium.support.events.EventFiringDecorator;
 import org.openqa.selenium.support.events.WebDriverListener;
 
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
 public final class SelenticWebDriverContext {
     private final ScWebDriverOptions webDriverOptions = new ScWebDriverOptions();
     private @NonNull ScBrowser browser = SelenticConfig.config().browser();
-    private @MonotonicNonNull WebDriver driver;
+    private @Nullable WebDriver driver;
+    private @Nullable ScBrowserSession session;
     private @MonotonicNonNull WebDriverListener webDriverListener;
+    private final List<String> blockedUrls = new ArrayList<>(SelenticConfig.config().blockedUrls());
+    private boolean optionsPrepared = false;
 
-    SelenticWebDriverContext() {}
+    /**
+     * Guards the state of this context. A lock is used rather than synchronized methods, so that a virtual thread
+     * using the context does not pin its carrier thread. The browser is started without holding the lock; other
+     * threads that need the web driver meanwhile wait for {@link #started}.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition started = this.lock.newCondition();
+    private boolean starting = false;
+
+    /**
+     * Script timeout of the web driver as last read or set by this context, or -1 if it has not been read yet.
+     */
+    private long scriptTimeoutMilliseconds = -1;
+
+    SelenticWebDriverContext() {
+        this.webDriverOptions.useProfileTemplate(SelenticConfig.config().profileTemplateDir());
+    }
 
     /**
      * Allows setting browser. This overrides values set in {@link SelenticConfig}.
@@ -34,8 +60,13 @@ public final class SelenticWebDriverContext {
      * @see Selentic#open(String)
      * @see Selentic#open()
      */
-    synchronized void setBrowser(@NonNull ScBrowser browser) {
-        this.browser = browser;
+    void setBrowser(@NonNull ScBrowser browser) {
+        this.lock.lock();
+        try {
+            this.browser = browser;
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
@@ -47,8 +78,13 @@ public final class SelenticWebDriverContext {
      *
      * @see #setBrowser(ScBrowser)
      */
-    synchronized @NonNull ScBrowser browser() {
-        return this.browser;
+    @NonNull ScBrowser browser() {
+        this.lock.lock();
+        try {
+            return this.browser;
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
@@ -62,8 +98,9 @@ public final class SelenticWebDriverContext {
      *
      *
      * <p>
-     * <strong>Thread Safety:</strong> This method is synchronized to ensure thread-safe access.
-     * Multiple threads can safely call this method concurrently, each receiving their own driver instance.
+     * <strong>Thread Safety:</strong> The state of the context is guarded by a lock, which is not held while the
+     * browser starts. Threads sharing the context wait for the browser that is being started, rather than starting
+     * another one.
      *
      *
      * <p>
@@ -87,31 +124,345 @@ public final class SelenticWebDriverContext {
      * @see Selentic#driver()
      * @see ScBrowser
      */
-    synchronized @NonNull WebDriver driver() {
-        if (this.driver == null) {
+    @NonNull WebDriver driver() {
+        final ScBrowser browser;
+
+        this.lock.lock();
+        try {
+            // Another thread sharing this context may be starting the browser.
+            while (this.starting) {
+                this.started.awaitUninterruptibly();
+            }
+            if (this.driver != null) {
+                return this.driver;
+            }
+            this.prepareOptions();
+            this.starting = true;
+            browser = this.browser;
+        } finally {
+            this.lock.unlock();
+        }
+
+        // Starting a browser, or waiting for a prelaunched one, takes seconds. It is done without holding the lock.
+        ScBrowserSession session = null;
+        WebDriver driver = null;
+
+        try {
+            final ScSessionPool pool = ScSessionPool.pool();
+
+            session = pool.isEnabled() ? pool.lease(browser, webDriverOptions) : ScBrowserSession.start(browser, webDriverOptions);
+        } finally {
+            this.lock.lock();
+            try {
+                this.starting = false;
+                if (session != null) {
+                    driver = this.attach(session);
+                }
+                this.started.signalAll();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+        return ScNullCheck.requiresNonNull(driver, WebDriver.class);
+    }
+
+    /**
+     * Makes the session the web driver of this context. Must be called while holding the lock.
+     *
+     * @param session started or leased session
+     * @return the web driver of this context
+     */
+    private @NonNull WebDriver attach(@NonNull ScBrowserSession session) {
+        WebDriver driver = session.driver();
+
+        this.session = session;
+        if (!this.blockedUrls.isEmpty()) {
+            ScResourceBlocker.apply(driver, this.blockedUrls);
+        }
+
+        // Add listener class, if available.
+        if (webDriverListener != null) {
+            driver = new EventFiringDecorator<>(webDriverListener).decorate(driver);
+        }
+        this.driver = driver;
+        return driver;
+    }
+
+    /**
+     * Starts browsers in the background with the browser and options of this context, and keeps them in the session
+     * pool for threads that start a web driver with the same browser and options.
+     *
+     * @param count number of browsers to start
+     *
+     * @see Selentic#prelaunch(int)
+     * @see ScSessionPool#prelaunch(ScBrowser, ScWebDriverOptions, int)
+     */
+    void prelaunch(int count) {
+        this.lock.lock();
+        try {
+            this.prepareOptions();
+            ScSessionPool.pool().prelaunch(this.browser, this.webDriverOptions, count);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Applies configuration values and preferences to the web driver options. It is done once per context, so that
+     * arguments are not added twice.
+     */
+    private void prepareOptions() {
+        if (!this.optionsPrepared) {
             if (SelenticConfig.config().isHeadless()) {
-                Selentic.enableHeadless();
+                this.enableHeadless();
+            }
+            if (SelenticConfig.config().isAnimationAccelerated()) {
+                this.enableAnimationAcceleration();
+            }
+            if (SelenticConfig.config().browserProfile() == ScBrowserProfile.Throughput) {
+                this.enableThroughputProfile(SelenticConfig.config().isImageLoadingDisabled());
             }
             // Set preferences.
             webDriverOptions.chromeOptions().setExperimentalOption("prefs", webDriverOptions.chromePrefs());
             webDriverOptions.edgeOptions().setExperimentalOption("prefs", webDriverOptions.edgePrefs());
             webDriverOptions.firefoxOptions().addPreference("browser.helperApps.neverAsk.saveToDisk", String.join(",", webDriverOptions.firefoxNeverAskToSaveMimeTypes()));
+            this.optionsPrepared = true;
+        }
+    }
 
-            WebDriver driver = switch (browser) {
-                case Chrome -> new ChromeDriver(webDriverOptions.chromeOptions());
-                case Edge -> new EdgeDriver(webDriverOptions.edgeOptions());
-                case Firefox -> new FirefoxDriver(webDriverOptions.firefoxOptions());
-                case Safari -> new SafariDriver(webDriverOptions.safariOptions());
-            };
+    /**
+     * Ends the use of the web driver for this thread context. The browser is quit, or returned to the session pool if
+     * the pool is enabled. Nothing happens if the web driver has not been started. If the context is used again, a
+     * new web driver is started with the same browser and options.
+     *
+     * @see Selentic#quit()
+     * @see ScSessionPool
+     */
+    void quit() {
+        final ScBrowserSession session;
 
-            // Add listener class, if available.
-            if (webDriverListener != null) {
-                driver = new EventFiringDecorator<>(webDriverListener).decorate(driver);
+        this.lock.lock();
+        try {
+            session = this.session;
+            if (session == null || this.driver == null) {
+                return;
             }
-            this.driver = driver;
-            return driver;
+            // A new browser is started with the same options if the context is used again.
+            this.session = null;
+            this.driver = null;
+            this.scriptTimeoutMilliseconds = -1;
+        } finally {
+            this.lock.unlock();
+        }
+        // Resetting or quitting the browser is done without holding the lock.
+        if (ScSessionPool.pool().isEnabled()) {
+            ScSessionPool.pool().release(session);
         } else {
-            return this.driver;
+            session.quit();
+        }
+    }
+
+    /**
+     * Raises the script timeout of the web driver if it is shorter than required. The web driver is started if it is
+     * not running yet. The timeout is read from the web driver only the first time, and kept afterward.
+     *
+     * @param requiredMilliseconds script timeout needed
+     * @return the previous timeout if it was raised, or -1 if it was already long enough
+     * @see Selentic#withScriptTimeout(long, java.util.function.Supplier)
+     */
+    long raiseScriptTimeout(long requiredMilliseconds) {
+        final WebDriver.Timeouts timeouts = this.driver().manage().timeouts();
+
+        this.lock.lock();
+        try {
+            if (this.scriptTimeoutMilliseconds < 0) {
+                this.scriptTimeoutMilliseconds = timeouts.getScriptTimeout().toMillis();
+            }
+            if (this.scriptTimeoutMilliseconds >= requiredMilliseconds) {
+                return -1;
+            }
+
+            final long previous = this.scriptTimeoutMilliseconds;
+
+            timeouts.scriptTimeout(Duration.ofMillis(requiredMilliseconds));
+            this.scriptTimeoutMilliseconds = requiredMilliseconds;
+            return previous;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Sets the script timeout back to the value returned by {@link #raiseScriptTimeout(long)}. Nothing happens if the
+     * web driver has quit in the meantime.
+     *
+     * @param previousMilliseconds script timeout to restore
+     */
+    void restoreScriptTimeout(long previousMilliseconds) {
+        this.lock.lock();
+        try {
+            if (this.driver != null) {
+                this.driver.manage().timeouts().scriptTimeout(Duration.ofMillis(previousMilliseconds));
+                this.scriptTimeoutMilliseconds = previousMilliseconds;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Adds URL patterns to block in the browser of this thread context. If the web driver is running, blocking is
+     * applied right away.
+     *
+     * @param patterns URL patterns to block
+     * @see Selentic#blockUrls(String...)
+     */
+    void blockUrls(@NonNull String... patterns) {
+        this.lock.lock();
+        try {
+            this.blockedUrls.addAll(Arrays.asList(patterns));
+            if (this.session != null) {
+                ScResourceBlocker.apply(this.session.driver(), this.blockedUrls);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Sets the profile template directory for the browser of this thread context. This overrides the value set in
+     * {@link SelenticConfig}.
+     * <p>
+     * This must be called before starting the web driver.
+     *
+     * @param directory profile template directory, or null to start with a new profile
+     * @see Selentic#useProfileTemplate(File)
+     */
+    void useProfileTemplate(@Nullable File directory) {
+        this.lock.lock();
+        try {
+            webDriverOptions.useProfileTemplate(directory);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Enables headless mode for this thread context.
+     * <p>
+     * This must be called before starting the web driver.
+     *
+     * @see Selentic#enableHeadless()
+     */
+    void enableHeadless() {
+        this.lock.lock();
+        try {
+            webDriverOptions.enableHeadless();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Applies the throughput profile to the browser options of this thread context.
+     * <p>
+     * This must be called before starting the web driver.
+     *
+     * @param disableImages true to not load images
+     * @see Selentic#enableThroughputProfile(boolean)
+     */
+    void enableThroughputProfile(boolean disableImages) {
+        this.lock.lock();
+        try {
+            webDriverOptions.enableThroughputProfile(disableImages);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Enables animation acceleration for this thread context. This overrides values set in {@link SelenticConfig}.
+     * <p>
+     * This must be called before starting the web driver.
+     *
+     * @see Selentic#enableAnimationAcceleration()
+     */
+    void enableAnimationAcceleration() {
+        this.lock.lock();
+        try {
+            webDriverOptions.enableAnimationAcceleration();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns true if the animation acceleration script has to be executed each time a page is entered, because the
+     * browser cannot run it on every new document.
+     *
+     * @return true if the script is executed per page
+     */
+    boolean isAnimationScriptPerPage() {
+        this.lock.lock();
+        try {
+            return this.session != null && this.session.isAnimationScriptPerPage();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the virtual time control of the web driver for this thread context. The web driver is started if it is
+     * not running yet.
+     *
+     * @return virtual time control
+     * @throws ScUnsupportedBrowserException if the browser does not support virtual time
+     *
+     * @see Selentic#advanceVirtualTime(long)
+     */
+    @NonNull ScVirtualTime virtualTime() {
+        return this.session().virtualTime();
+    }
+
+    /**
+     * Returns true if the virtual time of the web driver for this thread context is paused. The web driver is not
+     * started by this method.
+     *
+     * @return true if virtual time is paused
+     */
+    boolean isVirtualTimePaused() {
+        this.lock.lock();
+        try {
+            return this.session != null && this.session.isVirtualTimePaused();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the network monitor of the web driver for this thread context. The web driver is started if it is not
+     * running yet.
+     *
+     * @return network monitor, or null if the browser does not support DevTools network tracking
+     *
+     * @see Selentic#waitForNetworkIdle(long, int)
+     */
+    @Nullable ScNetworkMonitor networkMonitor() {
+        return this.session().networkMonitor();
+    }
+
+    /**
+     * Returns the session of this context. The web driver is started if it is not running yet.
+     *
+     * @return current session
+     */
+    private @NonNull ScBrowserSession session() {
+        this.driver();
+        this.lock.lock();
+        try {
+            return ScNullCheck.requiresNonNull(this.session, ScBrowserSession.class);
+        } finally {
+            this.lock.unlock();
         }
     }
 
@@ -150,8 +501,13 @@ public final class SelenticWebDriverContext {
      * @see #withFirefoxOptions(ScWebDriverOptions.FirefoxOptionSetup)
      * @see #withEdgeOptions(ScWebDriverOptions.EdgeOptionSetup)
      */
-    synchronized void withChromeOptions(ScWebDriverOptions.@NonNull ChromeOptionSetup optionSetup) {
-        optionSetup.options(webDriverOptions.chromeOptions(), webDriverOptions.chromePrefs());
+    void withChromeOptions(ScWebDriverOptions.@NonNull ChromeOptionSetup optionSetup) {
+        this.lock.lock();
+        try {
+            optionSetup.options(webDriverOptions.chromeOptions(), webDriverOptions.chromePrefs());
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
@@ -185,8 +541,13 @@ public final class SelenticWebDriverContext {
      * @see #withChromeOptions(ScWebDriverOptions.ChromeOptionSetup)
      * @see #withEdgeOptions(ScWebDriverOptions.EdgeOptionSetup)
      */
-    synchronized void withFirefoxOptions(ScWebDriverOptions.@NonNull FirefoxOptionSetup optionSetup) {
-        optionSetup.options(webDriverOptions.firefoxOptions(), webDriverOptions.firefoxNeverAskToSaveMimeTypes());
+    void withFirefoxOptions(ScWebDriverOptions.@NonNull FirefoxOptionSetup optionSetup) {
+        this.lock.lock();
+        try {
+            optionSetup.options(webDriverOptions.firefoxOptions(), webDriverOptions.firefoxNeverAskToSaveMimeTypes());
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
@@ -221,8 +582,13 @@ public final class SelenticWebDriverContext {
      * @see #withChromeOptions(ScWebDriverOptions.ChromeOptionSetup)
      * @see #withFirefoxOptions(ScWebDriverOptions.FirefoxOptionSetup)
      */
-    synchronized void withEdgeOptions(ScWebDriverOptions.@NonNull EdgeOptionSetup optionSetup) {
-        optionSetup.options(webDriverOptions.edgeOptions(), webDriverOptions.edgePrefs());
+    void withEdgeOptions(ScWebDriverOptions.@NonNull EdgeOptionSetup optionSetup) {
+        this.lock.lock();
+        try {
+            optionSetup.options(webDriverOptions.edgeOptions(), webDriverOptions.edgePrefs());
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
@@ -250,8 +616,13 @@ public final class SelenticWebDriverContext {
      * @see #withChromeOptions(ScWebDriverOptions.ChromeOptionSetup)
      * @see #withFirefoxOptions(ScWebDriverOptions.FirefoxOptionSetup)
      */
-    synchronized void withSafariOptions(ScWebDriverOptions.@NonNull SafariOptionSetup optionSetup) {
-        optionSetup.options(webDriverOptions.safariOptions());
+    void withSafariOptions(ScWebDriverOptions.@NonNull SafariOptionSetup optionSetup) {
+        this.lock.lock();
+        try {
+            optionSetup.options(webDriverOptions.safariOptions());
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
@@ -289,8 +660,13 @@ public final class SelenticWebDriverContext {
      * @see WebDriverListener
      * @see Selentic#driver()
      */
-    synchronized void setWebDriverListener(@NonNull WebDriverListener listener) {
-        this.webDriverListener = listener;
+    void setWebDriverListener(@NonNull WebDriverListener listener) {
+        this.lock.lock();
+        try {
+            this.webDriverListener = listener;
+        } finally {
+            this.lock.unlock();
+        }
     }
 
 }
@@ -7,10 +7,12 @@ import com.typesafe.config.ConfigFactory;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.emw.selentic.lib.ScBrowser;
+import org.emw.selentic.lib.ScBrowserProfile;
 import org.emw.selentic.lib.util.ScLogHandler;
 import org.slf4j.Logger;
 
 import java.io.File;
+import java.util.List;
 
 /**
  * {@code SelenticConfig} is a singleton configuration class that manages all global configuration settings.
@@ -42,6 +44,39 @@ import java.io.File;
  * // Wait timeout in milliseconds
  * wait-timeout-millisec = 5000
  *
+ * // Speed up CSS/Web animations in the browser
+ * accelerate-animations = false
+ *
+ * // Browser performance profile
+ * browser-profile = "default"  // Options: default, throughput
+ * disable-images = false       // Do not load images with the throughput profile
+ *
+ * // URL patterns to block in Chrome and Edge ('*' matches any characters)
+ * blocked-urls = []             // e.g., ["*google-analytics.com*", "*.woff2"]
+ *
+ * // Rewrite XPath selectors as CSS selectors where equivalent (browsers evaluate CSS faster)
+ * optimize-xpath = true
+ *
+ * // Resolve the selectors declared by a page in one script when entering the page
+ * warm-up-pages = false
+ *
+ * // Time each selector in the browser and write log/selector-profile.txt at the end of the run
+ * profile-selectors = false
+ *
+ * // Profile directory copied for each browser session (warm HTTP cache and preferences)
+ * profile-template-dir = ""     // Default is none. A new profile is created for each browser.
+ *
+ * // Keep browsers running between tests
+ * session-pool {
+ *     enabled = false          // Reuse browsers instead of quitting them
+ *     max-idle = 4             // Maximum number of idle browsers kept
+ *     max-reuse = 20           // Browser is quit after being used by this many tests
+ *     idle-timeout-sec = 300   // Idle browser is quit after this duration
+ *     prelaunch = 0            // Browsers started in the background by Selentic.prelaunch() (e.g., thread count)
+ *     max-heap-mb = 512        // Browser is quit when its JavaScript heap exceeds this size (0 = no limit)
+ *     max-latency-factor = 3.0 // Browser is quit when its command latency degrades by this factor (0 = no limit)
+ * }
+ *
  * // Logging configuration
  * log {
  *     root-dir = ""              // Default is $user.dir/log. Directory where logs are stored.
@@ -56,6 +91,21 @@ import java.io.File;
  *   <li><strong>browser:</strong> Chrome</li>
  *   <li><strong>headless:</strong> false</li>
  *   <li><strong>wait-timeout-millisec:</strong> 5000 (5 seconds)</li>
+ *   <li><strong>accelerate-animations:</strong> false</li>
+ *   <li><strong>browser-profile:</strong> default</li>
+ *   <li><strong>disable-images:</strong> false</li>
+ *   <li><strong>blocked-urls:</strong> [] (nothing blocked)</li>
+ *   <li><strong>optimize-xpath:</strong> true</li>
+ *   <li><strong>warm-up-pages:</strong> false</li>
+ *   <li><strong>profile-selectors:</strong> false</li>
+ *   <li><strong>profile-template-dir:</strong> "" (no template)</li>
+ *   <li><strong>session-pool.enabled:</strong> false</li>
+ *   <li><strong>session-pool.max-idle:</strong> 4</li>
+ *   <li><strong>session-pool.max-reuse:</strong> 20</li>
+ *   <li><strong>session-pool.idle-timeout-sec:</strong> 300 (5 minutes)</li>
+ *   <li><strong>session-pool.prelaunch:</strong> 0 (no prelaunch)</li>
+ *   <li><strong>session-pool.max-heap-mb:</strong> 512</li>
+ *   <li><strong>session-pool.max-latency-factor:</strong> 3.0</li>
  *   <li><strong>log.root-dir:</strong> {@code {user.dir}/log}</li>
  *   <li><strong>log.root-log-level:</strong> INFO</li>
  *   <li><strong>log.selentic-log-level:</strong> DEBUG</li>
@@ -82,6 +132,21 @@ public class SelenticConfig {
     private ScBrowser browser = ScBrowser.Chrome;
     private boolean headless = false;
     private long waitTimeoutMilliseconds = 5000;
+    private boolean animationAccelerated = false;
+    private ScBrowserProfile browserProfile = ScBrowserProfile.Default;
+    private boolean imageLoadingDisabled = false;
+    private List<String> blockedUrls = List.of();
+    private boolean xpathOptimized = true;
+    private boolean pageWarmUpEnabled = false;
+    private boolean selectorProfiled = false;
+    private @Nullable File profileTemplateDir = null;
+    private boolean sessionPoolEnabled = false;
+    private int sessionPoolMaxIdle = 4;
+    private int sessionPoolMaxReuse = 20;
+    private long sessionPoolIdleTimeoutSeconds = 300;
+    private int sessionPoolPrelaunch = 0;
+    private long sessionPoolMaxHeapMegabytes = 512;
+    private double sessionPoolMaxLatencyFactor = 3.0;
     private Level rootLogLevel = Level.INFO;
     private Level selenticLogLevel = Level.DEBUG;
     private long keepLogDurationMinutes = 0;
@@ -132,6 +197,23 @@ public class SelenticConfig {
                     browser = '{}'
                     headless = {}
                     wait-timeout-millisec = {}
+                    accelerate-animations = {}
+                    browser-profile = '{}'
+                    disable-images = {}
+                    blocked-urls = {}
+                    optimize-xpath = {}
+                    warm-up-pages = {}
+                    profile-selectors = {}
+                    profile-template-dir = '{}'
+                    session-pool {
+                        enabled = {}
+                        max-idle = {}
+                        max-reuse = {}
+                        idle-timeout-sec = {}
+                        prelaunch = {}
+                        max-heap-mb = {}
+                        max-latency-factor = {}
+                    }
                     log {
                         root-dir = '{}'
                         root-log-level = '{}'
@@ -139,7 +221,7 @@ public class SelenticConfig {
                         keep-duration-min = {}
                     }
 
-                    """, this.browser.toString().toLowerCase(), this.headless, this.waitTimeoutMilliseconds, parseDir(this.logRootDir.getAbsolutePath()), this.rootLogLevel.toString().toUpperCase(), this.selenticLogLevel.toString().toUpperCase(), this.keepLogDurationMinutes);
+                    """, this.browser.toString().toLowerCase(), this.headless, this.waitTimeoutMilliseconds, this.animationAccelerated, this.browserProfile.toString().toLowerCase(), this.imageLoadingDisabled, this.blockedUrls, this.xpathOptimized, this.pageWarmUpEnabled, this.selectorProfiled, this.profileTemplateDir == null ? "" : parseDir(this.profileTemplateDir.getAbsolutePath()), this.sessionPoolEnabled, this.sessionPoolMaxIdle, this.sessionPoolMaxReuse, this.sessionPoolIdleTimeoutSeconds, this.sessionPoolPrelaunch, this.sessionPoolMaxHeapMegabytes, this.sessionPoolMaxLatencyFactor, parseDir(this.logRootDir.getAbsolutePath()), this.rootLogLevel.toString().toUpperCase(), this.selenticLogLevel.toString().toUpperCase(), this.keepLogDurationMinutes);
         }
     }
 
@@ -149,7 +231,8 @@ public class SelenticConfig {
      * @param config the {@link Config} object containing configuration properties
      */
     private void loadFromFile(@Nullable Config config) {
-        int defaultConfigCount = 0;
+        // Keys read from the configuration. The template is logged when none is configured.
+        int configuredCount = 0;
 
         if (config == null) {
             return;
@@ -159,18 +242,18 @@ public class SelenticConfig {
             this.browser = ScBrowser.toEnum(config.getString("browser"));
 
             LOG.info("browser = '{}'", this.browser.toString().toLowerCase());
+            configuredCount++;
         } catch (ConfigException ex) {
             LOG.info("browser = '{}' (default)", this.browser.toString().toLowerCase());
-            defaultConfigCount++;
         }
 
         try {
             this.headless = config.getBoolean("headless");
 
             LOG.info("headless = '{}'", this.headless);
+            configuredCount++;
         } catch (ConfigException ex) {
             LOG.info("headless = '{}' (default)", this.headless);
-            defaultConfigCount++;
         }
 
         try {
@@ -178,9 +261,157 @@ public class SelenticConfig {
 
             this.waitTimeoutMilliseconds = timeoutMilliseconds < 0 ? 0 : timeoutMilliseconds;
             LOG.info("wait-timeout-millisec = {}", this.waitTimeoutMilliseconds);
+            configuredCount++;
         } catch (ConfigException ex) {
             LOG.info("wait-timeout-millisec = {} (default)", this.waitTimeoutMilliseconds);
-            defaultConfigCount++;
+        }
+
+        try {
+            this.animationAccelerated = config.getBoolean("accelerate-animations");
+
+            LOG.info("accelerate-animations = '{}'", this.animationAccelerated);
+            configuredCount++;
+        } catch (ConfigException ex) {
+            LOG.info("accelerate-animations = '{}' (default)", this.animationAccelerated);
+        }
+
+        try {
+            this.browserProfile = ScBrowserProfile.toEnum(config.getString("browser-profile"));
+
+            LOG.info("browser-profile = '{}'", this.browserProfile.toString().toLowerCase());
+            configuredCount++;
+        } catch (ConfigException ex) {
+            LOG.info("browser-profile = '{}' (default)", this.browserProfile.toString().toLowerCase());
+        }
+
+        try {
+            this.imageLoadingDisabled = config.getBoolean("disable-images");
+
+            LOG.info("disable-images = '{}'", this.imageLoadingDisabled);
+            configuredCount++;
+        } catch (ConfigException ex) {
+            LOG.info("disable-images = '{}' (default)", this.imageLoadingDisabled);
+        }
+
+        try {
+            this.blockedUrls = List.copyOf(config.getStringList("blocked-urls"));
+
+            LOG.info("blocked-urls = {}", this.blockedUrls);
+            configuredCount++;
+        } catch (ConfigException ex) {
+            LOG.info("blocked-urls = {} (default)", this.blockedUrls);
+        }
+
+        try {
+            this.xpathOptimized = config.getBoolean("optimize-xpath");
+
+            LOG.info("optimize-xpath = '{}'", this.xpathOptimized);
+            configuredCount++;
+        } catch (ConfigException ex) {
+            LOG.info("optimize-xpath = '{}' (default)", this.xpathOptimized);
+        }
+
+        try {
+            this.pageWarmUpEnabled = config.getBoolean("warm-up-pages");
+
+            LOG.info("warm-up-pages = '{}'", this.pageWarmUpEnabled);
+            configuredCount++;
+        } catch (ConfigException ex) {
+            LOG.info("warm-up-pages = '{}' (default)", this.pageWarmUpEnabled);
+        }
+
+        try {
+            this.selectorProfiled = config.getBoolean("profile-selectors");
+
+            LOG.info("profile-selectors = '{}'", this.selectorProfiled);
+            configuredCount++;
+        } catch (ConfigException ex) {
+            LOG.info("profile-selectors = '{}' (default)", this.selectorProfiled);
+        }
+
+        try {
+            final String profileTemplateDir = config.getString("profile-template-dir").trim();
+
+            if (profileTemplateDir.isEmpty()) {
+                this.profileTemplateDir = null;
+            } else if (!new File(profileTemplateDir).isDirectory()) {
+                LOG.warn("'profile-template-dir' was invalid in selentic.conf file. No profile template is used.");
+            } else {
+                this.profileTemplateDir = new File(profileTemplateDir);
+            }
+            LOG.info("profile-template-dir = '{}'", this.profileTemplateDir == null ? "" : parseDir(this.profileTemplateDir.getAbsolutePath()));
+            configuredCount++;
+        } catch (ConfigException ex) {
+            LOG.info("profile-template-dir = '' (default)");
+        }
+
+        try {
+            this.sessionPoolEnabled = config.getBoolean("session-pool.enabled");
+
+            LOG.info("session-pool.enabled = '{}'", this.sessionPoolEnabled);
+            configuredCount++;
+        } catch (ConfigException ex) {
+            LOG.info("session-pool.enabled = '{}' (default)", this.sessionPoolEnabled);
+        }
+
+        try {
+            final int maxIdle = config.getInt("session-pool.max-idle");
+
+            this.sessionPoolMaxIdle = maxIdle < 0 ? 0 : maxIdle;
+            LOG.info("session-pool.max-idle = {}", this.sessionPoolMaxIdle);
+            configuredCount++;
+        } catch (ConfigException ex) {
+            LOG.info("session-pool.max-idle = {} (default)", this.sessionPoolMaxIdle);
+        }
+
+        try {
+            final int maxReuse = config.getInt("session-pool.max-reuse");
+
+            this.sessionPoolMaxReuse = maxReuse < 1 ? 1 : maxReuse;
+            LOG.info("session-pool.max-reuse = {}", this.sessionPoolMaxReuse);
+            configuredCount++;
+        } catch (ConfigException ex) {
+            LOG.info("session-pool.max-reuse = {} (default)", this.sessionPoolMaxReuse);
+        }
+
+        try {
+            final long idleTimeoutSeconds = config.getLong("session-pool.idle-timeout-sec");
+
+            this.sessionPoolIdleTimeoutSeconds = idleTimeoutSeconds < 0 ? 0 : idleTimeoutSeconds;
+            LOG.info("session-pool.idle-timeout-sec = {}", this.sessionPoolIdleTimeoutSeconds);
+            configuredCount++;
+        } catch (ConfigException ex) {
+            LOG.info("session-pool.idle-timeout-sec = {} (default)", this.sessionPoolIdleTimeoutSeconds);
+        }
+
+        try {
+            final int prelaunch = config.getInt("session-pool.prelaunch");
+
+            this.sessionPoolPrelaunch = prelaunch < 0 ? 0 : prelaunch;
+            LOG.info("session-pool.prelaunch = {}", this.sessionPoolPrelaunch);
+            configuredCount++;
+        } catch (ConfigException ex) {
+            LOG.info("session-pool.prelaunch = {} (default)", this.sessionPoolPrelaunch);
+        }
+
+        try {
+            final long maxHeapMegabytes = config.getLong("session-pool.max-heap-mb");
+
+            this.sessionPoolMaxHeapMegabytes = maxHeapMegabytes < 0 ? 0 : maxHeapMegabytes;
+            LOG.info("session-pool.max-heap-mb = {}", this.sessionPoolMaxHeapMegabytes);
+            configuredCount++;
+        } catch (ConfigException ex) {
+            LOG.info("session-pool.max-heap-mb = {} (default)", this.sessionPoolMaxHeapMegabytes);
+        }
+
+        try {
+            final double maxLatencyFactor = config.getDouble("session-pool.max-latency-factor");
+
+            this.sessionPoolMaxLatencyFactor = maxLatencyFactor < 0 ? 0 : maxLatencyFactor;
+            LOG.info("session-pool.max-latency-factor = {}", this.sessionPoolMaxLatencyFactor);
+            configuredCount++;
+        } catch (ConfigException ex) {
+            LOG.info("session-pool.max-latency-factor = {} (default)", this.sessionPoolMaxLatencyFactor);
         }
 
         try {
@@ -192,25 +423,25 @@ public class SelenticConfig {
                 this.logRootDir = logRootDir;
             }
             LOG.info("log.root-dir = '{}'", parseDir(this.logRootDir.getAbsolutePath()));
+            configuredCount++;
         } catch (ConfigException ex) {
             LOG.info("log.root-dir = '{}' (default)", parseDir(this.logRootDir.getAbsolutePath()));
-            defaultConfigCount++;
         }
 
         try {
             this.rootLogLevel = Level.toLevel(config.getString("log.root-log-level").toUpperCase(), Level.INFO);
             LOG.info("log.root-log-level = {}", this.rootLogLevel.toString().toUpperCase());
+            configuredCount++;
         } catch (ConfigException ex) {
             LOG.info("log.root-log-level = {} (default)", this.rootLogLevel.toString().toUpperCase());
-            defaultConfigCount++;
         }
 
         try {
             this.selenticLogLevel = Level.toLevel(config.getString("log.selentic-log-level").toUpperCase(), Level.DEBUG);
             LOG.info("log.selentic-log-level = {}", this.selenticLogLevel.toString().toUpperCase());
+            configuredCount++;
         } catch (ConfigException ex) {
             LOG.info("log.selentic-log-level = {} (default)", this.selenticLogLevel.toString().toUpperCase());
-            defaultConfigCount++;
         }
 
         try {
@@ -218,12 +449,12 @@ public class SelenticConfig {
 
             this.keepLogDurationMinutes = durationMinutes < 0 ? 0 : durationMinutes;
             LOG.info("log.keep-duration-min = {}", this.keepLogDurationMinutes);
+            configuredCount++;
         } catch (ConfigException ex) {
             LOG.info("log.keep-duration-min = {} (default)", this.keepLogDurationMinutes);
-            defaultConfigCount++;
         }
 
-        if (defaultConfigCount >= 7) {
+        if (configuredCount == 0) {
             LOG.info("You can control the configuration values by adding 'selentic.conf' file to one of classpath locations.");
             LOG.info("""
                     
@@ -232,6 +463,23 @@ public class SelenticConfig {
                     browser = '{}'
                     headless = {}
                     wait-timeout-millisec = {}
+                    accelerate-animations = {}
+                    browser-profile = '{}'
+                    disable-images = {}
+                    blocked-urls = {}
+                    optimize-xpath = {}
+                    warm-up-pages = {}
+                    profile-selectors = {}
+                    profile-template-dir = '{}'
+                    session-pool {
+                        enabled = {}
+                        max-idle = {}
+                        max-reuse = {}
+                        idle-timeout-sec = {}
+                        prelaunch = {}
+                        max-heap-mb = {}
+                        max-latency-factor = {}
+                    }
                     log {
                         root-dir = '{}'
                         root-log-level = '{}'
@@ -239,7 +487,7 @@ public class SelenticConfig {
                         keep-duration-min = {}
                     }
 
-                    """, this.browser.toString().toLowerCase(), this.headless, this.waitTimeoutMilliseconds, parseDir(this.logRootDir.getAbsolutePath()), this.rootLogLevel.toString().toUpperCase(), this.selenticLogLevel.toString().toUpperCase(), this.keepLogDurationMinutes);
+                    """, this.browser.toString().toLowerCase(), this.headless, this.waitTimeoutMilliseconds, this.animationAccelerated, this.browserProfile.toString().toLowerCase(), this.imageLoadingDisabled, this.blockedUrls, this.xpathOptimized, this.pageWarmUpEnabled, this.selectorProfiled, this.profileTemplateDir == null ? "" : parseDir(this.profileTemplateDir.getAbsolutePath()), this.sessionPoolEnabled, this.sessionPoolMaxIdle, this.sessionPoolMaxReuse, this.sessionPoolIdleTimeoutSeconds, this.sessionPoolPrelaunch, this.sessionPoolMaxHeapMegabytes, this.sessionPoolMaxLatencyFactor, parseDir(this.logRootDir.getAbsolutePath()), this.rootLogLevel.toString().toUpperCase(), this.selenticLogLevel.toString().toUpperCase(), this.keepLogDurationMinutes);
         }
     }
 
@@ -251,6 +499,265 @@ public class SelenticConfig {
         return this.headless;
     }
 
+    /**
+     * Returns if animations are accelerated in the browser.
+     *
+     * <p>
+     * When true, CSS transitions and animations are shortened to almost zero and Web Animations are played at a
+     * high playback rate, so waiting for components to stop animating does not pay for cosmetic animations.
+     * The default value is false.
+     *
+     *
+     * <p>
+     * <strong>Configuration Key:</strong> {@code accelerate-animations}
+     *
+     *
+     * @return true if the configuration file sets accelerate-animations value to true
+     * @see org.emw.selentic.lib.Selentic#enableAnimationAcceleration()
+     */
+    public boolean isAnimationAccelerated() {
+        return this.animationAccelerated;
+    }
+
+    /**
+     * Returns the browser performance profile. With {@link ScBrowserProfile#Throughput}, background throttling,
+     * component updates, translation, sync, and default apps are disabled, and the window has a fixed small size.
+     * The default value is {@link ScBrowserProfile#Default}.
+     *
+     *
+     * <p>
+     * <strong>Configuration Key:</strong> {@code browser-profile}
+     *
+     *
+     * <p>
+     * <strong>Valid Values:</strong> default, throughput (case-insensitive)
+     *
+     *
+     * @return the browser profile
+     * @see org.emw.selentic.lib.Selentic#enableThroughputProfile(boolean)
+     */
+    public ScBrowserProfile browserProfile() {
+        return this.browserProfile;
+    }
+
+    /**
+     * Returns if images are not loaded when the throughput profile is used. The default value is false.
+     *
+     *
+     * <p>
+     * <strong>Configuration Key:</strong> {@code disable-images}
+     *
+     *
+     * @return true if the configuration file sets disable-images value to true
+     */
+    public boolean isImageLoadingDisabled() {
+        return this.imageLoadingDisabled;
+    }
+
+    /**
+     * Returns URL patterns blocked in the browser. Requests whose URL matches a pattern fail immediately. In the
+     * patterns, {@code *} matches any number of characters. Blocking is supported by Chrome and Edge. The default
+     * value is an empty list.
+     *
+     *
+     * <p>
+     * <strong>Configuration Key:</strong> {@code blocked-urls}
+     *
+     *
+     * @return the blocked URL patterns
+     * @see org.emw.selentic.lib.Selentic#blockUrls(String...)
+     */
+    public List<String> blockedUrls() {
+        return this.blockedUrls;
+    }
+
+    /**
+     * Returns if XPath selectors are rewritten as CSS selectors when the XPath uses only axes and properties that CSS
+     * can express (descendant, child, following sibling; tag, attribute, and CSS class conditions). Browsers evaluate
+     * CSS selectors faster than XPath. The default value is true.
+     *
+     *
+     * <p>
+     * <strong>Configuration Key:</strong> {@code optimize-xpath}
+     *
+     *
+     * @return true if XPath selectors are optimized
+     * @see org.emw.selentic.lib.selector.ScSelector#compile()
+     */
+    public boolean isXPathOptimized() {
+        return this.xpathOptimized;
+    }
+
+    /**
+     * Returns if pages are warmed up. When true, the selectors declared by a page class are resolved in a single script
+     * when entering the page with {@link org.emw.selentic.lib.ScWithPage#inPage(org.emw.selentic.lib.ScWithPage.InPageAction)},
+     * so that the first use of each page-level component does not need its own lookup. The default value is false.
+     * <p>
+     * Warm-up resolves every selector declared by the page, including those the test never uses, so it pays off for
+     * pages whose components are used right after entering the page. A page can opt in or out regardless of this
+     * value by overriding {@link org.emw.selentic.lib.ScAbstractPage#warmsUpOnEntry()}.
+     *
+     *
+     * <p>
+     * <strong>Configuration Key:</strong> {@code warm-up-pages}
+     *
+     *
+     * @return true if pages are warmed up
+     */
+    public boolean isPageWarmUpEnabled() {
+        return this.pageWarmUpEnabled;
+    }
+
+    /**
+     * Returns if selectors are profiled. When true, each element lookup is timed inside the browser, and the cost of
+     * each selector, aggregated per selector and per declaring page or component class, is written to
+     * {@code selector-profile.txt} in the log directory at the end of the run. Profiling adds a browser round trip to
+     * each lookup. The default value is false. Profiling can be turned on and off during the run with
+     * {@link org.emw.selentic.lib.Selentic#enableSelectorProfiling(boolean)}.
+     *
+     *
+     * <p>
+     * <strong>Configuration Key:</strong> {@code profile-selectors}
+     *
+     *
+     * @return true if selectors are profiled
+     */
+    public boolean isSelectorProfiled() {
+        return this.selectorProfiled;
+    }
+
+    /**
+     * Returns the profile template directory. Each browser session starts with its own copy of the directory as the
+     * user data directory (Chrome and Edge) or profile (Firefox), so that the HTTP cache and preferences are warm
+     * without sharing mutable state between sessions. The copy is deleted when the browser quits. The default value
+     * is null (a new profile for each browser).
+     *
+     *
+     * <p>
+     * <strong>Configuration Key:</strong> {@code profile-template-dir}
+     *
+     *
+     * @return the profile template directory, or null if no template is used
+     * @see org.emw.selentic.lib.Selentic#useProfileTemplate(File)
+     */
+    public @Nullable File profileTemplateDir() {
+        return this.profileTemplateDir;
+    }
+
+    /**
+     * Returns if browsers are kept running between tests.
+     *
+     * <p>
+     * When true, {@link org.emw.selentic.lib.Selentic#quit()} resets the browser and keeps it for the next thread
+     * that starts a web driver with the same browser and options, instead of quitting it. The default value is false.
+     * Only Chrome and Edge browsers are pooled, since the cookies and storage of every visited origin can only be
+     * cleared through DevTools. Other browsers are quit as usual.
+     *
+     *
+     * <p>
+     * <strong>Configuration Key:</strong> {@code session-pool.enabled}
+     *
+     *
+     * @return true if the configuration file sets session-pool.enabled value to true
+     */
+    public boolean isSessionPoolEnabled() {
+        return this.sessionPoolEnabled;
+    }
+
+    /**
+     * Returns the maximum number of idle browsers kept in the session pool. A browser released when the pool is full
+     * is quit. The default value is 4.
+     *
+     *
+     * <p>
+     * <strong>Configuration Key:</strong> {@code session-pool.max-idle}
+     *
+     *
+     * @return the maximum number of idle browsers
+     */
+    public int sessionPoolMaxIdle() {
+        return this.sessionPoolMaxIdle;
+    }
+
+    /**
+     * Returns how many times a pooled browser is used before it is quit. The default value is 20.
+     *
+     *
+     * <p>
+     * <strong>Configuration Key:</strong> {@code session-pool.max-reuse}
+     *
+     *
+     * @return the maximum number of uses of a browser
+     */
+    public int sessionPoolMaxReuse() {
+        return this.sessionPoolMaxReuse;
+    }
+
+    /**
+     * Returns how long a browser stays idle in the session pool before it is quit, in seconds. The default value is
+     * 300 seconds (5 minutes).
+     *
+     *
+     * <p>
+     * <strong>Configuration Key:</strong> {@code session-pool.idle-timeout-sec}
+     *
+     *
+     * @return the idle timeout in seconds
+     */
+    public long sessionPoolIdleTimeoutSeconds() {
+        return this.sessionPoolIdleTimeoutSeconds;
+    }
+
+    /**
+     * Returns the number of browsers started in the background by {@link org.emw.selentic.lib.Selentic#prelaunch()}.
+     * Set it to the number of threads running tests, so that the first web driver of each thread is already running.
+     * Prelaunched browsers use the browser and options of the thread that calls it, and are handed out through the
+     * session pool, which is enabled by the call. The default value is 0.
+     *
+     *
+     * <p>
+     * <strong>Configuration Key:</strong> {@code session-pool.prelaunch}
+     *
+     *
+     * @return the number of browsers to prelaunch
+     * @see org.emw.selentic.lib.Selentic#prelaunch(int)
+     */
+    public int sessionPoolPrelaunch() {
+        return this.sessionPoolPrelaunch;
+    }
+
+    /**
+     * Returns the JavaScript heap size, in megabytes, above which a pooled browser is quit instead of being reused.
+     * The heap is sampled each time the browser is released to the session pool. 0 means no limit. The default value
+     * is 512.
+     *
+     *
+     * <p>
+     * <strong>Configuration Key:</strong> {@code session-pool.max-heap-mb}
+     *
+     *
+     * @return the heap limit in megabytes
+     */
+    public long sessionPoolMaxHeapMegabytes() {
+        return this.sessionPoolMaxHeapMegabytes;
+    }
+
+    /**
+     * Returns how much the command latency of a pooled browser may degrade, compared to its fastest latency, before
+     * the browser is quit instead of being reused. The latency is sampled each time the browser is released to the
+     * session pool. 0 means no limit. The default value is 3.0.
+     *
+     *
+     * <p>
+     * <strong>Configuration Key:</strong> {@code session-pool.max-latency-factor}
+     *
+     *
+     * @return the allowed latency factor
+     */
+    public double sessionPoolMaxLatencyFactor() {
+        return this.sessionPoolMaxLatencyFactor;
+    }
+
     /**
      * Returns the wait timeout duration in milliseconds.
      *
@@ -0,0 +1,13 @@
+package org.emw.selentic.lib.exception;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+public class ScUnsupportedBrowserException extends RuntimeException {
+    public ScUnsupportedBrowserException(@NonNull String text, @NonNull Throwable th) {
+        super(text, th);
+    }
+
+    public ScUnsupportedBrowserException(@NonNull String text) {
+        super(text);
+    }
+}
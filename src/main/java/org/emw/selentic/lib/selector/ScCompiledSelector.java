@@ -0,0 +1,108 @@
+package org.emw.selentic.lib.selector;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.openqa.selenium.By;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled form of a selector: the final locator text and the Selenium {@link By}, computed once.
+ * <p>
+ * Instances are immutable and interned, so equal selectors share one instance, and {@code equals}/{@code hashCode}
+ * are based on the selector type and locator text. This makes compiled selectors cheap to use as keys of caches.
+ *
+ * <pre>{@code
+ * ScCompiledSelector a = _cssSelector.descendant(_id("submit")).compile();
+ * ScCompiledSelector b = _cssSelector.descendant(_id("submit")).compile();
+ *
+ * assert a == b;
+ * }</pre>
+ *
+ * @see ScSelector#compile()
+ */
+public final class ScCompiledSelector {
+    /**
+     * Upper limit of interned selectors. Selectors built from test data (e.g., {@code _text().is(name)}) are not
+     * constants, and interning stops at this size so they cannot grow the pool without bounds.
+     */
+    private static final int MAX_INTERNED = 10_000;
+    private static final Map<ScCompiledSelector, ScCompiledSelector> INTERNED = new ConcurrentHashMap<>();
+
+    private final ScSelectorPropertyType.@NonNull Types type;
+    private final @NonNull String text;
+    private final @NonNull By by;
+
+    private ScCompiledSelector(ScSelectorPropertyType.@NonNull Types type, @NonNull String text) {
+        this.type = type;
+        this.text = text;
+        if (type == ScSelectorPropertyType.Types.XPath) {
+            this.by = By.xpath(text);
+        } else {
+            this.by = ScShadowRootBy.isShadowPiercing(text) ? new ScShadowRootBy(text) : By.cssSelector(text);
+        }
+    }
+
+    /**
+     * Returns the interned compiled selector for the type and locator text.
+     *
+     * @param type selector type
+     * @param text locator text, as passed to Selenium
+     * @return compiled selector
+     */
+    static @NonNull ScCompiledSelector intern(ScSelectorPropertyType.@NonNull Types type, @NonNull String text) {
+        final ScCompiledSelector compiled = new ScCompiledSelector(type, text);
+
+        if (INTERNED.size() >= MAX_INTERNED) {
+            final ScCompiledSelector interned = INTERNED.get(compiled);
+
+            return interned == null ? compiled : interned;
+        }
+        return INTERNED.computeIfAbsent(compiled, c -> c);
+    }
+
+    /**
+     * Returns the selector type.
+     *
+     * @return CSS selector or XPath
+     */
+    public ScSelectorPropertyType.@NonNull Types type() {
+        return this.type;
+    }
+
+    /**
+     * Returns the locator text, as passed to Selenium. For XPath, it is relative to the search context.
+     *
+     * @return locator text
+     */
+    public @NonNull String text() {
+        return this.text;
+    }
+
+    /**
+     * Returns the Selenium locator. The same instance is returned each time. CSS selectors that cross shadow
+     * boundaries are located with {@link ScShadowRootBy}.
+     *
+     * @return locator
+     */
+    public @NonNull By by() {
+        return this.by;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        return o instanceof ScCompiledSelector other && this.type == other.type && this.text.equals(other.text);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.type, this.text);
+    }
+
+    @Override
+    public String toString() {
+        return this.text;
+    }
+}
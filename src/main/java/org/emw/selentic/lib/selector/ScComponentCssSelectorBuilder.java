@@ -34,6 +34,18 @@ public final class ScComponentCssSelectorBuilder extends ScSelectorBuilder {
         return (ScCssSelectorDescendant) this.selector();
     }
 
+    /**
+     * Sets and returns a CSS selector for an element inside the open shadow root of this component.
+     *
+     * @param selectorProperties One or more properties used to define the element inside the shadow root.
+     * @return The updated {@link ScCssSelector} instance.
+     * @see ScCssSelectorShadow
+     */
+    public ScCssSelectorShadow shadow(@NonNull ScCssSelectorPropertyType... selectorProperties) {
+        this.setSelector(new ScCssSelectorShadow(selectorProperties));
+        return (ScCssSelectorShadow) this.selector();
+    }
+
     /**
      * Sets and returns a CSS selector, looking at the entire web page.
      *
@@ -58,6 +70,19 @@ public final class ScComponentCssSelectorBuilder extends ScSelectorBuilder {
         return (ScCssSelectorDescendant) this.selector();
     }
 
+    /**
+     * Sets and returns a CSS selector for an element inside the open shadow root of this component.
+     *
+     * @param tag The HTML/XML tag to target.
+     * @param selectorProperties One or more properties used to define the element inside the shadow root.
+     * @return The updated {@link ScCssSelector} instance.
+     * @see ScCssSelectorShadow
+     */
+    public ScCssSelectorShadow shadow(@NonNull String tag, @NonNull ScCssSelectorPropertyType... selectorProperties) {
+        this.setSelector(new ScCssSelectorShadow(tag, selectorProperties));
+        return (ScCssSelectorShadow) this.selector();
+    }
+
     /**
      * Sets and returns a CSS selector, looking at the entire web page.
      *
@@ -1,6 +1,7 @@
 package org.emw.selentic.lib.selector;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.emw.selentic.lib.ScComponent;
 import org.emw.selentic.lib.ScPage;
 import org.emw.selentic.lib.exception.ScSelectorException;
@@ -8,7 +9,9 @@ import org.emw.selentic.lib.util.ScLogHandler;
 import org.openqa.selenium.By;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * An abstract class that represents a CSS selector.
@@ -38,6 +41,7 @@ import java.util.Arrays;
  *     private static final ScCssSelector CSS_SELECTOR_CHILD_TEST_TEXTS = _cssSelector.descendant(_id("outer-table-2")).child("tbody").child("tr").child("td");
  *     private static final ScCssSelector CSS_SELECTOR_NOT_TEST_TEXTS = _cssSelector.descendant("body").child(_not(_tag("h2")));
  *     private static final ScCssSelector CSS_SELECTOR_RAW_TEST_TEXTS = _cssSelector.raw("body > :not(table)");
+ *     private static final ScCssSelector CSS_SELECTOR_SHADOW_TEST_TEXT = _cssSelector.descendant("ds-card").shadow(_cssClasses("title"));
  *
  * }</pre>
  *
@@ -56,11 +60,13 @@ import java.util.Arrays;
  * @see ScCssSelectorSibling
  * @see ScCssSelectorNextSibling
  * @see ScCssSelectorPage
+ * @see ScCssSelectorShadow
  */
-public sealed abstract class ScCssSelector extends ScSelector permits ScCssSelectorChild, ScCssSelectorDescendant, ScCssSelectorSibling, ScCssSelectorNextSibling, ScCssSelectorPage, ScCssSelectorRaw {
+public sealed abstract class ScCssSelector extends ScSelector permits ScCssSelectorChild, ScCssSelectorDescendant, ScCssSelectorSibling, ScCssSelectorNextSibling, ScCssSelectorPage, ScCssSelectorRaw, ScCssSelectorShadow {
     private static final Logger LOG = ScLogHandler.logger(ScCssSelector.class);
     private final String tag;
     private final ScCssSelectorPropertyType[] selectorProperties;
+    private volatile @Nullable List<String> segments;
 
     /**
      * Constructs an {@code ScCssSelector} instance with optional selector properties.
@@ -159,33 +165,54 @@ public sealed abstract class ScCssSelector extends ScSelector permits ScCssSelec
     }
 
     /**
-     * Returns the hash code for this CSS selector based on its string representation.
+     * Compiles the CSS selector expression represented by this selector. The expression is logged at DEBUG level
+     * for troubleshooting purposes, once per selector.
      *
-     * <p>Two {@code ScCssSelector} objects with identical CSS selector expressions will have the same hash code.
-     *
-     * @return the hash code of the string representation of this CSS selector
+     * @return the compiled selector using CSS selector locator strategy
+     * @see By#cssSelector(String)
      */
     @Override
-    public int hashCode() {
-        return toString().hashCode();
+    final @NonNull ScCompiledSelector compileSelector() {
+        final String s = toString();
+
+        LOG.debug("CSS Selector: \"{}\"", s);
+        return ScCompiledSelector.intern(ScSelectorPropertyType.Types.CssSelector, s);
     }
 
     /**
-     * Builds a Selenium {@link By} locator using the CSS selector expression represented by this selector.
+     * Returns the selector text split at its descendant, child, and shadow steps. Sibling steps stay with the step
+     * they follow, and raw selectors are not split. Joining the segments gives {@link #toString()}.
      *
-     * <p>This method converts the CSS selector to a Selenium-compatible locator for element identification.
-     * The resulting CSS selector expression is logged at DEBUG level for troubleshooting purposes.
-     * 
+     * <p>Each segment after the first selects relative to the elements matched by the segments before it, so
+     * selectors built from the same prefix (e.g., fields of the same form) share their leading segments. This allows
+     * a batch of selectors to be resolved from the document with each distinct prefix evaluated once.
      *
-     * @return a {@link By} object using CSS selector locator strategy
-     * @see By#cssSelector(String)
+     *
+     * @return the segments of this selector, starting from the root
      */
-    @Override
-    public final By build() {
-        final String s = toString();
+    public final @NonNull List<String> segments() {
+        List<String> segments = this.segments;
 
-        LOG.debug("CSS Selector: \"{}\"", s);
-        return By.cssSelector(s);
+        if (segments == null) {
+            final List<String> collected = new ArrayList<>();
+
+            collectSegments(collected);
+            segments = List.copyOf(collected);
+            this.segments = segments;
+        }
+        return segments;
+    }
+
+    private void collectSegments(@NonNull List<String> segments) {
+        final String prior = priorSelectorNode().map(Object::toString).orElse("");
+        final String own = toString().substring(prior.length());
+
+        priorSelectorNode().ifPresent(p -> ((ScCssSelector) p).collectSegments(segments));
+        if (segments.isEmpty() || this instanceof ScCssSelectorDescendant || this instanceof ScCssSelectorChild || this instanceof ScCssSelectorShadow) {
+            segments.add(own);
+        } else {
+            segments.set(segments.size() - 1, segments.get(segments.size() - 1) + own);
+        }
     }
 
     /**
@@ -256,6 +283,23 @@ public sealed abstract class ScCssSelector extends ScSelector permits ScCssSelec
         return new ScCssSelectorNextSibling(this, selectorProperties);
     }
 
+    /**
+     * Creates a new {@code ScCssSelector} representing elements inside the open shadow roots of the current elements
+     * with the specified properties.
+     *
+     * <p>This method constructs an {@link ScCssSelectorShadow} selector that matches descendants of the shadow roots
+     * attached to the elements selected so far. CSS has no combinator for this, so the selector is located by
+     * {@link ScShadowRootBy}, which resolves the whole path in one script.
+     *
+     *
+     * @param selectorProperties optional properties to filter elements inside the shadow roots
+     * @return a new {@code ScCssSelector} object representing the shadow root selector
+     * @see ScCssSelectorShadow
+     */
+    public ScCssSelectorShadow shadow(@NonNull ScCssSelectorPropertyType... selectorProperties) {
+        return new ScCssSelectorShadow(this, selectorProperties);
+    }
+
     /**
      * Creates a new {@code ScCssSelector} representing a page-level (root) element with the specified properties.
      *
@@ -345,6 +389,24 @@ public sealed abstract class ScCssSelector extends ScSelector permits ScCssSelec
         return new ScCssSelectorNextSibling(this, tag, selectorProperties);
     }
 
+    /**
+     * Creates a new {@code ScCssSelector} representing elements inside the open shadow roots of the current elements
+     * with the specified properties.
+     *
+     * <p>This method constructs an {@link ScCssSelectorShadow} selector that matches descendants of the shadow roots
+     * attached to the elements selected so far. CSS has no combinator for this, so the selector is located by
+     * {@link ScShadowRootBy}, which resolves the whole path in one script.
+     *
+     *
+     * @param tag The HTML/XML tag to target.
+     * @param selectorProperties optional properties to filter elements inside the shadow roots
+     * @return a new {@code ScCssSelector} object representing the shadow root selector
+     * @see ScCssSelectorShadow
+     */
+    public ScCssSelectorShadow shadow(@NonNull String tag, @NonNull ScCssSelectorPropertyType... selectorProperties) {
+        return new ScCssSelectorShadow(this, tag, selectorProperties);
+    }
+
     /**
      * Creates a new {@code ScCssSelector} representing a page-level (root) element with the specified properties.
      *
@@ -0,0 +1,96 @@
+package org.emw.selentic.lib.selector;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * {@code ScCssSelectorShadow} represents a CSS selector step that crosses into the open shadow root of the elements
+ * selected so far.
+ *
+ * <p>
+ * CSS cannot select across shadow boundaries, so the selector text separates the steps with {@code >>>}. Each step
+ * is a regular CSS selector evaluated inside the shadow roots of the elements matched by the previous step. The whole
+ * path is resolved inside the browser by one script (see {@link ScShadowRootBy}), instead of one round trip per
+ * shadow boundary. Closed shadow roots cannot be entered.
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * // Select the title inside the shadow root of a design-system dialog
+ * ScCssSelector title = _cssSelector.descendant("ds-dialog")
+ *                                   .shadow(_cssClasses("title"));       // "ds-dialog >>> .title"
+ *
+ * // Inside a component whose element is a shadow host, select within its own shadow root
+ * ScCssSelector input = _cssSelector.shadow("input", _type().is("text")); // ">>> input[type='text']"
+ * }</pre>
+ *
+ * @see ScCssSelector
+ * @see ScShadowRootBy
+ */
+public final class ScCssSelectorShadow extends ScCssSelector {
+
+    /**
+     * Constructs an {@code ScCssSelectorShadow} without a prior selector (root-level selector). The step is
+     * evaluated inside the shadow root of the component element.
+     *
+     * @param selectorProperties optional properties to filter elements inside the shadow root
+     */
+    ScCssSelectorShadow(@NonNull ScCssSelectorPropertyType... selectorProperties) {
+        super(selectorProperties);
+    }
+
+    /**
+     * Constructs an {@code ScCssSelectorShadow} with a prior selector node and optional properties.
+     *
+     * <p>
+     * This constructor is package-private and called internally by the framework. Use the fluent API
+     * method {@link ScCssSelector#shadow(ScCssSelectorPropertyType...)} instead.
+     *
+     *
+     * @param priorSelectorNode the shadow host selector in the chain
+     * @param selectorProperties optional properties to filter elements inside the shadow root
+     */
+    ScCssSelectorShadow(@NonNull ScCssSelector priorSelectorNode, @NonNull ScCssSelectorPropertyType... selectorProperties) {
+        super(priorSelectorNode, selectorProperties);
+    }
+
+    /**
+     * Constructs an {@code ScCssSelectorShadow} without a prior selector (root-level selector). The step is
+     * evaluated inside the shadow root of the component element.
+     *
+     * @param tag The HTML/XML tag to target.
+     * @param selectorProperties optional properties to filter elements inside the shadow root
+     */
+    ScCssSelectorShadow(@NonNull String tag, @NonNull ScCssSelectorPropertyType... selectorProperties) {
+        super(tag, selectorProperties);
+    }
+
+    /**
+     * Constructs an {@code ScCssSelectorShadow} with a prior selector node and optional properties.
+     *
+     * <p>
+     * This constructor is package-private and called internally by the framework. Use the fluent API
+     * method {@link ScCssSelector#shadow(String, ScCssSelectorPropertyType...)} instead.
+     *
+     *
+     * @param priorSelectorNode the shadow host selector in the chain
+     * @param tag The HTML/XML tag to target.
+     * @param selectorProperties optional properties to filter elements inside the shadow root
+     */
+    ScCssSelectorShadow(@NonNull ScCssSelector priorSelectorNode, @NonNull String tag, @NonNull ScCssSelectorPropertyType... selectorProperties) {
+        super(priorSelectorNode, tag, selectorProperties);
+    }
+
+    /**
+     * Returns the shadow boundary separator: {@code " >>> "}.
+     *
+     * <p>
+     * This separator is placed between the shadow host selector and the selector evaluated inside its shadow root.
+     * Called internally during selector string construction.
+     *
+     *
+     * @return the shadow boundary separator
+     */
+    @Override
+    protected String nodeText() {
+        return " " + ScShadowRootBy.SHADOW_BOUNDARY + " ";
+    }
+}
@@ -20,6 +20,7 @@ import java.util.Optional;
 public abstract sealed class ScSelector permits ScCssSelector, ScXPath {
     private final @Nullable ScSelector priorSelectorNode;
     private @NonNull String cache = "";
+    private volatile @Nullable ScCompiledSelector compiled;
 
     /**
      * Constructs a root selector with no prior selector node.
@@ -101,6 +102,27 @@ public abstract sealed class ScSelector permits ScCssSelector, ScXPath {
         return this.cache;
     }
 
+    /**
+     * Returns true if the other selector is of the same type and has the same selector text.
+     *
+     * @param o the other object
+     * @return true if both select the same elements
+     */
+    @Override
+    public final boolean equals(@Nullable Object o) {
+        return o instanceof ScSelector other && (this instanceof ScXPath) == (other instanceof ScXPath) && this.toString().equals(other.toString());
+    }
+
+    /**
+     * Returns the hash code based on the selector text, consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code of the selector text
+     */
+    @Override
+    public final int hashCode() {
+        return toString().hashCode();
+    }
+
     /**
      * Returns the text representation of this selector node.
      *
@@ -109,9 +131,38 @@ public abstract sealed class ScSelector permits ScCssSelector, ScXPath {
     protected abstract String nodeText();
 
     /**
-     * Builds and returns a Selenium {@link By} locator for this selector.
+     * Creates the compiled form of this selector. Called once per selector.
+     *
+     * @return the interned compiled selector
+     */
+    abstract @NonNull ScCompiledSelector compileSelector();
+
+    /**
+     * Returns the compiled form of this selector. The selector is validated, and its text and {@link By} are computed
+     * the first time; later calls return the same instance. Equal selectors return the same compiled selector.
+     *
+     * @return the compiled selector
+     * @throws org.emw.selentic.lib.exception.ScSelectorException if the selector is invalid
+     * @see ScCompiledSelector
+     */
+    public final @NonNull ScCompiledSelector compile() {
+        ScCompiledSelector compiled = this.compiled;
+
+        if (compiled == null) {
+            compiled = compileSelector();
+            this.compiled = compiled;
+        }
+        return compiled;
+    }
+
+    /**
+     * Returns a Selenium {@link By} locator for this selector. The locator is created once, and the same instance is
+     * returned each time.
      *
      * @return a {@link By} locator constructed from this selector and its chain
+     * @see #compile()
      */
-    public abstract By build();
+    public final By build() {
+        return compile().by();
+    }
 }
\ No newline at end of file
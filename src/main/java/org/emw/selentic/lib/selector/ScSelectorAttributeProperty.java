@@ -59,6 +59,14 @@ public final class ScSelectorAttributeProperty extends ScSelectorProperty implem
         }
     }
 
+    @Override
+    boolean isCssEquivalent() {
+        // An empty text matches every value in XPath, but nothing in CSS. A CSS word never contains whitespace.
+        return this.prefix.equals("@") && isCssIdentifier(this.attribute)
+                && (this.condition == Conditions.Is || this.condition == Conditions.IsPresent || !this.text.isEmpty())
+                && (this.condition != Conditions.WholeWord || !this.text.matches(".*\\s.*"));
+    }
+
     enum Conditions {
         Is, IsPresent, Contains, StartsWith, EndsWith, WholeWord;
     }
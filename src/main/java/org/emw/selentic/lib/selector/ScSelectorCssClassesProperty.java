@@ -49,4 +49,10 @@ public final class ScSelectorCssClassesProperty extends ScSelectorProperty imple
 
         return selector.toString();
     }
-}
\ No newline at end of file
+
+    @Override
+    boolean isCssEquivalent() {
+        // XPath negates each class, while CSS negates all classes together. They are equal for one class.
+        return Arrays.stream(this.cssClasses).allMatch(c -> isCssIdentifier(c.trim())) && (!negated() || this.cssClasses.length == 1);
+    }
+}
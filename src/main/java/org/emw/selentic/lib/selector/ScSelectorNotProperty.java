@@ -13,4 +13,9 @@ public final class ScSelectorNotProperty extends ScSelectorProperty implements S
     public String build(@NonNull Types type) {
         return selectorProperty.build(type);
     }
+
+    @Override
+    boolean isCssEquivalent() {
+        return selectorProperty.isCssEquivalent();
+    }
 }
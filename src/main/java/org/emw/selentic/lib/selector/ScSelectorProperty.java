@@ -16,4 +16,24 @@ public abstract sealed class ScSelectorProperty implements ScSelectorPropertyTyp
     protected boolean negated() {
         return negate;
     }
+
+    /**
+     * Returns true if the CSS selector built by this property selects exactly the same elements as the XPath built by
+     * it. Used to rewrite XPath as CSS selector, which browsers evaluate faster.
+     *
+     * @return true if the CSS selector is equivalent
+     */
+    boolean isCssEquivalent() {
+        return false;
+    }
+
+    /**
+     * Returns true if the name can be used in a CSS selector without escaping.
+     *
+     * @param name tag, attribute, or class name
+     * @return true if the name is a CSS identifier
+     */
+    static boolean isCssIdentifier(@NonNull String name) {
+        return name.matches("-?[_a-zA-Z][_a-zA-Z0-9-]*");
+    }
 }
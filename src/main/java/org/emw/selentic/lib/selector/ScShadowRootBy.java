@@ -0,0 +1,97 @@
+package org.emw.selentic.lib.selector;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Selenium locator for CSS selectors that cross shadow boundaries.
+ *
+ * <p>
+ * The selector text is a list of CSS selectors separated by {@link #SHADOW_BOUNDARY}. The first one is evaluated in
+ * the search context, and each following one inside the open shadow roots of the elements matched so far. An empty
+ * first selector starts from the shadow root of the search context element itself. The whole path is resolved by one
+ * script execution, regardless of the number of shadow boundaries.
+ *
+ * <pre>{@code
+ * driver.findElement(_cssSelector.descendant("ds-dialog").shadow(_cssClasses("title")).build());
+ * }</pre>
+ *
+ * @see ScCssSelectorShadow
+ */
+public final class ScShadowRootBy extends By {
+    /**
+     * Separator of the selectors on both sides of a shadow boundary.
+     */
+    public static final String SHADOW_BOUNDARY = ">>>";
+
+    /**
+     * JavaScript function expression {@code (root, text) => Element[]} that resolves selector text with shadow
+     * boundaries from a document or element. Selector text without shadow boundaries is evaluated with
+     * {@code querySelectorAll}, so scripts that resolve selectors in the browser can use it for any CSS selector.
+     */
+    public static final String QUERY_SELECTOR_ALL = """
+            (root, text) => {
+                let contexts = [root];
+
+                text.split('>>>').forEach((selector, i) => {
+                    selector = selector.trim();
+                    if (i > 0) {
+                        contexts = contexts.map(e => e.shadowRoot).filter(r => r);
+                    }
+                    if (selector !== '') {
+                        contexts = [...new Set(contexts.flatMap(c => [...c.querySelectorAll(selector)]))];
+                    }
+                });
+                return contexts.filter(e => e instanceof Element);
+            }""";
+
+    private static final String FIND_ELEMENTS = "return (" + QUERY_SELECTOR_ALL + ")(arguments[0] || document, arguments[1]);";
+
+    private final @NonNull String selectorText;
+
+    /**
+     * Creates a locator for the selector text.
+     *
+     * @param selectorText CSS selectors separated by {@link #SHADOW_BOUNDARY}
+     */
+    ScShadowRootBy(@NonNull String selectorText) {
+        this.selectorText = selectorText;
+    }
+
+    /**
+     * Returns true if the selector text crosses a shadow boundary.
+     *
+     * @param selectorText CSS selector text
+     * @return true if the text contains {@link #SHADOW_BOUNDARY}
+     */
+    static boolean isShadowPiercing(@NonNull String selectorText) {
+        return selectorText.contains(SHADOW_BOUNDARY);
+    }
+
+    @Override
+    public List<WebElement> findElements(SearchContext context) {
+        final Object root = context instanceof WebDriver ? null : context;
+        final Object result = getJavascriptExecutor(context).executeScript(FIND_ELEMENTS, root, this.selectorText);
+        final List<WebElement> elements = new ArrayList<>();
+
+        if (result instanceof List<?> list) {
+            for (Object e : list) {
+                if (e instanceof WebElement element) {
+                    elements.add(element);
+                }
+            }
+        }
+        return elements;
+    }
+
+    @Override
+    public String toString() {
+        return "By.cssSelector (shadow): " + this.selectorText;
+    }
+}
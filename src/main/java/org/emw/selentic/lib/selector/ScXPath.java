@@ -1,8 +1,10 @@
 package org.emw.selentic.lib.selector;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.emw.selentic.lib.ScComponent;
 import org.emw.selentic.lib.ScPage;
+import org.emw.selentic.lib.config.SelenticConfig;
 import org.emw.selentic.lib.exception.ScSelectorException;
 import org.emw.selentic.lib.util.ScLogHandler;
 import org.openqa.selenium.By;
@@ -164,29 +166,79 @@ public sealed abstract class ScXPath extends ScSelector permits ScXPathChild, Sc
     }
 
     /**
-     * Returns the hash code for this XPath selector based on its string representation.
-     *
-     * <p>Two {@code ScXPath} objects with identical XPath expressions will have the same hash code.
-     * 
-     *
-     * @return the hash code of the string representation of this XPath selector
+     * Compiles the XPath expression represented by this selector, relative to the search context. The expression is
+     * logged at DEBUG level, once per selector.
+     * <p>
+     * When the XPath uses only axes and properties that CSS can express, it is compiled as the equivalent CSS
+     * selector instead, since browsers evaluate CSS selectors faster. This can be disabled with the
+     * {@code optimize-xpath} key in {@link SelenticConfig}.
+     *
+     * @return the compiled selector using XPath locator strategy with no prefix, or CSS selector locator strategy
+     * @see By#xpath(String)
+     * @see SelenticConfig#isXPathOptimized()
      */
     @Override
-    public int hashCode() {
-        return toString().hashCode();
+    final @NonNull ScCompiledSelector compileSelector() {
+        final String s = "." + toString();
+        final String css = SelenticConfig.config().isXPathOptimized() ? cssEquivalent() : null;
+
+        if (css != null) {
+            LOG.debug("XPath: \"{}\" (optimized as CSS Selector: \"{}\")", s, css);
+            return ScCompiledSelector.intern(ScSelectorPropertyType.Types.CssSelector, css);
+        }
+        LOG.debug("XPath: \"{}\"", s);
+        return ScCompiledSelector.intern(ScSelectorPropertyType.Types.XPath, s);
     }
 
     /**
-     * Builds a Selenium {@link By} locator using the XPath expression represented by this selector.
+     * Returns the CSS combinator equivalent to the axis of this node.
      *
-     * @return a {@link By} object using XPath locator strategy with no prefix
+     * @return CSS combinator, or null if the axis cannot be expressed in CSS
      */
-    @Override
-    public final By build() {
-        final String s = "." + toString();
+    @Nullable String cssCombinator() {
+        return null;
+    }
 
-        LOG.debug("XPath: \"{}\"", s);
-        return By.xpath(s);
+    /**
+     * Returns the CSS selector that selects exactly the same elements as this XPath, relative to the same search
+     * context. A chain that is relative to a component starts with {@code :scope}, so that, like the XPath, all its
+     * nodes are inside the component.
+     * <p>
+     * Only chains whose first node is a descendant or child of the search context are converted. A chain that starts
+     * with a sibling, such as {@code ./following-sibling::tr}, selects elements outside the component, which an
+     * element search ({@code :scope ~ tr}) never finds, since it only matches descendants of the search context.
+     *
+     * @return CSS selector, or null if any node of the chain cannot be expressed in CSS
+     */
+    final @Nullable String cssEquivalent() {
+        final String combinator = cssCombinator();
+        final ScSelector priorNode = priorSelectorNode().orElse(null);
+        final StringBuilder css = new StringBuilder();
+
+        if (combinator == null || !(this.tag.equals("*") || ScSelectorProperty.isCssIdentifier(this.tag))) {
+            return null;
+        }
+        if (priorNode == null) {
+            if (!(this instanceof ScXPathPage || this instanceof ScXPathDescendant || this instanceof ScXPathChild)) {
+                return null;
+            }
+            css.append(this instanceof ScXPathPage ? "" : ":scope");
+        } else {
+            final String priorCss = priorNode instanceof ScXPath priorXPath ? priorXPath.cssEquivalent() : null;
+
+            if (priorCss == null) {
+                return null;
+            }
+            css.append(priorCss);
+        }
+        css.append(combinator).append(this.tag);
+        for (ScXpathPropertyType property : this.selectorProperties) {
+            if (!(property instanceof ScSelectorProperty p) || !p.isCssEquivalent() || !(property instanceof ScCssSelectorPropertyType)) {
+                return null;
+            }
+            css.append(p.build(ScSelectorPropertyType.Types.CssSelector));
+        }
+        return css.toString();
     }
 
     /**
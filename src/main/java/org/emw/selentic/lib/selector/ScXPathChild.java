@@ -23,4 +23,14 @@ public final class ScXPathChild extends ScXPath {
     protected String nodeText() {
         return "/child::";
     }
+
+    /**
+     * Returns the CSS child combinator.
+     *
+     * @return CSS combinator
+     */
+    @Override
+    String cssCombinator() {
+        return " > ";
+    }
 }
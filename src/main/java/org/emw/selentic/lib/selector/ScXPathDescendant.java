@@ -23,4 +23,14 @@ public final class ScXPathDescendant extends ScXPath {
     protected String nodeText() {
         return "/descendant::";
     }
+
+    /**
+     * Returns the CSS descendant combinator.
+     *
+     * @return CSS combinator
+     */
+    @Override
+    String cssCombinator() {
+        return " ";
+    }
 }
@@ -15,4 +15,14 @@ public final class ScXPathPage extends ScXPath {
     protected String nodeText() {
         return "/descendant::";
     }
+
+    /**
+     * Returns an empty CSS combinator, since a page node starts from the document.
+     *
+     * @return CSS combinator
+     */
+    @Override
+    String cssCombinator() {
+        return "";
+    }
 }
@@ -23,4 +23,14 @@ public final class ScXPathSibling extends ScXPath {
     protected String nodeText() {
         return "/following-sibling::";
     }
+
+    /**
+     * Returns the CSS general sibling combinator.
+     *
+     * @return CSS combinator
+     */
+    @Override
+    String cssCombinator() {
+        return " ~ ";
+    }
 }
@@ -87,4 +87,8 @@ public final class ScLogHandler {
         return new File(logDirectory(), "screenshot");
     }
 
+    public static File stateDirectory() {
+        return new File(logDirectory(), "state");
+    }
+
 }
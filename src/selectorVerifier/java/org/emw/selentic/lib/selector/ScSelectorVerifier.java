@@ -0,0 +1,136 @@
+package org.emw.selentic.lib.selector;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Compiles the selector constants of page and component classes at build time, so that an invalid selector fails the
+ * build instead of the first test that uses it.
+ * <p>
+ * Every class under the given class directories that extends a page or component class is found without initializing
+ * it, and each of its {@code static} {@link ScSelector} fields is compiled with {@link ScSelector#compile()}. Only
+ * classes that declare selector fields are initialized, since reading the fields runs their static initializers. The
+ * selector text of each field is written to the report file, so that changes to generated selectors can be reviewed.
+ * The first line of the report counts the valid and the invalid selectors. Nothing is logged, since the verifier
+ * runs outside the test log setup.
+ * <p>
+ * The verifier is a build tool and is kept in its own source set, so it is not part of the library. It is run by the
+ * {@code verifySelectors} task of the build, which fails when this class throws.
+ *
+ * <pre>{@code
+ * // build.gradle.kts
+ * val verifySelectors by tasks.registering(JavaExec::class) {
+ *     classpath = sourceSets["selectorVerifier"].runtimeClasspath + sourceSets["test"].runtimeClasspath
+ *     mainClass.set("org.emw.selentic.lib.selector.ScSelectorVerifier")
+ *     args(layout.buildDirectory.file("selentic/selectors.txt").get().asFile.path,
+ *          *sourceSets["test"].output.classesDirs.files.map { it.path }.toTypedArray())
+ * }
+ * tasks.check { dependsOn(verifySelectors) }
+ * }</pre>
+ *
+ * @see ScSelector#compile()
+ */
+public final class ScSelectorVerifier {
+
+    private ScSelectorVerifier() {
+    }
+
+    /**
+     * Verifies the selector constants of the classes under the class directories.
+     *
+     * @param args report file, followed by one or more class directories
+     * @throws IOException if the class directories cannot be read or the report cannot be written
+     * @throws IllegalStateException if one or more selectors are invalid
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: ScSelectorVerifier <report-file> <class-directory>...");
+        }
+
+        final List<String> report = new ArrayList<>();
+        final List<String> errors = new ArrayList<>();
+
+        for (int i = 1; i < args.length; i++) {
+            for (Class<?> pageOrComponent : pageAndComponentClasses(Path.of(args[i]))) {
+                verify(pageOrComponent, report, errors);
+            }
+        }
+
+        final Path reportFile = Path.of(args[0]);
+
+        report.add(0, "# " + report.size() + " valid selector(s), " + errors.size() + " invalid selector(s)");
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        Files.write(reportFile, report, StandardCharsets.UTF_8);
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException(errors.size() + " invalid selector(s):\n" + String.join("\n", errors));
+        }
+    }
+
+    /**
+     * Compiles the static selector fields declared by the class.
+     *
+     * @param type page or component class
+     * @param report receives a {@code Class.FIELD = selector} line per valid selector
+     * @param errors receives a message per invalid selector
+     */
+    static void verify(@NonNull Class<?> type, @NonNull List<String> report, @NonNull List<String> errors) {
+        for (Field field : type.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) || !ScSelector.class.isAssignableFrom(field.getType())) {
+                continue;
+            }
+
+            final String name = type.getName() + "." + field.getName();
+
+            try {
+                field.setAccessible(true);
+
+                final Object selector = field.get(null);
+
+                if (selector instanceof ScSelector s) {
+                    report.add(name + " = " + s.compile().text());
+                }
+            } catch (ExceptionInInitializerError ex) {
+                errors.add(name + ": class initialization failed: " + ex.getCause());
+                return;
+            } catch (RuntimeException | IllegalAccessException ex) {
+                errors.add(name + ": " + ex.getMessage());
+            }
+        }
+    }
+
+    private static @NonNull List<Class<?>> pageAndComponentClasses(@NonNull Path classDirectory) throws IOException {
+        final List<Class<?>> classes = new ArrayList<>();
+        final ClassLoader loader = ScSelectorVerifier.class.getClassLoader();
+
+        if (!Files.isDirectory(classDirectory)) {
+            return classes;
+        }
+        try (Stream<Path> files = Files.walk(classDirectory)) {
+            for (Path file : files.filter(f -> f.toString().endsWith(".class")).toList()) {
+                final String relative = classDirectory.relativize(file).toString();
+                final String className = relative.substring(0, relative.length() - ".class".length()).replace(file.getFileSystem().getSeparator(), ".");
+
+                try {
+                    // Loaded without initialization, so that test classes do not run their static initializers.
+                    final Class<?> type = Class.forName(className, false, loader);
+
+                    if (ScSelectorPropertyContainer.class.isAssignableFrom(type)) {
+                        classes.add(type);
+                    }
+                } catch (ClassNotFoundException | LinkageError ex) {
+                    // Classes whose dependencies are not on the classpath cannot declare page or component selectors.
+                }
+            }
+        }
+        return classes;
+    }
+}
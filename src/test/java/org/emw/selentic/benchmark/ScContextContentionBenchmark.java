@@ -0,0 +1,113 @@
+package org.emw.selentic.benchmark;
+
+import org.emw.selentic.lib.ScBrowser;
+import org.emw.selentic.lib.Selentic;
+import org.emw.selentic.lib.util.ScLogHandler;
+import org.slf4j.Logger;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Benchmark for thread contention on {@link Selentic} accessors. No browser is started.
+ * <p>
+ * Each thread calls {@link Selentic#browser()} repeatedly. The same calls are also made while holding the
+ * {@code Selentic.class} monitor, which is how the accessors behaved when they were {@code static synchronized}.
+ * Throughput of both is logged for comparison. The measurements depend on the machine, so nothing is asserted. The
+ * benchmark is part of the benchmark suite, which is run by the {@code benchmark} task of the build.
+ */
+public class ScContextContentionBenchmark {
+    private static final Logger LOG = ScLogHandler.logger(ScContextContentionBenchmark.class);
+
+    /** Accessor calls per thread in each measurement. */
+    private static final int CALLS_PER_THREAD = 200_000;
+
+    /**
+     * Thread counts to measure.
+     *
+     * @return thread counts
+     */
+    @DataProvider
+    public Object[][] threadCounts() {
+        return new Object[][] {{16}, {32}};
+    }
+
+    /**
+     * Measures accessor throughput with per-thread context locking, and with a class-wide lock as before.
+     *
+     * @param threadCount number of threads calling the accessor at the same time
+     * @throws Exception if a thread fails
+     */
+    @Test(dataProvider = "threadCounts")
+    public void benchmarkAccessorContention(int threadCount) throws Exception {
+        // Warm up, so that the JIT compiles both paths before measuring.
+        measure(threadCount, false);
+        measure(threadCount, true);
+
+        final long perContextCallsPerSecond = measure(threadCount, false);
+        final long classLockCallsPerSecond = measure(threadCount, true);
+
+        LOG.info("{} threads: {} calls/sec with per-context locking, {} calls/sec with a class-wide lock ({}x)",
+                threadCount, perContextCallsPerSecond, classLockCallsPerSecond,
+                String.format("%.1f", (double) perContextCallsPerSecond / Math.max(1, classLockCallsPerSecond)));
+    }
+
+    /**
+     * Runs the accessor calls on the given number of threads.
+     *
+     * @param threadCount number of threads
+     * @param classLock true to hold the {@code Selentic.class} monitor for each call
+     * @return calls per second over all threads
+     */
+    private static long measure(int threadCount, boolean classLock) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        final CyclicBarrier barrier = new CyclicBarrier(threadCount + 1);
+        final List<Future<Integer>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executor.submit(() -> {
+                    int chromeCount = 0;
+
+                    // Create the context of this thread before measuring.
+                    Selentic.browser();
+                    barrier.await();
+                    for (int call = 0; call < CALLS_PER_THREAD; call++) {
+                        final ScBrowser browser;
+
+                        if (classLock) {
+                            synchronized (Selentic.class) {
+                                browser = Selentic.browser();
+                            }
+                        } else {
+                            browser = Selentic.browser();
+                        }
+                        if (browser == ScBrowser.Chrome) {
+                            chromeCount++;
+                        }
+                    }
+                    Selentic.quit();
+                    return chromeCount;
+                }));
+            }
+            barrier.await();
+
+            final long start = System.nanoTime();
+
+            for (Future<Integer> result : results) {
+                result.get();
+            }
+            final long elapsedNanos = Math.max(1, System.nanoTime() - start);
+
+            return (long) threadCount * CALLS_PER_THREAD * 1_000_000_000L / elapsedNanos;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.emw.selentic.benchmark;
+
+import org.emw.selentic.lib.ScPage;
+import org.emw.selentic.lib.ScSession;
+import org.emw.selentic.lib.Selentic;
+import org.emw.selentic.lib.util.ScLogHandler;
+import org.emw.selentic.regression.page.ScUiComponentPage;
+import org.slf4j.Logger;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/**
+ * Benchmark for the throughput browser profile. The same page loads and clicks on {@code test.htm} are measured in a
+ * browser with the default options and in a browser with the throughput profile, and the medians are logged. The
+ * benchmark is part of the benchmark suite, which is run by the {@code benchmark} task of the build.
+ */
+public class ScThroughputProfileBenchmark {
+    private static final Logger LOG = ScLogHandler.logger(ScThroughputProfileBenchmark.class);
+    private static final String TEST_PAGE = "file://" + System.getProperty("user.dir") + "/build/resources/test/test_file/test.htm";
+    private static final int PAGE_LOADS = 5;
+    private static final int CLICKS = 20;
+
+    /** Browser with default options. */
+    private ScSession defaultSession;
+
+    /** Browser with the throughput profile. */
+    private ScSession throughputSession;
+
+    /**
+     * Creates both sessions and starts their browsers.
+     */
+    @BeforeClass
+    public void setup() {
+        defaultSession = Selentic.newSession();
+        throughputSession = Selentic.newSession();
+        defaultSession.run(() -> {
+            Selentic.enableHeadless();
+            Selentic.open();
+        });
+        throughputSession.run(() -> {
+            Selentic.enableHeadless();
+            Selentic.enableThroughputProfile();
+            Selentic.open();
+        });
+    }
+
+    /**
+     * Quits both browsers.
+     */
+    @AfterClass(alwaysRun = true)
+    public void finish() {
+        try {
+            defaultSession.quit();
+        } finally {
+            throughputSession.quit();
+        }
+    }
+
+    /**
+     * Measures page load and click latency with and without the profile.
+     */
+    @Test
+    public void benchmarkThroughputProfile() {
+        final long[] defaultResults = defaultSession.call(ScThroughputProfileBenchmark::measure);
+        final long[] throughputResults = throughputSession.call(ScThroughputProfileBenchmark::measure);
+
+        LOG.info("Page load median: {} ms default, {} ms throughput profile", defaultResults[0], throughputResults[0]);
+        LOG.info("Click median: {} ms default, {} ms throughput profile", defaultResults[1], throughputResults[1]);
+    }
+
+    /**
+     * Loads the test page and clicks a button repeatedly in the bound session.
+     *
+     * @return median page load and median click duration in milliseconds
+     */
+    private static long[] measure() {
+        final long[] pageLoads = new long[PAGE_LOADS];
+        final long[] clicks = new long[CLICKS];
+
+        for (int i = 0; i < PAGE_LOADS; i++) {
+            final long start = System.currentTimeMillis();
+
+            Selentic.open(TEST_PAGE);
+            ScPage.with(ScUiComponentPage.class).inPage(p -> {});
+            pageLoads[i] = System.currentTimeMillis() - start;
+        }
+        ScPage.with(ScUiComponentPage.class).inPage(p -> {
+            for (int i = 0; i < CLICKS; i++) {
+                final long start = System.currentTimeMillis();
+
+                p.testButton().click();
+                clicks[i] = System.currentTimeMillis() - start;
+            }
+        });
+        return new long[] {median(pageLoads), median(clicks)};
+    }
+
+    private static long median(long[] values) {
+        final long[] sorted = values.clone();
+
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
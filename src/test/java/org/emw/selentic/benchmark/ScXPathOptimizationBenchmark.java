@@ -0,0 +1,67 @@
+package org.emw.selentic.benchmark;
+
+import org.emw.selentic.lib.Selentic;
+import org.emw.selentic.lib.selector.ScCompiledSelector;
+import org.emw.selentic.lib.selector.ScXPath;
+import org.emw.selentic.lib.util.ScLogHandler;
+import org.emw.selentic.regression.page.ScXPathTestPage;
+import org.openqa.selenium.By;
+import org.slf4j.Logger;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/**
+ * Benchmark for rewriting XPath as CSS selectors. The lookup latency of each CSS-expressible XPath and of the CSS
+ * selector it is compiled to is measured on {@code selector-test.htm}, and the medians are logged. The benchmark is
+ * part of the benchmark suite, which is run by the {@code benchmark} task of the build.
+ */
+public class ScXPathOptimizationBenchmark {
+    private static final Logger LOG = ScLogHandler.logger(ScXPathOptimizationBenchmark.class);
+    private static final int LOOKUPS = 50;
+
+    /**
+     * Opens the selector test page in a headless browser.
+     */
+    @BeforeClass
+    public void setup() {
+        Selentic.enableHeadless();
+        Selentic.open("file://" + System.getProperty("user.dir") + "/build/resources/test/test_file/selector-test.htm");
+    }
+
+    /**
+     * Quits the browser.
+     */
+    @AfterClass(alwaysRun = true)
+    public void shutdown() {
+        Selentic.quit();
+    }
+
+    /**
+     * Measures the lookup latency of the XPath and CSS forms of each selector.
+     */
+    @Test
+    public void benchmarkCssEquivalentSelectors() {
+        for (ScXPath selector : ScXPathTestPage.cssEquivalentSelectors()) {
+            final ScCompiledSelector compiled = selector.compile();
+            final By xpath = By.xpath("." + selector);
+
+            LOG.info("{} ms XPath \"{}\", {} ms CSS \"{}\" (median of {} lookups)", median(xpath), xpath, median(compiled.by()), compiled.text(), LOOKUPS);
+        }
+    }
+
+    private static double median(By by) {
+        final long[] nanoseconds = new long[LOOKUPS];
+
+        for (int i = 0; i < LOOKUPS; i++) {
+            final long start = System.nanoTime();
+
+            Selentic.driver().findElements(by);
+            nanoseconds[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanoseconds);
+        return nanoseconds[LOOKUPS / 2] / 1_000_000.0;
+    }
+}
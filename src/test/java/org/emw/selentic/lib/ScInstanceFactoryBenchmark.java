@@ -0,0 +1,106 @@
+package org.emw.selentic.lib;
+
+import org.emw.selentic.lib.ScInstanceFactoryTest.ScFactoryTestPage;
+import org.emw.selentic.lib.util.ScLogHandler;
+import org.slf4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Benchmark for {@link ScInstanceFactory}. No browser is started.
+ * <p>
+ * Components and collections are created through {@code $component} and {@code $$components}, and the same objects
+ * with a reflective constructor lookup for each instance, which is how they were created before. Throughput of both
+ * is logged for comparison. The benchmark is part of the benchmark suite, which is run by the {@code benchmark} task
+ * of the build.
+ */
+public class ScInstanceFactoryBenchmark {
+    private static final Logger LOG = ScLogHandler.logger(ScInstanceFactoryBenchmark.class);
+
+    /** Instances created in each measurement. */
+    private static final int CREATIONS = 100_000;
+
+    /**
+     * Kinds of created objects to measure.
+     *
+     * @return true for collections, false for components
+     */
+    @DataProvider
+    public Object[][] creationKinds() {
+        return new Object[][] {{false}, {true}};
+    }
+
+    /**
+     * Measures creation throughput with cached constructor handles, and with a reflective lookup per instance as
+     * before.
+     *
+     * @param collections true to create collections, false to create components
+     * @throws Exception if an instance cannot be created
+     */
+    @Test(dataProvider = "creationKinds")
+    public void benchmarkCreationThroughput(boolean collections) throws Exception {
+        final ScFactoryTestPage page = new ScFactoryTestPage();
+
+        // Warm up, so that the JIT compiles both paths before measuring.
+        measure(page, collections, false);
+        measure(page, collections, true);
+
+        final long factoryCreationsPerSecond = measure(page, collections, false);
+        final long reflectionCreationsPerSecond = measure(page, collections, true);
+
+        LOG.info("{} {}: {} creations/sec with constructor handles, {} creations/sec with reflection ({}x)",
+                CREATIONS, collections ? "collections" : "components", factoryCreationsPerSecond, reflectionCreationsPerSecond,
+                String.format("%.1f", (double) factoryCreationsPerSecond / Math.max(1, reflectionCreationsPerSecond)));
+    }
+
+    /**
+     * Creates the components or collections.
+     *
+     * @param page page that creates the objects
+     * @param collections true to create collections, false to create components
+     * @param reflection true to look up the constructor by reflection for each instance
+     * @return creations per second
+     */
+    private static long measure(ScFactoryTestPage page, boolean collections, boolean reflection) throws Exception {
+        int created = 0;
+        final long start = System.nanoTime();
+
+        for (int i = 0; i < CREATIONS; i++) {
+            final Object instance;
+
+            if (collections && reflection) {
+                final ScBenchmarkCollection collection = ScBenchmarkCollection.class.getDeclaredConstructor().newInstance();
+
+                collection.setSelector(ScFactoryTestPage.SELECTOR);
+                collection.setComponentType(ScGenericComponent.class);
+                collection.setCallerComponent(page);
+                instance = collection;
+            } else if (collections) {
+                instance = page.$$components(ScFactoryTestPage.SELECTOR, ScGenericComponent.class, ScBenchmarkCollection.class);
+            } else if (reflection) {
+                final ScGenericComponent component = ScGenericComponent.class.getDeclaredConstructor().newInstance();
+
+                component.setSelector(ScFactoryTestPage.SELECTOR);
+                component.setCallerComponent(page);
+                instance = component;
+            } else {
+                instance = page.$component(ScFactoryTestPage.SELECTOR, ScGenericComponent.class);
+            }
+            if (instance != null) {
+                created++;
+            }
+        }
+
+        final long elapsedNanos = Math.max(1, System.nanoTime() - start);
+
+        Assert.assertEquals(created, CREATIONS);
+        return (long) CREATIONS * 1_000_000_000L / elapsedNanos;
+    }
+
+    /**
+     * Custom collection type, created through the factory.
+     */
+    public static class ScBenchmarkCollection extends ScComponentCollection<ScGenericComponent> {
+    }
+}
@@ -0,0 +1,105 @@
+package org.emw.selentic.lib;
+
+import org.emw.selentic.lib.exception.ScComponentCreationException;
+import org.emw.selentic.lib.selector.ScCssSelector;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Tests for {@link ScInstanceFactory}. No browser is started.
+ *
+ * @see ScInstanceFactoryBenchmark
+ */
+public class ScInstanceFactoryTest {
+
+    /**
+     * Verifies that the factory of a class is created once and reused.
+     */
+    @Test
+    public void testFactoryReused() {
+        Assert.assertSame(ScInstanceFactory.of(ScGenericComponent.class), ScInstanceFactory.of(ScGenericComponent.class));
+    }
+
+    /**
+     * Verifies that an inner class is created with the containing object, both directly and through
+     * {@code $component}.
+     *
+     * @throws ReflectiveOperationException if the instance cannot be created
+     */
+    @Test
+    public void testInnerClassInstance() throws ReflectiveOperationException {
+        final ScFactoryTestPage page = new ScFactoryTestPage();
+        final ScFactoryTestPage.ScInnerComponent created = ScInstanceFactory.of(ScFactoryTestPage.ScInnerComponent.class).newInstance(page);
+        final ScFactoryTestPage.ScInnerComponent component = page.$component(ScFactoryTestPage.SELECTOR, ScFactoryTestPage.ScInnerComponent.class, page);
+
+        Assert.assertSame(created.containingPage(), page);
+        Assert.assertSame(component.containingPage(), page);
+        Assert.assertNotSame(component, created);
+        // The handle cached for the containing class is used again.
+        Assert.assertSame(ScInstanceFactory.of(ScFactoryTestPage.ScInnerComponent.class).newInstance(page).containingPage(), page);
+    }
+
+    /**
+     * Verifies that an exception thrown by a constructor is wrapped in an {@link InvocationTargetException}, as with
+     * reflection, and in a {@link ScComponentCreationException} when creating a component.
+     */
+    @Test
+    public void testConstructorException() {
+        final InvocationTargetException ex = Assert.expectThrows(InvocationTargetException.class,
+                () -> ScInstanceFactory.of(ScThrowingComponent.class).newInstance());
+        final ScComponentCreationException creationEx = Assert.expectThrows(ScComponentCreationException.class,
+                () -> new ScFactoryTestPage().$component(ScFactoryTestPage.SELECTOR, ScThrowingComponent.class));
+
+        Assert.assertTrue(ex.getCause() instanceof IllegalStateException);
+        Assert.assertEquals(ex.getCause().getMessage(), ScThrowingComponent.MESSAGE);
+        Assert.assertTrue(creationEx.getCause() instanceof InvocationTargetException);
+        Assert.assertEquals(creationEx.getCause().getCause().getMessage(), ScThrowingComponent.MESSAGE);
+    }
+
+    /**
+     * Verifies that a missing constructor is reported as with reflection.
+     */
+    @Test
+    public void testMissingConstructor() {
+        Assert.expectThrows(NoSuchMethodException.class, () -> ScInstanceFactory.of(ScFactoryTestPage.ScInnerComponent.class).newInstance());
+    }
+
+    /**
+     * Page that creates the components. It is never entered, so no browser is needed.
+     */
+    public static class ScFactoryTestPage extends ScPage {
+        static final ScCssSelector SELECTOR = _cssSelector.descendant(_id("factory-test"));
+
+        /**
+         * Component declared as an inner class of the page.
+         */
+        public class ScInnerComponent extends ScComponent {
+            @Override
+            protected void rules(ScComponentRule rule) {
+                rule.any();
+            }
+
+            ScFactoryTestPage containingPage() {
+                return ScFactoryTestPage.this;
+            }
+        }
+    }
+
+    /**
+     * Component whose constructor throws.
+     */
+    public static class ScThrowingComponent extends ScComponent {
+        static final String MESSAGE = "constructor failed";
+
+        public ScThrowingComponent() {
+            throw new IllegalStateException(MESSAGE);
+        }
+
+        @Override
+        protected void rules(ScComponentRule rule) {
+            rule.any();
+        }
+    }
+}
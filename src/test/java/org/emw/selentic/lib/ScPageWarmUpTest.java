@@ -0,0 +1,138 @@
+package org.emw.selentic.lib;
+
+import org.emw.selentic.lib.selector.ScCssSelector;
+import org.emw.selentic.regression.page.ScUiComponentPage;
+import org.emw.selentic.regression.test.ScBaseTest;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Regression test suite for page warm-up. Page-level components must behave the same whether their element was
+ * resolved when entering the page, replaced afterward, or added after entering the page.
+ */
+public class ScPageWarmUpTest extends ScBaseTest {
+
+    /** Page object wrapper for a page that opts in to warm-up. */
+    private final ScWithPage<ScWarmUpTestPage> testPage = ScPage.with(ScWarmUpTestPage.class);
+
+    /** Page object wrapper for a page that opts out of warm-up. */
+    private final ScWithPage<ScColdTestPage> coldPage = ScPage.with(ScColdTestPage.class);
+
+    /**
+     * Loads the test HTML file before any tests run.
+     */
+    @BeforeClass
+    public void setup() {
+        Selentic.open("file://" + System.getProperty("user.dir") + "/build/resources/test/test_file/test.htm");
+    }
+
+    /**
+     * Reloads the page after each test to ensure isolation.
+     */
+    @AfterMethod(alwaysRun = true)
+    public void reload() {
+        testPage.inPage(ScPage::reload);
+    }
+
+    /**
+     * Ensures the browser session is terminated after all tests in this class have executed.
+     */
+    @AfterClass(alwaysRun = true)
+    public void shutdown() {
+        Selentic.quit();
+    }
+
+    /**
+     * Verifies that the elements of the declared selectors are resolved when entering the page, and that selectors
+     * matching nothing are left out.
+     */
+    @Test
+    public void testElementsSeeded() {
+        testPage.inPage(page -> {
+            Assert.assertEquals(page.warmElement(ScWarmUpTestPage.TEXTBOX), Selentic.driver().findElement(By.id("test-textbox")));
+            Assert.assertEquals(page.warmElement(ScWarmUpTestPage.BUTTON_INDICATOR), Selentic.driver().findElement(By.id("test-button-indicator")));
+            Assert.assertNull(page.warmElement(ScWarmUpTestPage.NON_EXISTING));
+        });
+    }
+
+    /**
+     * Verifies that no element is resolved when entering a page that opts out of warm-up.
+     */
+    @Test
+    public void testElementsNotSeeded() {
+        coldPage.inPage(page -> {
+            Assert.assertNull(page.warmElement(ScWarmUpTestPage.TEXTBOX));
+            Assert.assertEquals(page.testTextbox().text(), "textbox text");
+        });
+    }
+
+    /**
+     * Verifies that components resolved when entering the page can be used.
+     */
+    @Test
+    public void testWarmComponents() {
+        testPage.inPage(page -> {
+            Assert.assertNotNull(page.warmElement(ScWarmUpTestPage.TEXTBOX));
+            Assert.assertEquals(page.testTextbox().text(), "textbox text");
+            page.testButton().click();
+            Assert.assertEquals(page.testButtonIndicatorText().text(), "Clicked!");
+        });
+    }
+
+    /**
+     * Verifies that a component whose element was replaced after entering the page finds the new element, and that
+     * the stale element is discarded.
+     */
+    @Test
+    public void testReplacedComponent() {
+        testPage.inPage(page -> {
+            Assert.assertNotNull(page.warmElement(ScWarmUpTestPage.BUTTON_INDICATOR));
+            Assert.assertTrue(page.testButtonIndicatorText().exists());
+            Selentic.executeScript("document.getElementById('test-button-indicator').outerHTML = '<span id=\"test-button-indicator\">replaced</span>'");
+            Assert.assertEquals(page.testButtonIndicatorText().text(), "replaced");
+            Assert.assertNull(page.warmElement(ScWarmUpTestPage.BUTTON_INDICATOR));
+        });
+    }
+
+    /**
+     * Verifies that a component that did not exist when entering the page is found once it is added.
+     */
+    @Test
+    public void testAddedComponent() {
+        testPage.inPage(page -> {
+            Assert.assertFalse(page.testNonExistingLink().exists());
+            Selentic.executeScript("document.body.insertAdjacentHTML('beforeend', '<a id=\"does-not-exist\" href=\"#\">added</a>')");
+            Assert.assertEquals(page.testNonExistingLink().text(), "added");
+        });
+    }
+
+    /**
+     * UI component test page that opts in to warm-up. The selectors are equal to those declared by
+     * {@link ScUiComponentPage}, so that the resolved elements can be looked up.
+     */
+    public static class ScWarmUpTestPage extends ScUiComponentPage {
+        static final ScCssSelector TEXTBOX = _cssSelector.descendant(_id("test-textbox"));
+        static final ScCssSelector BUTTON_INDICATOR = _cssSelector.descendant(_id("test-button-indicator"));
+        static final ScCssSelector NON_EXISTING = _cssSelector.descendant(_id("does-not-exist"));
+
+        @Override
+        protected boolean warmsUpOnEntry() {
+            return true;
+        }
+    }
+
+    /**
+     * UI component test page that opts out of warm-up.
+     */
+    public static class ScColdTestPage extends ScWarmUpTestPage {
+
+        @Override
+        protected boolean warmsUpOnEntry() {
+            return false;
+        }
+    }
+}
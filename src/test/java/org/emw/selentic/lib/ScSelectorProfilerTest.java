@@ -0,0 +1,111 @@
+package org.emw.selentic.lib;
+
+import org.emw.selentic.lib.config.SelenticConfig;
+import org.emw.selentic.lib.selector.ScCssSelector;
+import org.emw.selentic.regression.test.ScBaseTest;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Tests for selector profiling that is switched on and off during the run.
+ */
+public class ScSelectorProfilerTest extends ScBaseTest {
+
+    /** Page object wrapper for the profiled test page. */
+    private final ScWithPage<ScProfiledTestPage> profiledPage = ScPage.with(ScProfiledTestPage.class);
+
+    /**
+     * Navigates to the selector test page.
+     */
+    @BeforeClass
+    public void setup() {
+        Selentic.open("file://" + System.getProperty("user.dir") + "/build/resources/test/test_file/selector-test.htm");
+    }
+
+    /**
+     * Restores profiling to its configured value after each test.
+     */
+    @AfterMethod(alwaysRun = true)
+    public void restoreProfiling() {
+        Selentic.enableSelectorProfiling(SelenticConfig.config().isSelectorProfiled());
+    }
+
+    /**
+     * Closes the browser session after all tests in this class have run.
+     */
+    @AfterClass(alwaysRun = true)
+    public void shutdown() {
+        Selentic.quit();
+    }
+
+    /**
+     * Verifies that lookups are recorded while profiling is enabled, and appear in the report with their count.
+     */
+    @Test
+    public void testLookupsProfiled() {
+        final int before = ScSelectorProfiler.lookups(ScProfiledTestPage.class, ScProfiledTestPage.HEADINGS);
+
+        Selentic.enableSelectorProfiling(true);
+        Assert.assertTrue(ScSelectorProfiler.isEnabled());
+        profiledPage.inPage(p -> {
+            Assert.assertEquals(p.headings().size(), 3);
+            Assert.assertEquals(p.headings().size(), 3);
+        });
+
+        final int lookups = ScSelectorProfiler.lookups(ScProfiledTestPage.class, ScProfiledTestPage.HEADINGS);
+        final String selectorLine = line(ScSelectorProfiler.reportLines(), ScProfiledTestPage.class.getSimpleName() + " " + ScProfiledTestPage.HEADINGS.compile().text());
+        final String[] columns = selectorLine.trim().split("\\s+");
+
+        Assert.assertEquals(lookups - before, 2);
+        Assert.assertEquals(Integer.parseInt(columns[1]), lookups);
+        // Maximum number of matched nodes.
+        Assert.assertEquals(Integer.parseInt(columns[4]), 3);
+        line(ScSelectorProfiler.reportLines(), ScProfiledTestPage.class.getName());
+    }
+
+    /**
+     * Verifies that lookups are not recorded once profiling is disabled.
+     */
+    @Test
+    public void testProfilingDisabled() {
+        Selentic.enableSelectorProfiling(true);
+        profiledPage.inPage(p -> Assert.assertEquals(p.headings().size(), 3));
+        Selentic.enableSelectorProfiling(false);
+        Assert.assertFalse(ScSelectorProfiler.isEnabled());
+
+        final int before = ScSelectorProfiler.lookups(ScProfiledTestPage.class, ScProfiledTestPage.HEADINGS);
+
+        profiledPage.inPage(p -> Assert.assertEquals(p.headings().size(), 3));
+        Assert.assertEquals(ScSelectorProfiler.lookups(ScProfiledTestPage.class, ScProfiledTestPage.HEADINGS), before);
+    }
+
+    /**
+     * Returns the report line that ends with the name.
+     *
+     * @param lines lines of the report
+     * @param name selector or class name at the end of the line
+     * @return the line
+     */
+    private static String line(List<String> lines, String name) {
+        return lines.stream()
+                .filter(l -> l.endsWith("  " + name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No report line for " + name + ": " + lines));
+    }
+
+    /**
+     * Page that declares the profiled selector, so that its statistics are not shared with other tests.
+     */
+    public static class ScProfiledTestPage extends ScPage {
+        static final ScCssSelector HEADINGS = _cssSelector.descendant("h2");
+
+        ScComponentCollection<ScGenericComponent> headings() {
+            return $$components(HEADINGS, ScGenericComponent.class);
+        }
+    }
+}
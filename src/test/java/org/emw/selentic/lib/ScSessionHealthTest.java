@@ -0,0 +1,81 @@
+package org.emw.selentic.lib;
+
+import org.emw.selentic.regression.test.ScBaseTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for the recycle thresholds of {@link ScSessionHealth}. Samples are recorded directly, so no browser is
+ * needed.
+ */
+public class ScSessionHealthTest extends ScBaseTest {
+    private static final long MEGABYTE = 1024 * 1024;
+
+    /**
+     * Verifies that a session is recycled once its heap exceeds the limit, and that 0 means no limit.
+     */
+    @Test
+    public void testHeapThreshold() {
+        final ScSessionHealth health = new ScSessionHealth();
+
+        health.record(5, 100 * MEGABYTE);
+        Assert.assertNull(health.recycleReason(100 * MEGABYTE, 0));
+        Assert.assertTrue(String.valueOf(health.recycleReason(99 * MEGABYTE, 0)).startsWith("heap "));
+        Assert.assertNull(health.recycleReason(0, 0));
+
+        health.record(5, -1);
+        Assert.assertNull(health.recycleReason(MEGABYTE, 0));
+    }
+
+    /**
+     * Verifies that the latency is compared to the fastest sample, only from the second sample on, and that an
+     * increase within the tolerance is not counted as degradation.
+     */
+    @Test
+    public void testLatencyFactorThreshold() {
+        final ScSessionHealth health = new ScSessionHealth();
+
+        health.record(100, -1);
+        Assert.assertNull(health.recycleReason(0, 1.5), "The first sample is the baseline.");
+
+        health.record(150, -1);
+        Assert.assertNull(health.recycleReason(0, 1.5));
+
+        health.record(151, -1);
+        Assert.assertEquals(health.recycleReason(0, 1.5), "command latency 151 ms exceeds 150 ms");
+        Assert.assertNull(health.recycleReason(0, 0));
+
+        health.record(50, -1);
+        Assert.assertNull(health.recycleReason(0, 1.5), "A faster sample becomes the new baseline.");
+
+        health.record(80, -1);
+        Assert.assertEquals(health.recycleReason(0, 1.5), "command latency 80 ms exceeds 75 ms");
+    }
+
+    /**
+     * Verifies that small latency increases of a fast session are tolerated, however large the factor is.
+     */
+    @Test
+    public void testLatencyTolerance() {
+        final ScSessionHealth health = new ScSessionHealth();
+
+        health.record(1, -1);
+        health.record(21, -1);
+        Assert.assertNull(health.recycleReason(0, 3));
+
+        health.record(22, -1);
+        Assert.assertEquals(health.recycleReason(0, 3), "command latency 22 ms exceeds 21 ms");
+    }
+
+    /**
+     * Verifies that the heap limit is checked before the latency.
+     */
+    @Test
+    public void testHeapCheckedFirst() {
+        final ScSessionHealth health = new ScSessionHealth();
+
+        health.record(10, -1);
+        health.record(100, 200 * MEGABYTE);
+        Assert.assertTrue(String.valueOf(health.recycleReason(100 * MEGABYTE, 2)).startsWith("heap "));
+    }
+}
@@ -0,0 +1,280 @@
+package org.emw.selentic.lib;
+
+import org.emw.selentic.regression.test.ScBaseTest;
+import org.emw.selentic.regression.util.ScTestFileServer;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Regression test suite for the session pool. Each test uses its own pool, with limits set for the test, and its own
+ * browser options, so that sessions are not shared with other tests running in parallel.
+ */
+public class ScSessionPoolTest extends ScBaseTest {
+    private static final long NO_HEAP_LIMIT = Long.MAX_VALUE;
+    private static final double NO_LATENCY_LIMIT = Double.MAX_VALUE;
+
+    /** Local server for the test files. */
+    private ScTestFileServer server;
+
+    /** Pools created by the current test. */
+    private final List<ScSessionPool> pools = new ArrayList<>();
+
+    /** Sessions leased by the current test and not released. */
+    private final List<ScBrowserSession> leasedSessions = new ArrayList<>();
+
+    /**
+     * Starts the local server.
+     */
+    @BeforeClass
+    public void setup() throws IOException {
+        server = new ScTestFileServer();
+    }
+
+    /**
+     * Quits the sessions of the current test.
+     */
+    @AfterMethod(alwaysRun = true)
+    public void quitSessions() {
+        leasedSessions.forEach(ScBrowserSession::quit);
+        leasedSessions.clear();
+        pools.forEach(ScSessionPool::shutdown);
+        pools.clear();
+    }
+
+    /**
+     * Stops the local server.
+     */
+    @AfterClass(alwaysRun = true)
+    public void finish() {
+        server.close();
+    }
+
+    /**
+     * Verifies that a released session is reset, and leased again instead of starting a new browser.
+     */
+    @Test
+    public void testLeaseResetAndRelease() {
+        final ScSessionPool pool = pool(2, 5, 60000);
+        final ScWebDriverOptions options = options();
+        final ScBrowserSession session = lease(pool, options);
+        final WebDriver driver = session.driver();
+
+        driver.get(server.url("test.htm"));
+        driver.manage().addCookie(new Cookie("selentic-test", "leased"));
+        ((JavascriptExecutor) driver).executeScript("localStorage.setItem('selentic-test', 'leased'); sessionStorage.setItem('selentic-test', 'leased');");
+        driver.switchTo().newWindow(WindowType.TAB);
+        release(pool, session);
+        Assert.assertEquals(pool.idleCount(), 1);
+
+        final ScBrowserSession leased = lease(pool, options);
+
+        Assert.assertSame(leased, session);
+        Assert.assertEquals(leased.leaseCount(), 2);
+        Assert.assertEquals(pool.idleCount(), 0);
+        Assert.assertEquals(driver.getWindowHandles().size(), 1);
+        Assert.assertEquals(driver.getCurrentUrl(), "about:blank");
+
+        driver.get(server.url("test.htm"));
+        Assert.assertNull(driver.manage().getCookieNamed("selentic-test"));
+        Assert.assertNull(((JavascriptExecutor) driver).executeScript("return localStorage.getItem('selentic-test');"));
+        Assert.assertNull(((JavascriptExecutor) driver).executeScript("return sessionStorage.getItem('selentic-test');"));
+    }
+
+    /**
+     * Verifies that the cookies and storage of an origin visited before the last page are cleared too.
+     */
+    @Test
+    public void testOtherOriginsCleared() {
+        final ScSessionPool pool = pool(2, 5, 60000);
+        final ScWebDriverOptions options = options();
+        final ScBrowserSession session = lease(pool, options);
+        final WebDriver driver = session.driver();
+        final String firstOriginUrl = server.url("test.htm");
+
+        driver.get(firstOriginUrl);
+        driver.manage().addCookie(new Cookie("selentic-test", "leased"));
+        ((JavascriptExecutor) driver).executeScript("localStorage.setItem('selentic-test', 'leased'); sessionStorage.setItem('selentic-test', 'leased');");
+        // The page shown when the session is released has another origin.
+        driver.get(firstOriginUrl.replace("localhost", "127.0.0.1"));
+        release(pool, session);
+        Assert.assertSame(lease(pool, options), session);
+
+        driver.get(firstOriginUrl);
+        Assert.assertNull(driver.manage().getCookieNamed("selentic-test"));
+        Assert.assertNull(((JavascriptExecutor) driver).executeScript("return localStorage.getItem('selentic-test');"));
+        Assert.assertNull(((JavascriptExecutor) driver).executeScript("return sessionStorage.getItem('selentic-test');"));
+    }
+
+    /**
+     * Verifies that a session whose original window was closed is quit instead of pooled, since its DevTools state
+     * belongs to that window.
+     */
+    @Test
+    public void testOriginalWindowClosed() {
+        final ScSessionPool pool = pool(2, 5, 60000);
+        final ScBrowserSession session = lease(pool, options());
+        final WebDriver driver = session.driver();
+        final String originalHandle = driver.getWindowHandle();
+
+        driver.switchTo().newWindow(WindowType.TAB);
+        driver.switchTo().window(originalHandle).close();
+        release(pool, session);
+
+        Assert.assertEquals(pool.idleCount(), 0);
+        Assert.assertFalse(session.isAlive());
+    }
+
+    /**
+     * Verifies that a session is not leased to options with another session key.
+     */
+    @Test
+    public void testSessionKey() {
+        final ScSessionPool pool = pool(2, 5, 60000);
+        final ScBrowserSession session = lease(pool, options());
+
+        release(pool, session);
+
+        final ScBrowserSession other = lease(pool, options());
+
+        Assert.assertNotSame(other, session);
+        Assert.assertEquals(pool.idleCount(), 1);
+    }
+
+    /**
+     * Verifies that a session is quit instead of pooled once it has been leased the maximum number of times.
+     */
+    @Test
+    public void testMaxReuse() {
+        final ScSessionPool pool = pool(2, 2, 60000);
+        final ScWebDriverOptions options = options();
+        final ScBrowserSession session = lease(pool, options);
+
+        release(pool, session);
+        Assert.assertSame(lease(pool, options), session);
+        release(pool, session);
+
+        Assert.assertEquals(pool.idleCount(), 0);
+        Assert.assertFalse(session.isAlive());
+    }
+
+    /**
+     * Verifies that a session is quit instead of pooled when the pool already holds the maximum number of idle
+     * sessions.
+     */
+    @Test
+    public void testMaxIdle() {
+        final ScSessionPool pool = pool(1, 5, 60000);
+        final ScWebDriverOptions options = options();
+        final ScBrowserSession first = lease(pool, options);
+        final ScBrowserSession second = lease(pool, options);
+
+        release(pool, first);
+        release(pool, second);
+
+        Assert.assertEquals(pool.idleCount(), 1);
+        Assert.assertTrue(first.isAlive());
+        Assert.assertFalse(second.isAlive());
+    }
+
+    /**
+     * Verifies that a session idle for longer than the idle timeout is quit.
+     */
+    @Test
+    public void testIdleTimeout() {
+        final ScSessionPool pool = pool(2, 5, 0);
+        final ScBrowserSession session = lease(pool, options());
+
+        release(pool, session);
+        pool.evictIdle();
+
+        Assert.assertEquals(pool.idleCount(), 0);
+        Assert.assertFalse(session.isAlive());
+    }
+
+    /**
+     * Verifies that an idle session whose browser no longer responds is discarded, and a new browser is started.
+     */
+    @Test
+    public void testDeadIdleSessionDiscarded() {
+        final ScSessionPool pool = pool(2, 5, 60000);
+        final ScWebDriverOptions options = options();
+        final ScBrowserSession session = lease(pool, options);
+
+        release(pool, session);
+        session.driver().quit();
+
+        final ScBrowserSession leased = lease(pool, options);
+
+        Assert.assertNotSame(leased, session);
+        Assert.assertTrue(leased.isAlive());
+        Assert.assertEquals(leased.leaseCount(), 1);
+        Assert.assertEquals(pool.idleCount(), 0);
+    }
+
+    /**
+     * Verifies that a prelaunched session is leased instead of starting a new browser, and is pooled again after it is
+     * released.
+     */
+    @Test
+    public void testPrelaunchedSessionLeased() {
+        final ScSessionPool pool = pool(2, 5, 60000);
+        final ScWebDriverOptions options = options();
+
+        pool.prelaunch(ScBrowser.Chrome, options, 1);
+
+        final ScBrowserSession session = lease(pool, options);
+
+        Assert.assertTrue(session.isPrelaunched());
+        Assert.assertEquals(session.leaseCount(), 1);
+        Assert.assertEquals(pool.idleCount(), 0);
+
+        release(pool, session);
+
+        final ScBrowserSession leased = lease(pool, options);
+
+        Assert.assertSame(leased, session);
+        Assert.assertEquals(leased.leaseCount(), 2);
+    }
+
+    private ScSessionPool pool(int maxIdle, int maxReuse, long idleTimeoutMilliseconds) {
+        final ScSessionPool pool = new ScSessionPool(true, maxIdle, maxReuse, idleTimeoutMilliseconds, NO_HEAP_LIMIT, NO_LATENCY_LIMIT);
+
+        pools.add(pool);
+        return pool;
+    }
+
+    /**
+     * Returns headless Chrome options with a session key of their own.
+     */
+    private static ScWebDriverOptions options() {
+        final ScWebDriverOptions options = new ScWebDriverOptions();
+
+        options.enableHeadless();
+        options.chromeOptions().addArguments("--selentic-test-session=" + UUID.randomUUID());
+        return options;
+    }
+
+    private ScBrowserSession lease(ScSessionPool pool, ScWebDriverOptions options) {
+        final ScBrowserSession session = pool.lease(ScBrowser.Chrome, options);
+
+        leasedSessions.add(session);
+        return session;
+    }
+
+    private void release(ScSessionPool pool, ScBrowserSession session) {
+        leasedSessions.remove(session);
+        pool.release(session);
+    }
+}
@@ -0,0 +1,27 @@
+package org.emw.selentic.regression.component;
+
+import org.emw.selentic.lib.ScButton;
+
+/**
+ * Button that overrides {@link #isDisplayed()} and {@link #isEnabled()}, and counts how often they are called. The
+ * component state probe cannot derive the state of such a component from the element alone, so it has to call them.
+ */
+public class ScCountingButton extends ScButton {
+    private int stateChecks;
+
+    @Override
+    public boolean isDisplayed() {
+        this.stateChecks++;
+        return super.isDisplayed();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        this.stateChecks++;
+        return super.isEnabled();
+    }
+
+    public int stateChecks() {
+        return this.stateChecks;
+    }
+}
@@ -0,0 +1,25 @@
+package org.emw.selentic.regression.component;
+
+import org.emw.selentic.lib.ScButton;
+import org.emw.selentic.lib.ScComponent;
+import org.emw.selentic.lib.ScComponentRule;
+import org.emw.selentic.lib.ScGenericComponent;
+import org.emw.selentic.lib.selector.ScCssSelector;
+
+public class ScShadowCard extends ScComponent {
+    private static final ScCssSelector TITLE_TEXT = _cssSelector.shadow(_cssClasses("title"));
+    private static final ScCssSelector BUTTON = _cssSelector.shadow("ds-button").shadow("button");
+
+    @Override
+    protected void rules(ScComponentRule rule) {
+        rule.tag().is("ds-card");
+    }
+
+    public ScGenericComponent titleText() {
+        return $genericComponent(TITLE_TEXT);
+    }
+
+    public ScButton button() {
+        return $button(BUTTON);
+    }
+}
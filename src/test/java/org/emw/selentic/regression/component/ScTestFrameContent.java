@@ -2,11 +2,14 @@ package org.emw.selentic.regression.component;
 
 import org.emw.selentic.lib.ScComponentCollection;
 import org.emw.selentic.lib.ScFrameContent;
+import org.emw.selentic.lib.ScGenericComponent;
 import org.emw.selentic.lib.ScTextbox;
 import org.emw.selentic.lib.selector.ScXPath;
 
 public class ScTestFrameContent extends ScFrameContent {
     private static final ScXPath TEST_EXTERNAL_TEXTBOX = _xpath.descendant("input", _id().is("test-external-textbox"));
+    private static final ScXPath TEST_EXTERNAL_HIDDEN_TEXT = _xpath.descendant("div", _id().is("test-external-hidden-text"));
+    private static final ScXPath TEST_EXTERNAL_SPACED_TEXT = _xpath.descendant("div", _id().is("test-external-spaced-text"));
     private static final ScXPath TEST_EXTERNAL_ROWS = _xpath.descendant("table", _id().is("test-external-table")).descendant("tr", _cssClasses("data"));
 
     @Override
@@ -18,6 +21,14 @@ public class ScTestFrameContent extends ScFrameContent {
         return $component(TEST_EXTERNAL_TEXTBOX, ScTextbox.class);
     }
 
+    public ScGenericComponent testExternalHiddenText() {
+        return $genericComponent(TEST_EXTERNAL_HIDDEN_TEXT);
+    }
+
+    public ScGenericComponent testExternalSpacedText() {
+        return $genericComponent(TEST_EXTERNAL_SPACED_TEXT);
+    }
+
     public ScComponentCollection<ScTestTableRow> testExternalTableRows() {
         return $$components(TEST_EXTERNAL_ROWS, ScTestTableRow.class);
     }
@@ -17,6 +17,11 @@ public class ScTestTableRow extends ScComponent {
         rule.tag().is("tr");
     }
 
+    @Override
+    protected boolean memoizesChildComponents() {
+        return true;
+    }
+
     @Override
     public String text() {
         return productNameText().text();
@@ -0,0 +1,37 @@
+package org.emw.selentic.regression.component;
+
+import org.emw.selentic.lib.ScComponent;
+import org.emw.selentic.lib.ScComponentCollection;
+import org.emw.selentic.lib.ScComponentRule;
+import org.emw.selentic.lib.ScGenericComponent;
+import org.emw.selentic.lib.selector.ScXPath;
+
+import java.util.List;
+
+public class ScXPathSiblingTestRow extends ScComponent {
+    private static final ScXPath XPATH_SIBLING_ROWS = _xpath.sibling("tr");
+    private static final ScXPath XPATH_CELLS = _xpath.child("td");
+
+    /**
+     * Returns the component-relative selectors: one that starts with a sibling and must stay XPath, and one that
+     * starts with a child and is rewritten as CSS selector.
+     *
+     * @return sibling selector, followed by child selector
+     */
+    public static List<ScXPath> relativeSelectors() {
+        return List.of(XPATH_SIBLING_ROWS, XPATH_CELLS);
+    }
+
+    @Override
+    protected void rules(ScComponentRule rule) {
+        rule.tag().is("tr");
+    }
+
+    public ScComponentCollection<ScGenericComponent> siblingRows() {
+        return $$components(XPATH_SIBLING_ROWS, ScGenericComponent.class);
+    }
+
+    public ScComponentCollection<ScGenericComponent> cells() {
+        return $$components(XPATH_CELLS, ScGenericComponent.class);
+    }
+}
@@ -16,6 +16,11 @@ public class ScTestDialog extends ScDialog {
         rule.id().is("test-dialog");
     }
 
+    @Override
+    protected void waitForDisplayedDialog() {
+        waitForAll(ScWaitCondition.ToBeDisplayed, this, textbox(), closeButton());
+    }
+
     public ScTextbox textbox() {
         return $component(TEXTBOX, ScTextbox.class);
     }
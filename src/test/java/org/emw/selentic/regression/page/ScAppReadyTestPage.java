@@ -0,0 +1,18 @@
+package org.emw.selentic.regression.page;
+
+import org.emw.selentic.lib.*;
+import org.emw.selentic.lib.selector.ScCssSelector;
+
+public class ScAppReadyTestPage extends ScPage {
+    private static final ScCssSelector APP_STATUS = _cssSelector.descendant(_id("app-status"));
+
+    @Override
+    protected ScPageReadinessOptions readinessOptions() {
+        // The page is only ready once the application sets its flag.
+        return super.readinessOptions().fonts(false).appReadyFlag("__appReady");
+    }
+
+    public ScGenericComponent appStatus() {
+        return $genericComponent(APP_STATUS);
+    }
+}
@@ -5,6 +5,8 @@ import org.emw.selentic.lib.ScGenericComponent;
 import org.emw.selentic.lib.ScPage;
 import org.emw.selentic.lib.selector.ScCssSelector;
 
+import java.util.List;
+
 public class ScCssSelectorTestPage extends ScPage {
     private static final ScCssSelector CSS_SELECTOR_OUTER_TABLE2 = _cssSelector.descendant(_id("outer-table-2"));
     private static final ScCssSelector CSS_SELECTOR_ID_TEST_TEXT = _cssSelector.descendant(_id("outer-table-1"));
@@ -27,6 +29,25 @@ public class ScCssSelectorTestPage extends ScPage {
     private static final ScCssSelector CSS_SELECTOR_CHILD_TEST_TEXTS = CSS_SELECTOR_OUTER_TABLE2.child("tbody").child("tr").child("td");
     private static final ScCssSelector CSS_SELECTOR_NOT_TEST_TEXTS = _cssSelector.descendant("body").child(_not(_tag("h2")));
     private static final ScCssSelector CSS_SELECTOR_RAW_TEST_TEXTS = _cssSelector.raw("body > :not(table)");
+    private static final ScCssSelector CSS_SELECTOR_ID_TEST_TEXT_EQUAL = _cssSelector.descendant(_id("outer-table-1"));
+
+    /**
+     * Returns two selectors that are built separately but select the same element.
+     *
+     * @return two equal selectors
+     */
+    public static List<ScCssSelector> equalSelectors() {
+        return List.of(CSS_SELECTOR_ID_TEST_TEXT, CSS_SELECTOR_ID_TEST_TEXT_EQUAL);
+    }
+
+    /**
+     * Returns two selectors built from the same prefix.
+     *
+     * @return selectors sharing their first two segments
+     */
+    public static List<ScCssSelector> prefixSharingSelectors() {
+        return List.of(CSS_SELECTOR_LAST_OF_TYPE_NESTED_TEST_TEXT, CSS_SELECTOR_CHILD_TEST_TEXTS);
+    }
 
     public ScGenericComponent cssSelectorIdTestText() {
         return $genericComponent(CSS_SELECTOR_ID_TEST_TEXT);
@@ -0,0 +1,23 @@
+package org.emw.selentic.regression.page;
+
+import org.emw.selentic.lib.*;
+import org.emw.selentic.lib.selector.ScCssSelector;
+
+public class ScLongPollTestPage extends ScPage {
+    private static final ScCssSelector POLL_STATUS = _cssSelector.descendant(_id("poll-status"));
+
+    public ScGenericComponent pollStatus() {
+        return $genericComponent(POLL_STATUS);
+    }
+
+    /**
+     * Long poll test page that waits for pending requests, but allows the long-polling request to stay in flight.
+     */
+    public static class ScPendingRequestsPage extends ScLongPollTestPage {
+
+        @Override
+        protected ScPageReadinessOptions readinessOptions() {
+            return super.readinessOptions().pendingRequests(true).maxInFlight(1);
+        }
+    }
+}
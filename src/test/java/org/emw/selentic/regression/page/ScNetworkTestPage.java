@@ -0,0 +1,23 @@
+package org.emw.selentic.regression.page;
+
+import org.emw.selentic.lib.*;
+import org.emw.selentic.lib.selector.ScCssSelector;
+
+public class ScNetworkTestPage extends ScPage {
+    private static final ScCssSelector NETWORK_STATUS = _cssSelector.descendant(_id("network-status"));
+    private static final ScCssSelector DELAYED_REQUEST_BUTTON = _cssSelector.descendant(_id("network-delayed-request-button"));
+
+    @Override
+    protected ScPageReadinessOptions readinessOptions() {
+        // Wait for the request issued while loading, and give the page time to render the response after it finishes.
+        return super.readinessOptions().pendingRequests(true).networkQuietPeriod(200);
+    }
+
+    public ScGenericComponent networkStatus() {
+        return $genericComponent(NETWORK_STATUS);
+    }
+
+    public ScButton delayedRequestButton() {
+        return $button(DELAYED_REQUEST_BUTTON);
+    }
+}
@@ -0,0 +1,38 @@
+package org.emw.selentic.regression.page;
+
+import org.emw.selentic.lib.*;
+import org.emw.selentic.lib.selector.ScCssSelector;
+import org.emw.selentic.regression.component.ScShadowCard;
+
+public class ScShadowDomTestPage extends ScPage {
+    private static final ScCssSelector FIRST_CARD = _cssSelector.descendant("ds-card", _id("card-1"));
+    private static final ScCssSelector FIRST_CARD_TITLE_TEXT = FIRST_CARD.shadow(_cssClasses("title"));
+    private static final ScCssSelector FIRST_CARD_BUTTON = FIRST_CARD.shadow("ds-button").shadow("button");
+    private static final ScCssSelector CARDS = _cssSelector.descendant("ds-card");
+    private static final ScCssSelector CARD_TITLE_TEXTS = CARDS.shadow(_cssClasses("title"));
+    private static final ScCssSelector SHADOW_STATUS = _cssSelector.descendant(_id("shadow-status"));
+
+    public static ScCssSelector firstCardTitleSelector() {
+        return FIRST_CARD_TITLE_TEXT;
+    }
+
+    public ScGenericComponent firstCardTitleText() {
+        return $genericComponent(FIRST_CARD_TITLE_TEXT);
+    }
+
+    public ScButton firstCardButton() {
+        return $button(FIRST_CARD_BUTTON);
+    }
+
+    public ScComponentCollection<ScGenericComponent> cardTitleTexts() {
+        return $$components(CARD_TITLE_TEXTS, ScGenericComponent.class);
+    }
+
+    public ScComponentCollection<ScShadowCard> cards() {
+        return $$components(CARDS, ScShadowCard.class);
+    }
+
+    public ScGenericComponent shadowStatus() {
+        return $genericComponent(SHADOW_STATUS);
+    }
+}
@@ -3,7 +3,6 @@ package org.emw.selentic.regression.page;
 import org.emw.selentic.lib.*;
 import org.emw.selentic.lib.selector.ScCssSelector;
 import org.emw.selentic.regression.component.*;
-import org.emw.selentic.regression.component.*;
 import org.emw.selentic.regression.component.dialog.ScTestDialog;
 import org.emw.selentic.regression.component.dialog.ScTestModalDialog;
 
@@ -20,6 +19,9 @@ public class ScUiComponentPage extends ScPage {
     private static final ScCssSelector TEST_BUTTON = _cssSelector.descendant(_id("test-button"));
     private static final ScCssSelector TEST_BUTTON_INDICATOR_TEXT = _cssSelector.descendant(_id("test-button-indicator"));
     private static final ScCssSelector TEST_IFRAME = _cssSelector.descendant(_id("test-iframe"));
+    private static final ScCssSelector TEST_EXTERNAL_HIDDEN_TEXT = _cssSelector.descendant(_id("test-external-hidden-text"));
+    private static final ScCssSelector TEST_EXTERNAL_SPACED_TEXT = _cssSelector.descendant(_id("test-external-spaced-text"));
+    private static final ScCssSelector TEST_EXTERNAL_SERIAL_NUMBER_TEXT = _cssSelector.descendant(_id("test-external-table")).descendant("tr", _cssClasses("data")).child("td", _cssClasses("serial-number"));
     private static final ScCssSelector TEST_TABLE_ROWS = _cssSelector.descendant(_id("test-table")).descendant("tr", _cssClasses("data"));
     private static final ScCssSelector OPEN_EXTERNAL_WINDOW_LINK = _cssSelector.descendant(_id("test-external-window-link"));
     private static final ScCssSelector TEST_LONG_COMPONENT_LIST = _cssSelector.descendant(_id("long-component-list")).child("div", _cssClasses("long-component-list-entry"));
@@ -92,6 +94,10 @@ public class ScUiComponentPage extends ScPage {
         return $component(TEST_BUTTON, ScButton.class);
     }
 
+    public ScCountingButton testCountingButton() {
+        return $component(TEST_BUTTON, ScCountingButton.class);
+    }
+
     public ScGenericComponent testButtonIndicatorText() {
         return $component(TEST_BUTTON_INDICATOR_TEXT, ScGenericComponent.class);
     }
@@ -128,6 +134,33 @@ public class ScUiComponentPage extends ScPage {
         return $link(TEST_NON_EXISTING_COMPONENT);
     }
 
+    /**
+     * Expose resolveAll() for testing purpose only.
+     * @param components Components to resolve.
+     */
+    public void exposedResolveAll(ScComponent... components) {
+        resolveAll(components);
+    }
+
+    /**
+     * Expose waitForAll() for testing purpose only.
+     * @param waitCondition Name of the wait condition.
+     * @param components Components to wait for.
+     */
+    public void exposedWaitForAll(String waitCondition, ScComponent... components) {
+        waitForAll(ScWaitCondition.valueOf(waitCondition), components);
+    }
+
+    /**
+     * Expose waitForAny() for testing purpose only.
+     * @param waitCondition Name of the wait condition.
+     * @param components Components to wait for.
+     * @return The first component that meets the condition.
+     */
+    public ScComponent exposedWaitForAny(String waitCondition, ScComponent... components) {
+        return waitForAny(ScWaitCondition.valueOf(waitCondition), components);
+    }
+
     public ScAnimatedBox animatedBox() {
         return $component(ANIMATED_BOX, ScAnimatedBox.class);
     }
@@ -173,6 +206,22 @@ public class ScUiComponentPage extends ScPage {
         $frame(TEST_IFRAME, ScTestFrameContent.class, predicate);
     }
 
+    public String testExternalSerialNumberText() {
+        return $frameText(TEST_IFRAME, TEST_EXTERNAL_SERIAL_NUMBER_TEXT);
+    }
+
+    public String testExternalHiddenText() {
+        return $frameText(TEST_IFRAME, TEST_EXTERNAL_HIDDEN_TEXT);
+    }
+
+    public String testExternalSpacedText() {
+        return $frameText(TEST_IFRAME, TEST_EXTERNAL_SPACED_TEXT);
+    }
+
+    public String testNonExistingFrameText() {
+        return $frameText(TEST_IFRAME, TEST_NON_EXISTING_COMPONENT);
+    }
+
     public void inTestDialog(ScDialogAction<ScTestDialog> predicate) {
         $dialog(TEST_DIALOG, ScTestDialog.class, predicate);
     }
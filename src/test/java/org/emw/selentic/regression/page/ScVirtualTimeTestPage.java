@@ -0,0 +1,17 @@
+package org.emw.selentic.regression.page;
+
+import org.emw.selentic.lib.*;
+import org.emw.selentic.lib.selector.ScCssSelector;
+
+public class ScVirtualTimeTestPage extends ScPage {
+    private static final ScCssSelector TIMER_STATUS = _cssSelector.descendant(_id("timer-status"));
+    private static final ScCssSelector START_TIMER_BUTTON = _cssSelector.descendant(_id("start-timer-button"));
+
+    public ScGenericComponent timerStatus() {
+        return $genericComponent(TIMER_STATUS);
+    }
+
+    public ScButton startTimerButton() {
+        return $button(START_TIMER_BUTTON);
+    }
+}
@@ -5,6 +5,9 @@ import org.emw.selentic.lib.ScGenericComponent;
 import org.emw.selentic.lib.ScPage;
 import org.emw.selentic.lib.selector.ScXPath;
 import org.emw.selentic.regression.component.ScXPathSelectorTestTable;
+import org.emw.selentic.regression.component.ScXPathSiblingTestRow;
+
+import java.util.List;
 
 public class ScXPathTestPage extends ScPage {
     private static final ScXPath XPATH_ID_TEST_TEXT = _xpath.descendant(_id().is("outer-table-1"));
@@ -36,8 +39,31 @@ public class ScXPathTestPage extends ScPage {
     private static final ScXPath XPATH_RAW_TEST_TEXTS = _xpath.raw("//body/h2");
     private static final ScXPath XPATH_BOUNDARY_TEST_TEXTS = _xpath.descendant("tr", _id().is("test-between-elements-title-row1")).following("tr").child("td", _indexOf(0), _boundary(_xpath.descendant("tr", _id().is("test-between-elements-title-row2")).child("td")));
 
+    private static final ScXPath XPATH_SIBLING_TEST_ROW = _xpath.descendant(_id().is("outer-table-1")).child("tbody").child("tr", _indexOf(5));
     private static final ScXPath XPATH_SELECTOR_TEST_TABLE = _xpath.descendant("table", _id().is("test-between-elements-table"));
 
+    /**
+     * Returns selectors that use only axes and properties that CSS can express.
+     *
+     * @return selectors that are rewritten as CSS selectors
+     */
+    public static List<ScXPath> cssEquivalentSelectors() {
+        return List.of(XPATH_ID_TEST_TEXT, XPATH_CSS_CLASSES_TEST_TEXTS, XPATH_ATTR_IS_TEST_TEXTS, XPATH_ATTR_WHOLE_WORD_TEST_TEXTS, XPATH_DESCENDANT_TEST_TEXTS, XPATH_CHILD_TEST_TEXTS, XPATH_NOT_TEST_TEXTS);
+    }
+
+    /**
+     * Returns a selector with a text condition, which CSS cannot express.
+     *
+     * @return selector that stays XPath
+     */
+    public static ScXPath textSelector() {
+        return XPATH_TEXT_TEST_WHOLE_WORD_TEXTS;
+    }
+
+    public ScXPathSiblingTestRow xPathSiblingTestRow() {
+        return $component(XPATH_SIBLING_TEST_ROW, ScXPathSiblingTestRow.class);
+    }
+
     public ScGenericComponent xPathIdTestText() {
         return $genericComponent(XPATH_ID_TEST_TEXT);
     }
@@ -0,0 +1,52 @@
+package org.emw.selentic.regression.test;
+
+import org.emw.selentic.lib.ScPage;
+import org.emw.selentic.lib.ScWithPage;
+import org.emw.selentic.lib.Selentic;
+import org.emw.selentic.regression.page.ScUiComponentPage;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Regression test suite for animation acceleration. Uses the same animations as {@link ScUiComponentTest}, but with
+ * acceleration enabled, so waiting for animations to stop should take a fraction of their normal duration.
+ */
+public class ScAnimationAccelerationTest extends ScBaseTest {
+
+    /** Page object wrapper for the main UI component test page. */
+    private final ScWithPage<ScUiComponentPage> testPage = ScPage.with(ScUiComponentPage.class);
+
+    /**
+     * Enables animation acceleration before the browser starts, and navigates to the test page.
+     */
+    @BeforeClass
+    public void setup() {
+        Selentic.enableAnimationAcceleration();
+        Selentic.open("file://" + System.getProperty("user.dir") + "/build/resources/test/test_file/test.htm");
+    }
+
+    /**
+     * Performs cleanup by closing the browser session after test execution.
+     */
+    @AfterClass(alwaysRun = true)
+    public void finish() {
+        Selentic.quit();
+    }
+
+    /**
+     * Verifies that a 10-second animation, which times out without acceleration, completes almost immediately.
+     */
+    @Test
+    public void testAcceleratedAnimation() {
+        testPage.inPage(p -> {
+            final long start = System.currentTimeMillis();
+
+            p.animateLongButton().click();
+            p.animatedBox().exposedWaitForAnimation();
+
+            Assert.assertTrue(System.currentTimeMillis() - start < 1500);
+        });
+    }
+}
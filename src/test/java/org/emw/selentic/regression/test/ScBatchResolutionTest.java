@@ -0,0 +1,82 @@
+package org.emw.selentic.regression.test;
+
+import org.emw.selentic.lib.ScGenericComponent;
+import org.emw.selentic.lib.ScLink;
+import org.emw.selentic.lib.ScPage;
+import org.emw.selentic.lib.ScTextbox;
+import org.emw.selentic.lib.ScWithPage;
+import org.emw.selentic.lib.Selentic;
+import org.emw.selentic.regression.page.ScUiComponentPage;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Regression test suite for resolving several components with one script. Components must behave the same whether
+ * their element was resolved in the batch, replaced afterward, or did not exist when the batch was resolved.
+ */
+public class ScBatchResolutionTest extends ScBaseTest {
+
+    /** Page object wrapper for the main UI component test page. */
+    private final ScWithPage<ScUiComponentPage> testPage = ScPage.with(ScUiComponentPage.class);
+
+    /**
+     * Loads the test HTML file before any tests run.
+     */
+    @BeforeClass
+    public void setup() {
+        Selentic.open("file://" + System.getProperty("user.dir") + "/build/resources/test/test_file/test.htm");
+    }
+
+    /**
+     * Reloads the page after each test to ensure isolation.
+     */
+    @AfterMethod(alwaysRun = true)
+    public void reload() {
+        testPage.inPage(ScPage::reload);
+    }
+
+    /**
+     * Ensures the browser session is terminated after all tests in this class have executed.
+     */
+    @AfterClass(alwaysRun = true)
+    public void shutdown() {
+        Selentic.quit();
+    }
+
+    /**
+     * Verifies that resolved components can be read and updated.
+     */
+    @Test
+    public void testResolvedComponents() {
+        testPage.inPage(p -> {
+            final ScTextbox textbox = p.testTextbox();
+            final ScTextbox textarea = p.testTextarea();
+            final ScLink nonExistingLink = p.testNonExistingLink();
+
+            p.exposedResolveAll(textbox, textarea, nonExistingLink);
+
+            Assert.assertEquals(textbox.text(), "textbox text");
+            textbox.enterText("batch");
+            Assert.assertEquals(textbox.text(), "batch");
+            Assert.assertFalse(nonExistingLink.exists());
+        });
+    }
+
+    /**
+     * Verifies that a resolved component whose element was replaced finds the new element.
+     */
+    @Test
+    public void testReplacedComponent() {
+        testPage.inPage(p -> {
+            final ScGenericComponent indicator = p.testButtonIndicatorText();
+
+            p.exposedResolveAll(indicator, p.testButton());
+            Selentic.executeScript("document.getElementById('test-button-indicator').outerHTML = '<span id=\"test-button-indicator\">replaced</span>'");
+
+            Assert.assertEquals(indicator.text(), "replaced");
+        });
+    }
+}
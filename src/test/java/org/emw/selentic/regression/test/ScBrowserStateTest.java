@@ -0,0 +1,79 @@
+package org.emw.selentic.regression.test;
+
+import org.emw.selentic.lib.Selentic;
+import org.emw.selentic.lib.util.ScLogHandler;
+import org.emw.selentic.regression.util.ScTestFileServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Regression test suite for saving and restoring the logged-in state. The test page is served by a local HTTP server,
+ * since cookies are not supported for local files.
+ */
+public class ScBrowserStateTest extends ScBaseTest {
+
+    /** Local server for the test files. */
+    private ScTestFileServer server;
+
+    /**
+     * Starts the local server, and saves the state of a page with a cookie and storage items.
+     */
+    @BeforeClass
+    public void setup() throws IOException {
+        server = new ScTestFileServer();
+        Selentic.open(server.url("test.htm"));
+        Selentic.executeScript("""
+                document.cookie = 'session-id=abc123; path=/';
+                window.localStorage.setItem('token', 'local-token');
+                window.sessionStorage.setItem('tab', 'session-tab');
+                """);
+        Selentic.saveState("state-test-user");
+        Selentic.quit();
+    }
+
+    /**
+     * Closes the browser session and stops the local server.
+     */
+    @AfterClass(alwaysRun = true)
+    public void finish() {
+        try {
+            Selentic.quit();
+        } finally {
+            server.close();
+        }
+    }
+
+    /**
+     * Verifies that the saved state is restored into a new browser before navigation.
+     */
+    @Test(priority = 1)
+    public void testRestoreState() {
+        Assert.assertTrue(Selentic.restoreState("state-test-user"));
+        Selentic.open(server.url("test.htm"));
+
+        Assert.assertEquals(Selentic.executeScript("return document.cookie"), "session-id=abc123");
+        Assert.assertEquals(Selentic.executeScript("return window.localStorage.getItem('token')"), "local-token");
+        Assert.assertEquals(Selentic.executeScript("return window.sessionStorage.getItem('tab')"), "session-tab");
+    }
+
+    /**
+     * Verifies that the state is written under the log directory.
+     */
+    @Test(priority = 2)
+    public void testStateFile() {
+        Assert.assertTrue(new File(ScLogHandler.stateDirectory(), "state-test-user.json").isFile());
+    }
+
+    /**
+     * Verifies that restoring a state that has not been saved does nothing.
+     */
+    @Test(priority = 3)
+    public void testUnknownState() {
+        Assert.assertFalse(Selentic.restoreState("unknown-user"));
+    }
+}
@@ -1,6 +1,7 @@
 package org.emw.selentic.regression.test;
 
 import org.emw.selentic.lib.*;
+import org.emw.selentic.lib.selector.ScCssSelector;
 import org.emw.selentic.regression.page.ScCssSelectorTestPage;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
@@ -201,4 +202,34 @@ public class ScCssSelectorTest extends ScBaseTest {
             Assert.assertEquals(components.texts(), List.of("Main Data Grid", "Auxiliary Reference", "Between Elements"));
         });
     }
+
+    /**
+     * Verifies that equal selectors are equal, have the same hash code, and share one compiled form and locator.
+     */
+    @Test
+    public void testCssSelectorCompiled() {
+        final List<ScCssSelector> selectors = ScCssSelectorTestPage.equalSelectors();
+
+        Assert.assertNotSame(selectors.get(0), selectors.get(1));
+        Assert.assertEquals(selectors.get(0), selectors.get(1));
+        Assert.assertEquals(selectors.get(0).hashCode(), selectors.get(1).hashCode());
+        Assert.assertSame(selectors.get(0).compile(), selectors.get(1).compile());
+        Assert.assertSame(selectors.get(0).build(), selectors.get(0).build());
+    }
+
+    /**
+     * Verifies that selectors are split at their descendant and child steps, and that selectors built from the same
+     * prefix share the leading segments.
+     */
+    @Test
+    public void testCssSelectorSegments() {
+        final List<ScCssSelector> selectors = ScCssSelectorTestPage.prefixSharingSelectors();
+
+        for (ScCssSelector selector : selectors) {
+            Assert.assertEquals(String.join("", selector.segments()), selector.toString());
+        }
+        Assert.assertEquals(selectors.get(0).segments().size(), 3);
+        Assert.assertEquals(selectors.get(1).segments().size(), 4);
+        Assert.assertEquals(selectors.get(0).segments().subList(0, 2), selectors.get(1).segments().subList(0, 2));
+    }
 }
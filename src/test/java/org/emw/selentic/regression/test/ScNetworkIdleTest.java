@@ -0,0 +1,105 @@
+package org.emw.selentic.regression.test;
+
+import org.emw.selentic.lib.ScPage;
+import org.emw.selentic.lib.ScWithPage;
+import org.emw.selentic.lib.Selentic;
+import org.emw.selentic.regression.page.ScLongPollTestPage;
+import org.emw.selentic.regression.page.ScNetworkTestPage;
+import org.emw.selentic.regression.util.ScTestFileServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+
+/**
+ * Regression test suite for network-idle tracking. The test page is served by a local HTTP server with delayed
+ * endpoints, so that the page issues real network requests that take a known amount of time.
+ */
+public class ScNetworkIdleTest extends ScBaseTest {
+
+    /** Page object wrapper for the network test page. */
+    private final ScWithPage<ScNetworkTestPage> networkPage = ScPage.with(ScNetworkTestPage.class);
+
+    /** Page object wrapper for the long poll test page, with default readiness options. */
+    private final ScWithPage<ScLongPollTestPage> longPollPage = ScPage.with(ScLongPollTestPage.class);
+
+    /** Page object wrapper for the long poll test page, allowing one request in flight. */
+    private final ScWithPage<ScLongPollTestPage.ScPendingRequestsPage> pendingRequestsPage = ScPage.with(ScLongPollTestPage.ScPendingRequestsPage.class);
+
+    /** Local server for the test files. */
+    private ScTestFileServer server;
+
+    /**
+     * Starts the local server, launches the browser, and navigates to the network test page.
+     */
+    @BeforeClass
+    public void setup() throws IOException {
+        server = new ScTestFileServer();
+        Selentic.open(server.url("network-test.htm"));
+    }
+
+    /**
+     * Closes the browser session and stops the local server.
+     */
+    @AfterClass(alwaysRun = true)
+    public void finish() {
+        try {
+            Selentic.quit();
+        } finally {
+            server.close();
+        }
+    }
+
+    /**
+     * Verifies that entering a page waits for the request issued while the page loads, without waiting for any
+     * component explicitly.
+     */
+    @Test(priority = 1)
+    public void testPageReadinessWaitsForRequests() {
+        networkPage.inPage(p -> Assert.assertEquals(p.networkStatus().text(), "loaded"));
+    }
+
+    /**
+     * Verifies that {@link Selentic#waitForNetworkIdle(long, int)} waits for a request triggered by a user action.
+     */
+    @Test(priority = 2)
+    public void testWaitForNetworkIdle() {
+        networkPage.inPage(p -> {
+            final long start = System.currentTimeMillis();
+
+            p.delayedRequestButton().click();
+            Selentic.waitForNetworkIdle(100, 0);
+            Assert.assertTrue(System.currentTimeMillis() - start >= 1500);
+            Assert.assertEquals(p.networkStatus().text(), "clicked");
+        });
+    }
+
+    /**
+     * Verifies that a page with a request that never finishes can be entered with the default readiness options.
+     */
+    @Test(priority = 3)
+    public void testPageWithNeverEndingRequest() {
+        Selentic.open(server.url("long-poll-test.htm"));
+
+        final long start = System.currentTimeMillis();
+
+        longPollPage.inPage(p -> Assert.assertEquals(p.pollStatus().text(), "polling"));
+        Assert.assertTrue(System.currentTimeMillis() - start < 5000);
+    }
+
+    /**
+     * Verifies that a page waiting for pending requests can be entered while a request that never finishes is within
+     * the maximum number of in-flight requests.
+     */
+    @Test(priority = 4)
+    public void testPageWithNeverEndingRequestWithinMaxInFlight() {
+        Selentic.open(server.url("long-poll-test.htm"));
+
+        final long start = System.currentTimeMillis();
+
+        pendingRequestsPage.inPage(p -> Assert.assertEquals(p.pollStatus().text(), "polling"));
+        Assert.assertTrue(System.currentTimeMillis() - start < 5000);
+    }
+}
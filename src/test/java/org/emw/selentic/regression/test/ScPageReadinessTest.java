@@ -0,0 +1,62 @@
+package org.emw.selentic.regression.test;
+
+import org.emw.selentic.lib.ScPage;
+import org.emw.selentic.lib.ScWithPage;
+import org.emw.selentic.lib.Selentic;
+import org.emw.selentic.regression.page.ScAppReadyTestPage;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+/**
+ * Regression test suite for page readiness options. The test page sets its application ready flag some time after
+ * the document has finished loading.
+ */
+public class ScPageReadinessTest extends ScBaseTest {
+
+    /** Page object wrapper for the app ready test page. */
+    private final ScWithPage<ScAppReadyTestPage> appReadyPage = ScPage.with(ScAppReadyTestPage.class);
+
+    /**
+     * Launches a new browser for each test and navigates to the app ready test page.
+     */
+    @BeforeMethod
+    public void setup() {
+        baseSetup();
+        Selentic.open("file://" + System.getProperty("user.dir") + "/build/resources/test/test_file/app-ready-test.htm");
+    }
+
+    /**
+     * Closes the browser session after each test.
+     */
+    @AfterMethod(alwaysRun = true)
+    public void finish() {
+        Selentic.quit();
+    }
+
+    /**
+     * Verifies that entering a page with an app ready flag, and fonts disabled, waits until the flag is set.
+     */
+    @Test
+    public void testAppReadyFlag() {
+        appReadyPage.inPage(p -> {
+            Assert.assertEquals(Selentic.executeScript("return window.__appReady === true;"), true);
+            Assert.assertEquals(p.appStatus().text(), "ready");
+        });
+    }
+
+    /**
+     * Verifies that the script timeout of the session is restored after the readiness probe.
+     */
+    @Test
+    public void testScriptTimeoutRestored() {
+        final Duration scriptTimeout = Duration.ofMillis(500);
+
+        Selentic.driver().manage().timeouts().scriptTimeout(scriptTimeout);
+        appReadyPage.inPage(p -> Assert.assertEquals(p.appStatus().text(), "ready"));
+        Assert.assertEquals(Selentic.driver().manage().timeouts().getScriptTimeout(), scriptTimeout);
+    }
+}
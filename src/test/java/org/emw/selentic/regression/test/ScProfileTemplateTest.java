@@ -0,0 +1,101 @@
+package org.emw.selentic.regression.test;
+
+import org.apache.commons.io.FileUtils;
+import org.emw.selentic.lib.ScSession;
+import org.emw.selentic.lib.Selentic;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Regression test suite for profile templates. A template is created by a browser that stores a value in
+ * localStorage, and sessions started from the template see the value without sharing their changes.
+ */
+public class ScProfileTemplateTest extends ScBaseTest {
+    private static final String TEST_PAGE = "file://" + System.getProperty("user.dir") + "/build/resources/test/test_file/test.htm";
+
+    /** Profile template directory. */
+    private File template;
+
+    /**
+     * Creates the profile template with a browser that stores a value in localStorage.
+     *
+     * @throws IOException if the template directory cannot be created
+     */
+    @BeforeClass
+    public void setup() throws IOException {
+        final ScSession session = Selentic.newSession();
+
+        template = Files.createTempDirectory("selentic-template-").toFile();
+        session.run(() -> {
+            Selentic.enableHeadless();
+            Selentic.withChromeOptions((options, prefs) -> options.addArguments("--user-data-dir=" + template.getAbsolutePath()));
+            Selentic.open(TEST_PAGE);
+            Selentic.executeScript("window.localStorage.setItem('profile-template', 'warm');");
+        });
+        session.quit();
+    }
+
+    /**
+     * Deletes the profile template.
+     */
+    @AfterClass(alwaysRun = true)
+    public void finish() {
+        FileUtils.deleteQuietly(template);
+    }
+
+    /**
+     * Verifies that sessions start with the state of the template, and that changes in one session are not visible in
+     * another session or in sessions started later.
+     */
+    @Test
+    public void testProfileTemplate() {
+        final ScSession first = newSession();
+        final ScSession second = newSession();
+
+        try {
+            Assert.assertEquals(first.call(ScProfileTemplateTest::storedValue), "warm");
+            Assert.assertEquals(second.call(ScProfileTemplateTest::storedValue), "warm");
+
+            first.run(() -> Selentic.executeScript("window.localStorage.setItem('profile-template', 'changed');"));
+            Assert.assertEquals(first.call(ScProfileTemplateTest::storedValue), "changed");
+            Assert.assertEquals(second.call(ScProfileTemplateTest::storedValue), "warm");
+        } finally {
+            first.quit();
+            second.quit();
+        }
+
+        final ScSession third = newSession();
+
+        try {
+            Assert.assertEquals(third.call(ScProfileTemplateTest::storedValue), "warm");
+        } finally {
+            third.quit();
+        }
+    }
+
+    /**
+     * Creates a session that starts its browser from the template, and opens the test page.
+     *
+     * @return the session
+     */
+    private ScSession newSession() {
+        final ScSession session = Selentic.newSession();
+
+        session.run(() -> {
+            Selentic.enableHeadless();
+            Selentic.useProfileTemplate(template);
+            Selentic.open(TEST_PAGE);
+        });
+        return session;
+    }
+
+    private static String storedValue() {
+        return String.valueOf(Selentic.executeScript("return window.localStorage.getItem('profile-template');"));
+    }
+}
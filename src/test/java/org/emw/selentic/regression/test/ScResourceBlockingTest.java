@@ -0,0 +1,54 @@
+package org.emw.selentic.regression.test;
+
+import org.emw.selentic.lib.Selentic;
+import org.emw.selentic.regression.util.ScTestFileServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+
+/**
+ * Regression test suite for URL blocking. The test page is served by a local HTTP server and loads a script and an
+ * image from delayed endpoints, which hold up the page load unless they are blocked.
+ */
+public class ScResourceBlockingTest extends ScBaseTest {
+
+    /** Local server for the test files. */
+    private ScTestFileServer server;
+
+    /**
+     * Starts the local server, and blocks the delayed endpoints before the browser starts.
+     */
+    @BeforeClass
+    public void setup() throws IOException {
+        server = new ScTestFileServer();
+        Selentic.blockUrls("*/delay/*");
+    }
+
+    /**
+     * Closes the browser session and stops the local server.
+     */
+    @AfterClass(alwaysRun = true)
+    public void finish() {
+        try {
+            Selentic.quit();
+        } finally {
+            server.close();
+        }
+    }
+
+    /**
+     * Verifies that the page loads without waiting for the blocked script and image.
+     */
+    @Test
+    public void testBlockedResourcesDoNotDelayPageLoad() {
+        final long start = System.currentTimeMillis();
+
+        Selentic.open(server.url("blocking-test.htm"));
+
+        Assert.assertTrue(System.currentTimeMillis() - start < 2500);
+        Assert.assertEquals(Selentic.executeScript("return document.getElementById('blocking-status').textContent"), "script blocked");
+    }
+}
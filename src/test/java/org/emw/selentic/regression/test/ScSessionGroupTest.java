@@ -0,0 +1,72 @@
+package org.emw.selentic.regression.test;
+
+import org.emw.selentic.lib.ScSessionGroup;
+import org.emw.selentic.lib.Selentic;
+import org.emw.selentic.regression.page.ScUiComponentPage;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Regression test suite for several named sessions in one test, as used for multi-user scenarios.
+ */
+public class ScSessionGroupTest extends ScBaseTest {
+    private static final String TEST_PAGE = "file://" + System.getProperty("user.dir") + "/build/resources/test/test_file/test.htm";
+
+    /** Two users, each with their own browser. */
+    private ScSessionGroup users;
+
+    /**
+     * Creates the sessions, and opens the test page in both browsers at the same time.
+     */
+    @BeforeClass
+    public void setup() {
+        users = Selentic.sessions("alice", "bob");
+        users.parallel(user -> {
+            Selentic.enableHeadless();
+            Selentic.open(TEST_PAGE);
+        });
+    }
+
+    /**
+     * Quits both browsers.
+     */
+    @AfterClass(alwaysRun = true)
+    public void finish() {
+        users.close();
+    }
+
+    /**
+     * Verifies that each session has its own browser, and that the action knows which session it runs in.
+     */
+    @Test(priority = 1)
+    public void testSessionsHaveOwnBrowsers() {
+        final Map<String, String> windowHandles = new ConcurrentHashMap<>();
+
+        users.parallel(user -> windowHandles.put(user.name(), Selentic.driver().getWindowHandle()));
+
+        Assert.assertEquals(windowHandles.size(), 2);
+        Assert.assertNotSame(users.session("alice").driver(), users.session("bob").driver());
+    }
+
+    /**
+     * Verifies that pages obtained from a session are entered in that session.
+     */
+    @Test(priority = 2)
+    public void testSessionPages() {
+        users.session("alice").page(ScUiComponentPage.class).inPage(p -> Assert.assertSame(Selentic.driver(), users.session("alice").driver()));
+        users.session("bob").page(ScUiComponentPage.class).inPage(p -> Assert.assertSame(Selentic.driver(), users.session("bob").driver()));
+    }
+
+    /**
+     * Verifies that a failure in one session is reported after all sessions finish.
+     */
+    @Test(priority = 3)
+    public void testFailureIsReported() {
+        Assert.assertThrows(AssertionError.class, () -> users.parallel(user -> Assert.assertEquals(user.name(), "alice")));
+    }
+}
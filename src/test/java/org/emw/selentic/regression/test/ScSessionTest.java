@@ -0,0 +1,74 @@
+package org.emw.selentic.regression.test;
+
+import org.emw.selentic.lib.ScSession;
+import org.emw.selentic.lib.Selentic;
+import org.emw.selentic.regression.page.ScUiComponentPage;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Regression test suite for explicit session handles. The session is driven from virtual threads and
+ * {@code CompletableFuture} tasks, which do not own the session.
+ */
+public class ScSessionTest extends ScBaseTest {
+    private static final String TEST_PAGE = "file://" + System.getProperty("user.dir") + "/build/resources/test/test_file/test.htm";
+
+    /** Session shared by the steps of this test class. */
+    private ScSession session;
+
+    /**
+     * Creates a headless session that is not tied to the test thread.
+     */
+    @BeforeClass
+    public void setup() {
+        session = Selentic.newSession();
+        session.run(Selentic::enableHeadless);
+    }
+
+    /**
+     * Quits the session.
+     */
+    @AfterClass(alwaysRun = true)
+    public void finish() {
+        session.quit();
+    }
+
+    /**
+     * Verifies that steps on different virtual threads work on the same browser when the session is bound.
+     */
+    @Test(priority = 1)
+    public void testSessionOnVirtualThreads() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(session.bind(() -> Selentic.open(TEST_PAGE))).get();
+
+            final String url = executor.submit(() -> session.call(() -> Selentic.driver().getCurrentUrl())).get();
+
+            Assert.assertTrue(url.endsWith("test.htm"));
+        }
+    }
+
+    /**
+     * Verifies that a step passed to {@code CompletableFuture} works on the session.
+     */
+    @Test(priority = 2)
+    public void testSessionInCompletableFuture() throws Exception {
+        final String url = CompletableFuture.supplyAsync(session.bind(() -> Selentic.driver().getCurrentUrl())).get();
+
+        Assert.assertTrue(url.endsWith("test.htm"));
+    }
+
+    /**
+     * Verifies that a page obtained from the session is entered in the session, although the test thread has no
+     * session bound.
+     */
+    @Test(priority = 3)
+    public void testSessionPage() {
+        session.page(ScUiComponentPage.class).inPage(p -> Assert.assertTrue(Selentic.driver().getCurrentUrl().endsWith("test.htm")));
+    }
+}
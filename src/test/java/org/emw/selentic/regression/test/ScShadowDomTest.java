@@ -0,0 +1,99 @@
+package org.emw.selentic.regression.test;
+
+import org.emw.selentic.lib.ScPage;
+import org.emw.selentic.lib.ScWithPage;
+import org.emw.selentic.lib.Selentic;
+import org.emw.selentic.lib.selector.ScShadowRootBy;
+import org.emw.selentic.regression.page.ScShadowDomTestPage;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Regression test suite for selectors that cross shadow boundaries. The test page has custom elements with open shadow
+ * roots, nested two levels deep.
+ */
+public class ScShadowDomTest extends ScBaseTest {
+
+    /** Page object wrapper for the shadow DOM test page. */
+    private final ScWithPage<ScShadowDomTestPage> testPage = ScPage.with(ScShadowDomTestPage.class);
+
+    /**
+     * Opens the shadow DOM test page.
+     */
+    @BeforeClass
+    public void setup() {
+        Selentic.open("file://" + System.getProperty("user.dir") + "/build/resources/test/test_file/shadow-test.htm");
+    }
+
+    /**
+     * Reloads the page after each test to ensure isolation.
+     */
+    @AfterMethod(alwaysRun = true)
+    public void reload() {
+        testPage.inPage(ScPage::reload);
+    }
+
+    /**
+     * Ensures the browser session is terminated after all tests in this class have executed.
+     */
+    @AfterClass(alwaysRun = true)
+    public void shutdown() {
+        Selentic.quit();
+    }
+
+    /**
+     * Verifies that the selector text separates shadow boundaries, and is located with the shadow root locator.
+     */
+    @Test
+    public void testShadowSelectorText() {
+        Assert.assertEquals(ScShadowDomTestPage.firstCardTitleSelector().toString(), " ds-card#card-1 >>> .title");
+        Assert.assertTrue(ScShadowDomTestPage.firstCardTitleSelector().build() instanceof ScShadowRootBy);
+    }
+
+    /**
+     * Verifies that elements inside a shadow root are found from the page.
+     */
+    @Test
+    public void testShadowComponent() {
+        testPage.inPage(p -> Assert.assertEquals(p.firstCardTitleText().text(), "Card One"));
+    }
+
+    /**
+     * Verifies that elements two shadow boundaries deep can be used.
+     */
+    @Test
+    public void testNestedShadowComponent() {
+        testPage.inPage(p -> {
+            p.firstCardButton().click();
+
+            Assert.assertEquals(p.shadowStatus().text(), "Card One Button pressed");
+        });
+    }
+
+    /**
+     * Verifies that collections find the elements in the shadow roots of every host.
+     */
+    @Test
+    public void testShadowCollection() {
+        testPage.inPage(p -> Assert.assertEquals(p.cardTitleTexts().texts(), List.of("Card One", "Card Two")));
+    }
+
+    /**
+     * Verifies that a component can select elements inside its own shadow root.
+     */
+    @Test
+    public void testComponentShadowRoot() {
+        testPage.inPage(p -> {
+            Assert.assertEquals(p.cards().at(1).titleText().text(), "Card Two");
+
+            p.cards().at(1).button().click();
+
+            Assert.assertEquals(p.shadowStatus().text(), "Card Two Button pressed");
+        });
+    }
+}
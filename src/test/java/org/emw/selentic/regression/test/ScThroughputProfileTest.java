@@ -0,0 +1,58 @@
+package org.emw.selentic.regression.test;
+
+import org.emw.selentic.lib.ScPage;
+import org.emw.selentic.lib.ScWithPage;
+import org.emw.selentic.lib.Selentic;
+import org.emw.selentic.regression.page.ScUiComponentPage;
+import org.openqa.selenium.Dimension;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Regression test suite for the throughput browser profile. Latency with and without the profile is measured by
+ * {@link org.emw.selentic.benchmark.ScThroughputProfileBenchmark}.
+ */
+public class ScThroughputProfileTest extends ScBaseTest {
+
+    /** Page object wrapper for the UI component test page. */
+    private final ScWithPage<ScUiComponentPage> testPage = ScPage.with(ScUiComponentPage.class);
+
+    /**
+     * Applies the throughput profile and loads the test HTML file before any tests run.
+     */
+    @BeforeClass
+    public void setup() {
+        Selentic.enableThroughputProfile();
+        Selentic.open("file://" + System.getProperty("user.dir") + "/build/resources/test/test_file/test.htm");
+    }
+
+    /**
+     * Ensures the browser session is terminated after all tests in this class have executed.
+     */
+    @AfterClass(alwaysRun = true)
+    public void shutdown() {
+        Selentic.quit();
+    }
+
+    /**
+     * Verifies that the browser was started with the profile, which sets a fixed window size.
+     */
+    @Test
+    public void testProfileApplied() {
+        Assert.assertEquals(Selentic.driver().manage().window().getSize(), new Dimension(1280, 800));
+    }
+
+    /**
+     * Verifies that the page works the same with the profile.
+     */
+    @Test
+    public void testPageWorks() {
+        testPage.inPage(p -> {
+            Assert.assertEquals(p.testTextbox().text(), "textbox text");
+            p.testButton().click();
+            Assert.assertEquals(p.testButtonIndicatorText().text(), "Clicked!");
+        });
+    }
+}
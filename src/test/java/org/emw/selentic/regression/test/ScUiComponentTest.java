@@ -10,6 +10,7 @@ import org.emw.selentic.lib.util.ScLogHandler;
 import org.emw.selentic.lib.util.ScNullCheck;
 import org.emw.selentic.lib.util.ScWait;
 import org.emw.selentic.regression.component.ScAnimatedBox;
+import org.emw.selentic.regression.component.ScCountingButton;
 import org.emw.selentic.regression.component.ScLongListEntryComponent;
 import org.emw.selentic.regression.component.ScTestTableRow;
 import org.emw.selentic.regression.page.ScDragAndDropTestPage;
@@ -302,6 +303,25 @@ public class ScUiComponentTest extends ScBaseTest {
         });
     }
 
+    /**
+     * Tests that repeated accessor calls return the same child component, which finds its element again once the
+     * element is replaced.
+     */
+    @Test
+    public void testMemoizedChildComponents() {
+        testPage.inPage(p -> {
+            final ScTestTableRow row = p.testTableRows().at(0);
+            final ScGenericComponent productNameText = row.productNameText();
+
+            Assert.assertSame(row.productNameText(), productNameText);
+            Assert.assertEquals(productNameText.text(), "Test 1");
+
+            Selentic.executeScript("document.querySelector('#test-table tr.data td.product-name').outerHTML = '<td class=\"product-name\">Replaced 1</td>'");
+            Assert.assertEquals(productNameText.text(), "Replaced 1");
+            Assert.assertEquals(row.text(), "Replaced 1");
+        });
+    }
+
     /**
      * Tests frame switching and interactions inside the frame.
      */
@@ -324,6 +344,39 @@ public class ScUiComponentTest extends ScBaseTest {
         });
     }
 
+    /**
+     * Tests reading text inside the frame without switching to the frame.
+     */
+    @Test
+    public void testFrameText() {
+        testPage.inPage(p -> {
+            Assert.assertEquals(p.testExternalSerialNumberText(), "#EX-TDD987");
+            Assert.assertEquals(p.testTextbox().text(), "textbox text");
+            Assert.assertThrows(ScElementNotFoundException.class, p::testNonExistingFrameText);
+            Assert.assertEquals(p.testTextbox().text(), "textbox text");
+        });
+    }
+
+    /**
+     * Tests that text read inside the frame without switching matches the text read by switching to the frame, for a
+     * hidden element and for an element with non-breaking spaces.
+     */
+    @Test
+    public void testFrameTextMatchesSwitchedText() {
+        testPage.inPage(p -> {
+            final String[] switchedTexts = new String[2];
+
+            p.inTestInnerFrame(frameContent -> {
+                switchedTexts[0] = frameContent.testExternalHiddenText().text();
+                switchedTexts[1] = frameContent.testExternalSpacedText().text();
+            });
+            Assert.assertEquals(switchedTexts[0], "");
+            Assert.assertEquals(switchedTexts[1], "external spaced text");
+            Assert.assertEquals(p.testExternalHiddenText(), switchedTexts[0]);
+            Assert.assertEquals(p.testExternalSpacedText(), switchedTexts[1]);
+        });
+    }
+
     /**
      * Tests dialog behavior including opening, editing text, and closing.
      */
@@ -565,6 +618,115 @@ public class ScUiComponentTest extends ScBaseTest {
         });
     }
 
+    /**
+     * Tests that waitForAny() returns the first component, in the given order, that meets the condition, and throws
+     * if none of them does.
+     */
+    @Test
+    public void testWaitForAny() {
+        testPage.inPage(p -> {
+            final ScButton button = p.testButton();
+            final ScLink nonExistingLink = p.testNonExistingLink();
+
+            Assert.assertSame(p.exposedWaitForAny("ToBeDisplayed", nonExistingLink, button), button);
+            Assert.assertSame(p.exposedWaitForAny("ToNotExist", button, nonExistingLink), nonExistingLink);
+
+            final ScGenericComponent indicatorText = p.testButtonIndicatorText();
+
+            Selentic.executeScript("setTimeout(() => document.getElementById('test-button-indicator').textContent = 'Shown', 500)");
+            Assert.assertSame(p.exposedWaitForAny("ToBeDisplayed", nonExistingLink, indicatorText), indicatorText);
+            Assert.assertEquals(indicatorText.text(), "Shown");
+
+            try {
+                p.exposedWaitForAny("ToExist", nonExistingLink, p.testNonExistingLink());
+                fail("Should not get here because it should throw exception.");
+            } catch (ScComponentWaitException ex) {
+                // Expected.
+            }
+        });
+    }
+
+    /**
+     * Tests waitForAll() with the hidden, enabled, and disabled conditions, while the state changes after the wait
+     * has started.
+     */
+    @Test
+    public void testWaitForAllStates() {
+        testPage.inPage(p -> {
+            Selentic.executeScript("""
+                    setTimeout(() => {
+                        document.getElementById('test-button').disabled = true;
+                        document.getElementById('test-input-button').disabled = true;
+                    }, 500);
+                    """);
+            p.exposedWaitForAll("ToBeDisabled", p.testButton(), p.testInputButton());
+            Assert.assertFalse(p.testButton().isEnabled());
+            Assert.assertFalse(p.testInputButton().isEnabled());
+
+            Selentic.executeScript("setTimeout(() => document.getElementById('test-button').disabled = false, 500)");
+            p.exposedWaitForAll("ToBeEnabled", p.testButton());
+            Assert.assertTrue(p.testButton().isEnabled());
+
+            Selentic.executeScript("setTimeout(() => document.getElementById('test-button').style.display = 'none', 500)");
+            p.exposedWaitForAll("ToBeHidden", p.testButton(), p.testNonExistingLink());
+            Assert.assertTrue(p.testButton().exists());
+            Assert.assertFalse(p.testButton().isDisplayed());
+        });
+    }
+
+    /**
+     * Tests waitForAll() with the stop animating condition, which must wait until the animation has finished.
+     */
+    @Test
+    public void testWaitForAllToStopAnimating() {
+        testPage.inPage(p -> {
+            final long startTimestamp;
+
+            p.animateMoveButton().click();
+            startTimestamp = System.currentTimeMillis();
+            p.exposedWaitForAll("ToStopAnimating", p.animatedBox(), p.testButton());
+
+            Assert.assertTrue(System.currentTimeMillis() - startTimestamp > 1900);
+            Assert.assertFalse(p.animatedBox().isAnimating());
+        });
+    }
+
+    /**
+     * Tests that a component overriding isDisplayed() and isEnabled() is checked with its own methods instead of the
+     * component state probe.
+     */
+    @Test
+    public void testWaitForAllWithOverriddenState() {
+        testPage.inPage(p -> {
+            final ScCountingButton button = p.testCountingButton();
+
+            p.exposedWaitForAll("ToBeDisplayed", button, p.testInputButton());
+            Assert.assertTrue(button.stateChecks() > 0);
+
+            final int stateChecks = button.stateChecks();
+
+            p.exposedWaitForAll("ToBeEnabled", button);
+            Assert.assertTrue(button.stateChecks() > stateChecks);
+        });
+    }
+
+    /**
+     * Tests that a collection entry whose element has been removed is checked individually when the component state
+     * probe fails on the stale element.
+     */
+    @Test
+    public void testWaitForAllWithStaleElement() {
+        testPage.inPage(p -> {
+            final ScTestTableRow row = p.testTableRows().at(0);
+
+            Assert.assertTrue(row.isDisplayed());
+            Selentic.executeScript("document.querySelector('#test-table tr.data').remove()");
+
+            p.exposedWaitForAll("ToBeHidden", row, p.testNonExistingLink());
+            Assert.assertSame(p.exposedWaitForAny("ToNotExist", row, p.testButton()), row);
+        });
+    }
+
     /**
      * Tests JavaScript alert, confirm, and prompt dialogs including:
      * <ul>
@@ -0,0 +1,92 @@
+package org.emw.selentic.regression.test;
+
+import org.emw.selentic.lib.ScPage;
+import org.emw.selentic.lib.ScWithPage;
+import org.emw.selentic.lib.Selentic;
+import org.emw.selentic.regression.page.ScVirtualTimeTestPage;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Regression test suite for virtual time control. The test page starts a 5-second timer, which should be
+ * fast-forwarded without waiting in real time.
+ */
+public class ScVirtualTimeTest extends ScBaseTest {
+
+    /** Page object wrapper for the virtual time test page. */
+    private final ScWithPage<ScVirtualTimeTestPage> timerPage = ScPage.with(ScVirtualTimeTestPage.class);
+
+    /**
+     * Launches a new browser for each test, since virtual time stays in control of the browser once used.
+     */
+    @BeforeMethod
+    public void setup() {
+        baseSetup();
+        Selentic.open("file://" + System.getProperty("user.dir") + "/build/resources/test/test_file/virtual-time-test.htm");
+    }
+
+    /**
+     * Closes the browser session after each test.
+     */
+    @AfterMethod(alwaysRun = true)
+    public void finish() {
+        Selentic.quit();
+    }
+
+    /**
+     * Verifies that advancing virtual time runs the timer only once the full delay has passed.
+     */
+    @Test
+    public void testAdvanceVirtualTime() {
+        timerPage.inPage(p -> {
+            final long start = System.currentTimeMillis();
+
+            Selentic.pauseVirtualTime();
+            p.startTimerButton().click();
+
+            Selentic.advanceVirtualTime(4000);
+            Assert.assertEquals(p.timerStatus().text(), "started");
+
+            Selentic.advanceVirtualTime(1100);
+            Assert.assertEquals(p.timerStatus().text(), "finished");
+            Assert.assertTrue(System.currentTimeMillis() - start < 5000);
+        });
+    }
+
+    /**
+     * Verifies that running virtual time until idle runs the pending timer.
+     */
+    @Test
+    public void testRunVirtualTimeUntilIdle() {
+        timerPage.inPage(p -> {
+            final long start = System.currentTimeMillis();
+
+            Selentic.pauseVirtualTime();
+            p.startTimerButton().click();
+            Selentic.runVirtualTimeUntilIdle();
+
+            Assert.assertEquals(p.timerStatus().text(), "finished");
+            Assert.assertTrue(System.currentTimeMillis() - start < 5000);
+        });
+    }
+
+    /**
+     * Verifies that a page can be entered while virtual time is paused, since the readiness probe cannot rely on
+     * timers in the page then.
+     */
+    @Test
+    public void testEnterPageWithPausedVirtualTime() {
+        final long start = System.currentTimeMillis();
+
+        Selentic.pauseVirtualTime();
+        timerPage.inPage(p -> {
+            p.startTimerButton().click();
+            Selentic.advanceVirtualTime(5100);
+            Assert.assertEquals(p.timerStatus().text(), "finished");
+        });
+        timerPage.inPage(p -> Assert.assertEquals(p.timerStatus().text(), "finished"));
+        Assert.assertTrue(System.currentTimeMillis() - start < 5000);
+    }
+}
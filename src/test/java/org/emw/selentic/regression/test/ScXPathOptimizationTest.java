@@ -0,0 +1,84 @@
+package org.emw.selentic.regression.test;
+
+import org.emw.selentic.lib.ScPage;
+import org.emw.selentic.lib.ScWithPage;
+import org.emw.selentic.lib.Selentic;
+import org.emw.selentic.lib.selector.ScCompiledSelector;
+import org.emw.selentic.lib.selector.ScSelectorPropertyType;
+import org.emw.selentic.lib.selector.ScXPath;
+import org.emw.selentic.regression.component.ScXPathSiblingTestRow;
+import org.emw.selentic.regression.page.ScXPathTestPage;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Regression test suite for rewriting XPath as CSS selectors. Selectors that CSS can express must find the same
+ * elements as the XPath. The lookup latency of both forms is measured by
+ * {@link org.emw.selentic.benchmark.ScXPathOptimizationBenchmark}.
+ */
+public class ScXPathOptimizationTest extends ScBaseTest {
+
+    /** Page object wrapper for the XPath test page. */
+    private final ScWithPage<ScXPathTestPage> xPathTestPage = ScPage.with(ScXPathTestPage.class);
+
+    /**
+     * Opens the selector test page.
+     */
+    @BeforeClass
+    public void setup() {
+        Selentic.open("file://" + System.getProperty("user.dir") + "/build/resources/test/test_file/selector-test.htm");
+    }
+
+    /**
+     * Ensures the browser session is terminated after all tests in this class have executed.
+     */
+    @AfterClass(alwaysRun = true)
+    public void shutdown() {
+        Selentic.quit();
+    }
+
+    /**
+     * Verifies that CSS-expressible XPath is compiled as CSS selector and finds the same elements.
+     */
+    @Test
+    public void testCssEquivalentSelectors() {
+        for (ScXPath selector : ScXPathTestPage.cssEquivalentSelectors()) {
+            final ScCompiledSelector compiled = selector.compile();
+            final By xpath = By.xpath("." + selector);
+
+            Assert.assertEquals(compiled.type(), ScSelectorPropertyType.Types.CssSelector, selector.toString());
+            Assert.assertEquals(Selentic.driver().findElements(compiled.by()), Selentic.driver().findElements(xpath), selector.toString());
+        }
+    }
+
+    /**
+     * Verifies that a component-relative chain that starts with a sibling stays XPath and finds the siblings of the
+     * component, while a component-relative child chain is rewritten as CSS selector and finds the same elements.
+     */
+    @Test
+    public void testComponentRelativeSelectors() {
+        final ScXPath siblingSelector = ScXPathSiblingTestRow.relativeSelectors().get(0);
+        final ScXPath childSelector = ScXPathSiblingTestRow.relativeSelectors().get(1);
+
+        Assert.assertEquals(siblingSelector.compile().type(), ScSelectorPropertyType.Types.XPath);
+        Assert.assertEquals(childSelector.compile().type(), ScSelectorPropertyType.Types.CssSelector);
+        xPathTestPage.inPage(p -> {
+            final ScXPathSiblingTestRow row = p.xPathSiblingTestRow();
+
+            Assert.assertEquals(row.siblingRows().size(), 6);
+            Assert.assertFalse(row.cells().isEmpty());
+            Assert.assertEquals(row.cells().size(), Selentic.driver().findElements(By.xpath("//*[@id='outer-table-1']/tbody/tr[6]/td")).size());
+        });
+    }
+
+    /**
+     * Verifies that XPath with a text condition stays XPath.
+     */
+    @Test
+    public void testTextSelectorStaysXPath() {
+        Assert.assertEquals(ScXPathTestPage.textSelector().compile().type(), ScSelectorPropertyType.Types.XPath);
+    }
+}
@@ -0,0 +1,89 @@
+package org.emw.selentic.regression.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local HTTP server that serves the {@code test_file} fixtures, for tests that need real network requests.
+ * <p>
+ * In addition to the fixture files, {@code /delay/{milliseconds}?text={text}} responds with the given text after the
+ * given delay, which makes it possible to simulate slow back-end calls.
+ */
+public class ScTestFileServer implements AutoCloseable {
+    private static final Path TEST_FILE_DIRECTORY = Path.of(System.getProperty("user.dir"), "build", "resources", "test", "test_file");
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Starts the server on a free local port.
+     *
+     * @throws IOException if the server cannot be started
+     */
+    public ScTestFileServer() throws IOException {
+        // Bound to the loopback address, so that the server is reachable both as localhost and as 127.0.0.1.
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/delay/", this::handleDelay);
+        this.server.createContext("/", this::handleFile);
+        this.executor = Executors.newCachedThreadPool();
+        this.server.setExecutor(this.executor);
+        this.server.start();
+    }
+
+    /**
+     * Returns the URL for the path on this server.
+     *
+     * @param path path, e.g. "network-test.htm"
+     * @return URL
+     */
+    public String url(String path) {
+        return "http://localhost:" + this.server.getAddress().getPort() + "/" + path;
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+        // Interrupts delayed responses that are still pending, such as requests the page never waits for.
+        this.executor.shutdownNow();
+    }
+
+    private void handleDelay(HttpExchange exchange) throws IOException {
+        final String delay = exchange.getRequestURI().getPath().substring("/delay/".length());
+        final String query = exchange.getRequestURI().getQuery();
+        final String text = query != null && query.startsWith("text=") ? query.substring("text=".length()) : "";
+
+        try {
+            Thread.sleep(Long.parseLong(delay));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        respond(exchange, 200, "text/plain", text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void handleFile(HttpExchange exchange) throws IOException {
+        final Path file = TEST_FILE_DIRECTORY.resolve(exchange.getRequestURI().getPath().substring(1)).normalize();
+
+        if (file.startsWith(TEST_FILE_DIRECTORY) && Files.isRegularFile(file)) {
+            respond(exchange, 200, file.toString().endsWith(".htm") ? "text/html" : "application/octet-stream", Files.readAllBytes(file));
+        } else {
+            respond(exchange, 404, "text/plain", new byte[0]);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}